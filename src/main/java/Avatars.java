@@ -0,0 +1,35 @@
+import javafx.scene.image.Image;
+
+/**
+ * Holds the avatar images, each loaded only when first needed and then shared.
+ */
+public class Avatars {
+    private static final String USER_IMAGE_PATH = "/images/Meme Orang Disguise.png";
+    private static final String SURREAL_IMAGE_PATH = "/images/Meme Man.png";
+
+    private static class UserImageHolder {
+        private static final Image IMAGE = new Image(Avatars.class.getResourceAsStream(USER_IMAGE_PATH));
+    }
+
+    private static class SurrealImageHolder {
+        private static final Image IMAGE = new Image(Avatars.class.getResourceAsStream(SURREAL_IMAGE_PATH));
+    }
+
+    /**
+     * Obtains the user avatar.
+     *
+     * @return User avatar.
+     */
+    public static Image getUserImage() {
+        return UserImageHolder.IMAGE;
+    }
+
+    /**
+     * Obtains Meme Man's avatar.
+     *
+     * @return Meme Man's avatar.
+     */
+    public static Image getSurrealImage() {
+        return SurrealImageHolder.IMAGE;
+    }
+}
@@ -0,0 +1,45 @@
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import surrealchat.chat.ChatMessage;
+
+/**
+ * List cell that renders a chat message as a dialog box.
+ * Each cell keeps one dialog box per speaker and only swaps their text when the cell is reused.
+ */
+public class ChatMessageCell extends ListCell<ChatMessage> {
+    private DialogBox userDialog;
+    private DialogBox surrealDialog;
+
+    /**
+     * Creates new ChatMessageCell object.
+     */
+    public ChatMessageCell() {
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+    }
+
+    private DialogBox getDialogFor(ChatMessage message) {
+        if (message.getSpeaker() == ChatMessage.Speaker.USER) {
+            if (userDialog == null) {
+                userDialog = DialogBox.getUserDialog(message.getText(), Avatars.getUserImage());
+            }
+            return userDialog;
+        } else {
+            if (surrealDialog == null) {
+                surrealDialog = DialogBox.getSurrealDialog(message.getText(), Avatars.getSurrealImage());
+            }
+            return surrealDialog;
+        }
+    }
+
+    @Override
+    protected void updateItem(ChatMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        DialogBox dialogBox = getDialogFor(message);
+        dialogBox.setText(message.getText());
+        setGraphic(dialogBox);
+    }
+}
@@ -1,50 +1,54 @@
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
 /**
- * An example of a custom control using FXML.
- * This control represents a dialog box consisting of an ImageView to represent the speaker's face and a label
+ * A custom control representing a dialog box consisting of an ImageView to represent the speaker's face and a label
  * containing text from the speaker.
+ * The layout is built in code rather than parsed from FXML, so creating a dialog box per message stays cheap.
  */
 public class DialogBox extends HBox {
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+    private static final double PREF_WIDTH = 339.0;
+    private static final double PREF_HEIGHT = 111.0;
+    private static final double PICTURE_FIT_WIDTH = 78.0;
+    private static final double PICTURE_FIT_HEIGHT = 81.0;
+    private static final Insets PADDING = new Insets(15.0, 5.0, 15.0, 5.0);
 
-    private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    private final Label dialog;
+    private final ImageView displayPicture;
 
-        dialog.setText(text);
-        displayPicture.setImage(img);
+    private DialogBox(String text, Image img, boolean isPictureOnLeft) {
+        dialog = new Label(text);
+        dialog.setWrapText(true);
+
+        displayPicture = new ImageView(img);
+        displayPicture.setFitWidth(PICTURE_FIT_WIDTH);
+        displayPicture.setFitHeight(PICTURE_FIT_HEIGHT);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
+
+        setPrefSize(PREF_WIDTH, PREF_HEIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPadding(PADDING);
+        if (isPictureOnLeft) {
+            getChildren().addAll(displayPicture, dialog);
+            setAlignment(Pos.TOP_LEFT);
+        } else {
+            getChildren().addAll(dialog, displayPicture);
+            setAlignment(Pos.TOP_RIGHT);
+        }
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Replaces the text shown in the dialog box, allowing the box to be reused for another message.
+     *
+     * @param text New text to be shown.
      */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
+    public void setText(String text) {
+        dialog.setText(text);
     }
 
     /**
@@ -55,19 +59,18 @@ public class DialogBox extends HBox {
      * @return DialogBox with user input as text and user avatar.
      */
     public static DialogBox getUserDialog(String text, Image img) {
-        return new DialogBox(text, img);
+        return new DialogBox(text, img, false);
     }
 
     /**
      * Creates DialogBox from what Meme Man says.
+     * The ImageView is placed on the left and text on the right.
      *
      * @param text Meme Man's words.
      * @param img Meme Man's avatar.
      * @return DialogBox with Meme Man's words as text and Meme Man's avatar.
      */
     public static DialogBox getSurrealDialog(String text, Image img) {
-        var db = new DialogBox(text, img);
-        db.flip();
-        return db;
+        return new DialogBox(text, img, true);
     }
 }
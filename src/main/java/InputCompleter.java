@@ -0,0 +1,119 @@
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.application.Platform;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import surrealchat.completion.Completion;
+import surrealchat.completion.CompletionIndex;
+import surrealchat.task.Task;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Suggests completions above a text field as the user types, which are picked by clicking them or pressing Tab.
+ * Completions are worked out on a thread of their own, so typing never waits for them. Suggestions that arrive
+ * after the text has changed again are dropped.
+ */
+public class InputCompleter {
+    private final TextField textField;
+    private final ContextMenu suggestionMenu = new ContextMenu();
+    private final ExecutorService completionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "surrealchat-completion");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private TaskManagement boundTaskManagement;
+    private CompletionIndex completionIndex; //Only used on the completion thread once bound
+    private List<Completion> completions = List.of();
+
+    /**
+     * Creates new InputCompleter object for a text field.
+     *
+     * @param textField Text field to suggest completions for.
+     */
+    public InputCompleter(TextField textField) {
+        this.textField = textField;
+        textField.textProperty().addListener((observable, oldText, newText) -> requestCompletions(newText));
+        textField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && !completions.isEmpty()) {
+                accept(completions.get(0));
+                event.consume();
+            } else if (event.getCode() == KeyCode.ESCAPE) {
+                hideSuggestions();
+            }
+        });
+    }
+
+    /**
+     * Suggests command words and the task numbers and description words of a task list, replacing any list before.
+     * Must be called on the JavaFX application thread, which should be the thread that changes tasks.
+     *
+     * @param taskManagement TaskManagement object to suggest from.
+     * @param commands Command words to suggest.
+     */
+    public void bind(TaskManagement taskManagement, Collection<String> commands) {
+        if (taskManagement == boundTaskManagement) {
+            return;
+        }
+        if (boundTaskManagement != null) {
+            boundTaskManagement.removeChangeListener(completionIndex);
+        }
+        boundTaskManagement = taskManagement;
+        CompletionIndex newIndex = new CompletionIndex(commands, taskManagement);
+        completionIndex = newIndex;
+        List<Task> snapshot = taskManagement.getTaskList();
+        //Changes are only delivered after the words already there have been added
+        completionExecutor.execute(() -> newIndex.addTasks(snapshot));
+        taskManagement.addChangeListener(newIndex, completionExecutor);
+    }
+
+    private void requestCompletions(String text) {
+        CompletionIndex index = completionIndex;
+        if (index == null || text.isEmpty()) {
+            hideSuggestions();
+            return;
+        }
+        CompletableFuture.supplyAsync(() -> index.complete(text, CompletionIndex.DEFAULT_LIMIT), completionExecutor)
+                .thenAccept(newCompletions -> Platform.runLater(() -> {
+                    if (text.equals(textField.getText())) {
+                        showSuggestions(newCompletions);
+                    }
+                }));
+    }
+
+    private void showSuggestions(List<Completion> newCompletions) {
+        completions = newCompletions;
+        if (newCompletions.isEmpty()) {
+            suggestionMenu.hide();
+            return;
+        }
+        suggestionMenu.getItems().clear();
+        for (Completion completion : newCompletions) {
+            MenuItem item = new MenuItem(completion.getLabel());
+            item.setMnemonicParsing(false);
+            item.setOnAction(event -> accept(completion));
+            suggestionMenu.getItems().add(item);
+        }
+        if (!suggestionMenu.isShowing() && textField.getScene() != null) {
+            suggestionMenu.show(textField, Side.TOP, 0, 0);
+        }
+    }
+
+    private void hideSuggestions() {
+        completions = List.of();
+        suggestionMenu.hide();
+    }
+
+    private void accept(Completion completion) {
+        hideSuggestions();
+        textField.setText(completion.getText());
+        textField.positionCaret(completion.getText().length());
+    }
+}
@@ -1,10 +1,29 @@
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
  * A launcher class to workaround classpath issues.
+ * Starts the headless command line interface or server instead of the GUI if the first argument is --cli or
+ * --server respectively.
  */
 public class Launcher {
+    /**
+     * Launches SurrealChat.
+     *
+     * @param args Command line arguments. Use --cli or --server to run without the GUI.
+     */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(SurrealCli.CLI_FLAG)) {
+            SurrealCli.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals(SurrealServerMode.SERVER_FLAG)) {
+            SurrealServerMode.main(Arrays.copyOfRange(args, 1, args.length));
+        } else {
+            launchGui(args);
+        }
+    }
+
+    private static void launchGui(String[] args) {
         Application.launch(Main.class, args);
     }
 }
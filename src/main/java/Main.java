@@ -1,20 +1,28 @@
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
+import surrealchat.metrics.MetricsPublisher;
 
 /**
  * A GUI for Duke using FXML.
+ * Only the window is built before the first frame. Tasks, metrics and the window icon are loaded afterwards.
  */
 public class Main extends Application {
+    private static final String STARTUP_TRACE_PROPERTY = "surrealchat.startup.trace";
+    private static final String EXIT_AFTER_LOAD_PROPERTY = "surrealchat.startup.exitAfterLoad";
+    private static final long FIRST_FRAME_TARGET_MILLIS = 500;
 
-    private SurrealChat surrealChat = SurrealChat.initSurrealChat(new File(SurrealChat.TASK_FILE_PATH));
-    private Image surrealIcon = new Image(getClass().getResourceAsStream("/images/Meme Man.png"));
+    private MetricsPublisher metricsPublisher;
+    private MainWindow mainWindow;
 
     /**
      * Starts up the application.
@@ -28,12 +36,66 @@ public class Main extends Application {
             AnchorPane ap = fxmlLoader.load();
             Scene scene = new Scene(ap);
             stage.setTitle("SurrealChat");
-            stage.getIcons().add(surrealIcon);
             stage.setScene(scene);
-            fxmlLoader.<MainWindow>getController().setSurreal(surrealChat);
+            mainWindow = fxmlLoader.<MainWindow>getController();
             stage.show();
+            runAfterFirstFrame(() -> {
+                traceStartup();
+                stage.getIcons().add(Avatars.getSurrealImage());
+                loadInBackground(mainWindow);
+            });
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
+
+    private void runAfterFirstFrame(Runnable task) {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                Platform.runLater(task);
+            }
+        }.start();
+    }
+
+    private void traceStartup() {
+        if (!Boolean.getBoolean(STARTUP_TRACE_PROPERTY)) {
+            return;
+        }
+        ProcessHandle.current().info().startInstant().ifPresent(startInstant -> {
+            long firstFrameMillis = Duration.between(startInstant, Instant.now()).toMillis();
+            System.err.printf("Time to first frame: %d ms (target: %d ms)\n", firstFrameMillis,
+                    FIRST_FRAME_TARGET_MILLIS);
+        });
+    }
+
+    private void loadInBackground(MainWindow mainWindow) {
+        Thread loader = new Thread(() -> {
+            SurrealChat surrealChat = SurrealChat.initSurrealChat(new File(SurrealChat.TASK_FILE_PATH));
+            MetricsPublisher publisher = MetricsPublisher.start(surrealChat.getMetrics());
+            Platform.runLater(() -> {
+                metricsPublisher = publisher;
+                mainWindow.setSurreal(surrealChat);
+                if (Boolean.getBoolean(EXIT_AFTER_LOAD_PROPERTY)) { //Used by training runs for the AppCDS archive
+                    Platform.exit();
+                }
+            });
+        }, "surrealchat-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Stops publishing metrics and writes out the chat transcript when the application closes.
+     */
+    @Override
+    public void stop() {
+        if (metricsPublisher != null) {
+            metricsPublisher.close();
+        }
+        if (mainWindow != null) {
+            mainWindow.close();
+        }
+    }
 }
@@ -1,38 +1,61 @@
+import java.io.File;
+import java.time.LocalDateTime;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import surrealchat.chat.ChatHistory;
+import surrealchat.chat.ChatMessage;
+import surrealchat.task.TaskCounters;
 
 /**
  * Controller for MainWindow. Provides the layout for the other controls.
+ * The chat is on the left, and a table of the tasks in the current workspace is on the right.
  */
 public class MainWindow extends AnchorPane {
+    private static final String HISTORY_CAPACITY_PROPERTY = "surrealchat.history.capacity";
+    private static final String TRANSCRIPT_FILE_PATH = "transcript.txt";
+    private static final double CELL_WIDTH_MARGIN = 20.0;
+    private static final String TITLE = "SurrealChat";
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<ChatMessage> dialogList;
     @FXML
     private TextField textField;
     @FXML
     private Button sendButton;
+    @FXML
+    private StackPane taskPanel;
 
     private SurrealChat surrealChat;
 
-    private Image userImage = new Image(getClass().getResourceAsStream("/images/Meme Orang Disguise.png"));
-    private Image surrealImage = new Image(getClass().getResourceAsStream("/images/Meme Man.png"));
+    private final ChatHistory chatHistory = new ChatHistory(
+            Integer.getInteger(HISTORY_CAPACITY_PROPERTY, ChatHistory.DEFAULT_CAPACITY),
+            new File(TRANSCRIPT_FILE_PATH));
+    private final ObservableList<ChatMessage> displayedMessages = FXCollections.observableArrayList();
+    private final TaskTableView taskTable = new TaskTableView();
+    private InputCompleter inputCompleter;
 
     /**
-     * Initialises the dialog box.
+     * Initialises the dialog list, the task table and completion of user input.
      */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
-        dialogContainer.getChildren().addAll(
-                DialogBox.getSurrealDialog(initialGreeting(), surrealImage)
-        );
+        dialogList.setItems(displayedMessages);
+        dialogList.setCellFactory(listView -> {
+            ChatMessageCell cell = new ChatMessageCell();
+            cell.prefWidthProperty().bind(listView.widthProperty().subtract(CELL_WIDTH_MARGIN));
+            return cell;
+        });
+        showMessage(new ChatMessage(ChatMessage.Speaker.SURREAL, initialGreeting()));
+        taskPanel.getChildren().add(taskTable);
+        inputCompleter = new InputCompleter(textField);
     }
 
     private String initialGreeting() {
@@ -41,27 +64,74 @@ public class MainWindow extends AnchorPane {
     }
 
     /**
-     * Sets the SurrealChat object to property.
+     * Sets the SurrealChat object to property and lets the user start typing.
      *
      * @param surrealChat The SurrealChat object containining internal logic.
      */
     public void setSurreal(SurrealChat surrealChat) {
         this.surrealChat = surrealChat;
+        bindCurrentWorkspace();
+        textField.setDisable(false);
+        sendButton.setDisable(false);
+        textField.requestFocus();
+    }
+
+    private void bindCurrentWorkspace() {
+        taskTable.bind(surrealChat.getTaskManagement());
+        inputCompleter.bind(surrealChat.getTaskManagement(), SurrealChat.getCommandNames());
+        updateTitle();
+    }
+
+    /**
+     * Shows how many tasks are undone, overdue and due this week in the title bar, from the running counts.
+     */
+    private void updateTitle() {
+        if (textField.getScene() == null || !(textField.getScene().getWindow() instanceof Stage)) {
+            return;
+        }
+        TaskCounters taskCounters = surrealChat.getTaskManagement().getTaskCounters();
+        LocalDateTime now = LocalDateTime.now();
+        int overdueCount = taskCounters.getDueDateCounters().getOverdueCount(now);
+        int dueThisWeekCount = taskCounters.getDueDateCounters().getDueInWeekCount(now.toLocalDate(), null);
+        String title = String.format("%s | %d undone, %d overdue, %d due this week", TITLE,
+                taskCounters.getUndoneCount(), overdueCount, dueThisWeekCount);
+        Stage stage = (Stage) textField.getScene().getWindow();
+        stage.setTitle(title);
+    }
+
+    /**
+     * Writes out the rest of the chat transcript. Called when the application closes.
+     */
+    public void close() {
+        chatHistory.close();
+    }
+
+    private void showMessage(ChatMessage message) {
+        //Keep the displayed list in step with the bounded history
+        if (chatHistory.append(message) != null) {
+            displayedMessages.remove(0);
+        }
+        displayedMessages.add(message);
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Duke's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Creates two messages, one echoing user input and the other containing Duke's reply and then appends them to
+     * the dialog list. Clears the user input after processing.
      */
     @FXML
     private void handleUserInput() {
+        if (surrealChat == null) { //Tasks are still loading
+            return;
+        }
         String input = textField.getText();
         String response = surrealChat.commandLogic(input);
         response += surrealChat.saveFile();
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getSurrealDialog(response, surrealImage)
-        );
+        long renderStart = System.nanoTime();
+        showMessage(new ChatMessage(ChatMessage.Speaker.USER, input));
+        showMessage(new ChatMessage(ChatMessage.Speaker.SURREAL, response));
+        dialogList.scrollTo(displayedMessages.size() - 1);
+        bindCurrentWorkspace(); //Follows the use command to another workspace
+        surrealChat.recordRenderTime(input, System.nanoTime() - renderStart);
         textField.clear();
     }
 }
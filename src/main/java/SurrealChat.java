@@ -1,45 +1,77 @@
 import java.io.File;
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.InputMismatchException;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import surrealchat.command.ArchiveCommand;
 import surrealchat.command.Command;
+import surrealchat.command.ConflictsCommand;
 import surrealchat.command.DeadlineCommand;
 import surrealchat.command.DeleteCommand;
 import surrealchat.command.DoneCommand;
 import surrealchat.command.EditCommand;
+import surrealchat.command.EffortCommand;
 import surrealchat.command.EventCommand;
+import surrealchat.command.ExportCommand;
 import surrealchat.command.FindCommand;
+import surrealchat.command.ImportCommand;
+import surrealchat.command.LinkCommand;
 import surrealchat.command.ListCommand;
+import surrealchat.command.PlanCommand;
+import surrealchat.command.RecurringCommand;
+import surrealchat.command.ScheduleCommand;
 import surrealchat.command.ScronchCommand;
 import surrealchat.command.SortCommand;
+import surrealchat.command.StatsCommand;
+import surrealchat.command.SummaryCommand;
 import surrealchat.command.ToDoCommand;
+import surrealchat.command.UnlinkCommand;
+import surrealchat.command.UpcomingCommand;
+import surrealchat.command.UseCommand;
 import surrealchat.easteregg.EasterEgg;
 import surrealchat.easteregg.HandEasterEgg;
 import surrealchat.easteregg.OrangEasterEgg;
 import surrealchat.easteregg.VegetalEasterEgg;
-import surrealchat.file.FileManagement;
+import surrealchat.file.ArchiveFile;
 import surrealchat.help.HelpMode;
-import surrealchat.task.Task;
+import surrealchat.metrics.CommandExecutionEvent;
+import surrealchat.metrics.CommandMetrics;
+import surrealchat.metrics.SurrealChatMetrics;
 import surrealchat.task.TaskManagement;
+import surrealchat.workspace.WorkspaceManager;
 
 /**
  * Handles logic of SurrealChat.
+ * Commands that only read tasks may run concurrently, while commands that change tasks run one at a time.
+ * Changes made by one command reach task change listeners as one batch.
  */
 public class SurrealChat {
     protected static final String TASK_FILE_PATH = "tasks.txt";
-    protected final TaskManagement taskManagement;
-    protected final FileManagement fileManagement;
+    private static final String MAX_RESIDENT_PROPERTY = "surrealchat.workspaces.resident";
+    private static final String UNKNOWN_COMMAND = "unknown";
+    private static final String ARCHIVE_FLAG = "--archive";
+    private static final String READY_FLAG = "--ready";
+    private static final Set<String> COMMANDS = Set.of(
+            "help", "list", "todo", "deadline", "event", "recurring", "edit", "done", "delete", "scronch", "find",
+            "sort", "upcoming", "archive", "import", "export", "use", "stats", "link", "unlink", "plan", "effort",
+            "schedule", "conflicts", "summary", "orang", "vegetal", "icandoit", "aikendueet");
+    private static final Set<String> READ_ONLY_COMMANDS = Set.of(
+            "help", "list", "find", "upcoming", "export", "stats", "plan", "schedule", "conflicts",
+            "summary", "orang", "vegetal", "icandoit", "aikendueet");
+    protected final WorkspaceManager workspaceManager;
     protected final String fileLoadOutput;
+    private final ReadWriteLock taskLock = new ReentrantReadWriteLock();
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final SurrealChatMetrics metrics;
+    private final ThreadLocal<String> lastCommand = ThreadLocal.withInitial(() -> UNKNOWN_COMMAND);
 
-    private SurrealChat(TaskManagement taskManagement,
-                        FileManagement fileManagement) {
-        assert taskManagement != null : "Null taskManagement! Not stonks!\n";
-        assert fileManagement != null : "Null fileManagement! Not stonks!\n";
-        this.taskManagement = taskManagement;
-        this.fileManagement = fileManagement;
-        fileLoadOutput = loadFile();
+    private SurrealChat(WorkspaceManager workspaceManager) {
+        assert workspaceManager != null : "Null workspaceManager! Not stonks!\n";
+        this.workspaceManager = workspaceManager;
+        this.metrics = new SurrealChatMetrics(workspaceManager::getCurrentWorkspace, commandMetrics);
+        fileLoadOutput = workspaceManager.getLastLoadOutput();
     }
 
     /**
@@ -50,13 +82,53 @@ public class SurrealChat {
      */
     public static SurrealChat initSurrealChat(File filePath) {
         assert filePath != null : "Null filePath. File path needed for save/load. Not stonks!\n";
-        TaskManagement taskManagement = new TaskManagement(new ArrayList<Task>());
-        FileManagement fileManagement = new FileManagement(filePath);
-        return new SurrealChat(taskManagement, fileManagement);
+        int maxResident = Integer.getInteger(MAX_RESIDENT_PROPERTY, WorkspaceManager.DEFAULT_MAX_RESIDENT);
+        WorkspaceManager workspaceManager = new WorkspaceManager(filePath, maxResident);
+        return new SurrealChat(workspaceManager);
+    }
+
+    /**
+     * Obtains the words of every command.
+     *
+     * @return Set of command words.
+     */
+    public static Set<String> getCommandNames() {
+        return COMMANDS;
+    }
+
+    /**
+     * Obtains the tasks of the workspace currently in use.
+     *
+     * @return TaskManagement object of current workspace.
+     */
+    public TaskManagement getTaskManagement() {
+        return workspaceManager.getCurrentWorkspace().getTaskManagement();
+    }
+
+    private ArchiveFile getArchiveFile() {
+        return workspaceManager.getCurrentWorkspace().getArchiveFile();
+    }
+
+    /**
+     * Obtains the latencies recorded for each command.
+     *
+     * @return CommandMetrics object of this SurrealChat.
+     */
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    /**
+     * Obtains the metrics of this SurrealChat for publishing.
+     *
+     * @return SurrealChatMetrics object of this SurrealChat.
+     */
+    public SurrealChatMetrics getMetrics() {
+        return metrics;
     }
 
     private String[] splitString(String inputString) {
-        return inputString.split(" ");
+        return inputString.split(" ", 2);
     }
 
     private void checkExcessArguments(String excess) {
@@ -77,27 +149,80 @@ public class SurrealChat {
         }
         String[] separatedWords = splitString(inputString);
         String userCommand = separatedWords[0];
-        String restOfInput = "";
+        String restOfInput = (separatedWords.length > 1) ? separatedWords[1].trim() : "";
+        String recordedCommand = getRecordedCommand(userCommand);
+        lastCommand.set(recordedCommand);
 
-        //Reorganise the remainder of input.
-        for (int i = 1; i < separatedWords.length; i++) {
-            restOfInput += String.format("%s ", separatedWords[i]);
-        }
-        restOfInput = restOfInput.trim();
+        boolean isReadOnly = isReadOnlyCommand(userCommand);
+        Lock lock = isReadOnly ? taskLock.readLock() : taskLock.writeLock();
+        lock.lock();
+        CommandExecutionEvent executionEvent = new CommandExecutionEvent();
+        executionEvent.begin();
+        long executeStart = System.nanoTime();
         try {
-            return executeCommand(userCommand, restOfInput);
+            if (isReadOnly) {
+                return executeCommand(userCommand, restOfInput);
+            }
+            //Listeners are told of every change made by the command at once
+            return getTaskManagement().batchChanges(() -> executeCommand(userCommand, restOfInput));
         } catch (Exception e) {
             return e.getMessage();
+        } finally {
+            commandMetrics.record(recordedCommand, CommandMetrics.Phase.EXECUTE, System.nanoTime() - executeStart);
+            if (executionEvent.shouldCommit()) {
+                executionEvent.setVerb(recordedCommand);
+                executionEvent.setTaskCount(getTaskManagement().getNumberOfTasks());
+                executionEvent.commit();
+            }
+            lock.unlock();
         }
     }
 
+    private String getRecordedCommand(String command) {
+        //Group unrecognised commands so that typos do not create new histograms
+        return COMMANDS.contains(command) ? command : UNKNOWN_COMMAND;
+    }
+
+    /**
+     * Records how long a front end took to display the output of a command.
+     *
+     * @param inputString The entire command, inclusive of arguments if any.
+     * @param nanos Time taken in nanoseconds.
+     */
+    public void recordRenderTime(String inputString, long nanos) {
+        String recordedCommand = getRecordedCommand(splitString(inputString)[0]);
+        commandMetrics.record(recordedCommand, CommandMetrics.Phase.RENDER, nanos);
+    }
+
+    private boolean isReadOnlyCommand(String command) {
+        return READ_ONLY_COMMANDS.contains(command);
+    }
+
+    /**
+     * Checks whether a command leaves the tasks unchanged.
+     *
+     * @param inputString The entire command, inclusive of arguments if any.
+     * @return True if the command only reads tasks, false otherwise.
+     */
+    public boolean isReadOnlyInput(String inputString) {
+        return isReadOnlyCommand(splitString(inputString)[0]);
+    }
+
     private String executeCommand(String command, String restOfInput) {
+        TaskManagement taskManagement = getTaskManagement();
         switch(command) {
         case "help":
             return HelpMode.displayHelp(restOfInput);
         case "list":
-            checkExcessArguments(restOfInput);
-            Command listCommand = new ListCommand();
+            if (restOfInput.equals(ARCHIVE_FLAG) || restOfInput.startsWith(ARCHIVE_FLAG + " ")) {
+                String range = restOfInput.substring(ARCHIVE_FLAG.length()).trim();
+                return new ListCommand(range, getArchiveFile()).execute(taskManagement);
+            }
+            if (restOfInput.equals(READY_FLAG) || restOfInput.startsWith(READY_FLAG + " ")) {
+                String range = restOfInput.substring(READY_FLAG.length()).trim();
+                return new ListCommand(range, null, true).execute(taskManagement);
+            }
+            Command listCommand = new ListCommand(restOfInput, null);
             String outputList = listCommand.execute(taskManagement);
             return outputList;
         case "todo":
@@ -112,6 +237,10 @@ public class SurrealChat {
             Command addEventCommand = new EventCommand(restOfInput);
             outputString = addEventCommand.execute(taskManagement);
             return outputString;
+        case "recurring":
+            Command addRecurringCommand = new RecurringCommand(restOfInput);
+            outputString = addRecurringCommand.execute(taskManagement);
+            return outputString;
         case "edit":
             Command editCommand = new EditCommand(restOfInput);
             outputString = editCommand.execute(taskManagement);
@@ -130,6 +259,10 @@ public class SurrealChat {
             outputString = scronchCommand.execute(taskManagement);
             return outputString;
         case "find":
+            if (restOfInput.startsWith(ARCHIVE_FLAG + " ")) {
+                String keyword = restOfInput.substring(ARCHIVE_FLAG.length()).trim();
+                return new FindCommand(keyword, getArchiveFile()).execute(taskManagement);
+            }
             Command findCommand = new FindCommand(restOfInput);
             outputString = findCommand.execute(taskManagement);
             return outputString;
@@ -137,6 +270,61 @@ public class SurrealChat {
             Command sortCommand = new SortCommand(restOfInput);
             outputString = sortCommand.execute(taskManagement);
             return outputString;
+        case "upcoming":
+            Command upcomingCommand = new UpcomingCommand(restOfInput);
+            outputString = upcomingCommand.execute(taskManagement);
+            return outputString;
+        case "archive":
+            Command archiveCommand = new ArchiveCommand(restOfInput, getArchiveFile());
+            outputString = archiveCommand.execute(taskManagement);
+            return outputString;
+        case "import":
+            Command importCommand = new ImportCommand(restOfInput);
+            outputString = importCommand.execute(taskManagement);
+            return outputString;
+        case "export":
+            Command exportCommand = new ExportCommand(restOfInput);
+            outputString = exportCommand.execute(taskManagement);
+            return outputString;
+        case "use":
+            Command useCommand = new UseCommand(restOfInput, workspaceManager);
+            outputString = useCommand.execute(taskManagement);
+            return outputString;
+        case "stats":
+            checkExcessArguments(restOfInput);
+            Command statsCommand = new StatsCommand(commandMetrics);
+            outputString = statsCommand.execute(taskManagement);
+            return outputString;
+        case "link":
+            Command linkCommand = new LinkCommand(restOfInput);
+            outputString = linkCommand.execute(taskManagement);
+            return outputString;
+        case "unlink":
+            Command unlinkCommand = new UnlinkCommand(restOfInput);
+            outputString = unlinkCommand.execute(taskManagement);
+            return outputString;
+        case "plan":
+            checkExcessArguments(restOfInput);
+            Command planCommand = new PlanCommand();
+            outputString = planCommand.execute(taskManagement);
+            return outputString;
+        case "effort":
+            Command effortCommand = new EffortCommand(restOfInput);
+            outputString = effortCommand.execute(taskManagement);
+            return outputString;
+        case "schedule":
+            Command scheduleCommand = new ScheduleCommand(restOfInput);
+            outputString = scheduleCommand.execute(taskManagement);
+            return outputString;
+        case "conflicts":
+            checkExcessArguments(restOfInput);
+            Command conflictsCommand = new ConflictsCommand();
+            outputString = conflictsCommand.execute(taskManagement);
+            return outputString;
+        case "summary":
+            Command summaryCommand = new SummaryCommand(restOfInput);
+            outputString = summaryCommand.execute(taskManagement);
+            return outputString;
         case "orang":
             checkExcessArguments(restOfInput);
             EasterEgg orangEasterEgg = new OrangEasterEgg();
@@ -160,25 +348,19 @@ public class SurrealChat {
     }
 
     /**
-     * Loads the tasks from file.
-     */
-    public String loadFile() {
-        try {
-            List<String> fileLines = fileManagement.loadTaskFile();
-            return taskManagement.parseFileLines(fileLines);
-        } catch (IOException e) {
-            return "File loading error. Not stonks!\n";
-        }
-    }
-
-    /**
-     * Saves the tasks into file.
+     * Saves the tasks of every workspace in memory that has unsaved changes into file.
      *
      * @return A string indicating that tasks are being saved.
      */
     public String saveFile() {
-        List<String> fileTaskList = taskManagement.convertTasksForFile();
-        fileManagement.saveTasksToFile(fileTaskList);
+        taskLock.readLock().lock();
+        long persistStart = System.nanoTime();
+        try {
+            workspaceManager.saveAll();
+        } finally {
+            commandMetrics.record(lastCommand.get(), CommandMetrics.Phase.PERSIST, System.nanoTime() - persistStart);
+            taskLock.readLock().unlock();
+        }
         return "Saving tasks now...\n";
     }
 }
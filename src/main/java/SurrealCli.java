@@ -0,0 +1,128 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+
+import surrealchat.metrics.MetricsPublisher;
+
+/**
+ * Headless front end for SurrealChat that reads commands from standard input or a script file.
+ * Does not touch any JavaFX class, so it can run on machines without a display.
+ */
+public class SurrealCli {
+    protected static final String CLI_FLAG = "--cli";
+    private static final String SAVE_EVERY_FLAG = "--save-every";
+    private static final String COMMENT_PREFIX = "#";
+
+    private final SurrealChat surrealChat;
+    private final int saveInterval;
+    private final boolean isInteractive;
+    private int commandsSinceSave = 0;
+
+    /**
+     * Creates new SurrealCli object.
+     *
+     * @param surrealChat The SurrealChat object containing internal logic.
+     * @param saveInterval Number of commands between saves. Tasks are only saved at the end if 0.
+     * @param isInteractive Whether each response should be flushed immediately.
+     */
+    public SurrealCli(SurrealChat surrealChat, int saveInterval, boolean isInteractive) {
+        assert surrealChat != null : "Null surrealChat! Not stonks!\n";
+        assert saveInterval >= 0 : "Negative save interval! Not stonks!\n";
+        this.surrealChat = surrealChat;
+        this.saveInterval = saveInterval;
+        this.isInteractive = isInteractive;
+    }
+
+    private boolean isSkippedLine(String line) {
+        String trimmedLine = line.trim();
+        return trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX);
+    }
+
+    private void saveIfDue(Writer output) throws IOException {
+        commandsSinceSave++;
+        if (saveInterval > 0 && commandsSinceSave >= saveInterval) {
+            surrealChat.saveFile();
+            commandsSinceSave = 0;
+            if (isInteractive) {
+                output.write("Saving tasks now...\n");
+            }
+        }
+    }
+
+    /**
+     * Executes every command read from input and writes the responses to output.
+     * Tasks are saved once more after input is exhausted.
+     *
+     * @param input Source of commands, one per line.
+     * @param output Destination of responses.
+     * @throws IOException If reading or writing fails.
+     */
+    public void run(BufferedReader input, Writer output) throws IOException {
+        String line;
+        while ((line = input.readLine()) != null) {
+            if (isSkippedLine(line)) {
+                continue;
+            }
+            String command = line.trim();
+            String response = surrealChat.commandLogic(command);
+            long renderStart = System.nanoTime();
+            output.write(response);
+            surrealChat.recordRenderTime(command, System.nanoTime() - renderStart);
+            saveIfDue(output);
+            if (isInteractive) {
+                output.flush();
+            }
+        }
+        output.write(surrealChat.saveFile());
+        output.flush();
+    }
+
+    private static Reader openInput(String scriptPath) throws IOException {
+        if (scriptPath == null) {
+            return new InputStreamReader(System.in);
+        }
+        return new FileReader(scriptPath);
+    }
+
+    /**
+     * Runs SurrealChat headlessly.
+     * Arguments: [--save-every N] [script file]. Commands are read from standard input if no script is given.
+     *
+     * @param args Command line arguments after the --cli flag.
+     */
+    public static void main(String[] args) {
+        int saveInterval = 0;
+        String scriptPath = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(SAVE_EVERY_FLAG)) {
+                    saveInterval = Integer.parseInt(args[++i]);
+                } else {
+                    scriptPath = args[i];
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Usage: --cli [--save-every N] [script file]. Not stonks!");
+            return;
+        }
+
+        SurrealChat surrealChat = SurrealChat.initSurrealChat(new File(SurrealChat.TASK_FILE_PATH));
+        boolean isInteractive = scriptPath == null && System.console() != null;
+        SurrealCli cli = new SurrealCli(surrealChat, Math.max(saveInterval, 0), isInteractive);
+        MetricsPublisher metricsPublisher = MetricsPublisher.start(surrealChat.getMetrics());
+        try (BufferedReader input = new BufferedReader(openInput(scriptPath))) {
+            Writer output = new BufferedWriter(new OutputStreamWriter(System.out));
+            cli.run(input, output);
+        } catch (IOException e) {
+            System.err.println("Could not read commands! Not stonks!");
+        } finally {
+            metricsPublisher.close();
+        }
+    }
+}
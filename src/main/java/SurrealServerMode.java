@@ -0,0 +1,88 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import surrealchat.metrics.MetricsPublisher;
+import surrealchat.server.SurrealServer;
+
+/**
+ * Runs SurrealChat as a local server shared by many clients.
+ * Does not touch any JavaFX class, so it can run on machines without a display.
+ */
+public class SurrealServerMode {
+    protected static final String SERVER_FLAG = "--server";
+    private static final String PORT_FLAG = "--port";
+    private static final String SAVE_EVERY_FLAG = "--save-every";
+    private static final int DEFAULT_PORT = 2103;
+
+    private final SurrealChat surrealChat;
+    private final int saveInterval;
+    private final AtomicInteger writesSinceSave = new AtomicInteger();
+
+    /**
+     * Creates new SurrealServerMode object.
+     *
+     * @param surrealChat The SurrealChat object containing internal logic.
+     * @param saveInterval Number of commands that change tasks between saves.
+     */
+    public SurrealServerMode(SurrealChat surrealChat, int saveInterval) {
+        assert surrealChat != null : "Null surrealChat! Not stonks!\n";
+        assert saveInterval > 0 : "Non-positive save interval! Not stonks!\n";
+        this.surrealChat = surrealChat;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Generates the response to a client command, saving tasks once enough commands have changed them.
+     *
+     * @param input The entire command, inclusive of arguments if any.
+     * @return Output to be sent to the client.
+     */
+    public String handle(String input) {
+        String response = surrealChat.commandLogic(input);
+        if (!surrealChat.isReadOnlyInput(input)
+                && writesSinceSave.incrementAndGet() % saveInterval == 0) {
+            response += surrealChat.saveFile();
+        }
+        return response;
+    }
+
+    /**
+     * Runs SurrealChat as a server until the process is stopped.
+     * Arguments: [--port N] [--save-every N].
+     *
+     * @param args Command line arguments after the --server flag.
+     */
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        int saveInterval = 1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(PORT_FLAG)) {
+                    port = Integer.parseInt(args[++i]);
+                } else if (args[i].equals(SAVE_EVERY_FLAG)) {
+                    saveInterval = Integer.parseInt(args[++i]);
+                } else {
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Usage: --server [--port N] [--save-every N]. Not stonks!");
+            return;
+        }
+
+        SurrealChat surrealChat = SurrealChat.initSurrealChat(new File(SurrealChat.TASK_FILE_PATH));
+        SurrealServerMode serverMode = new SurrealServerMode(surrealChat, Math.max(saveInterval, 1));
+        MetricsPublisher metricsPublisher = MetricsPublisher.start(surrealChat.getMetrics());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            surrealChat.saveFile();
+            metricsPublisher.close();
+        }));
+        try (SurrealServer server = new SurrealServer(port, serverMode::handle)) {
+            System.out.printf("Meme Man is listening on port %d. Stonks!\n", server.getPort());
+            server.serve();
+        } catch (IOException e) {
+            System.err.println("Server stopped unexpectedly. Not stonks!");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import surrealchat.task.DeadlineTask;
+import surrealchat.task.EventTask;
+import surrealchat.task.RecurringTask;
+import surrealchat.task.Task;
+import surrealchat.task.TaskChangeEvent;
+import surrealchat.task.TaskChangeListener;
+import surrealchat.task.TaskListMirror;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Table of the tasks in a task list, with columns that can be sorted by clicking their headers.
+ * Only the visible rows have cells, and the rows are kept in step with the task list through its change events,
+ * so a change to one task only updates that row.
+ */
+public class TaskTableView extends TableView<Task> {
+    private static final double FIXED_CELL_SIZE = 24.0; //Lets the table place rows without measuring them
+    private static final double NARROW_COLUMN_WIDTH = 50.0;
+    private static final double DATE_COLUMN_WIDTH = 120.0;
+    private static final double WIDE_COLUMN_WIDTH = 200.0;
+    private static final Executor FX_EXECUTOR = command -> {
+        if (Platform.isFxApplicationThread()) {
+            command.run();
+        } else {
+            Platform.runLater(command);
+        }
+    };
+
+    private final ObservableList<Task> rows = FXCollections.observableArrayList(); //In task list order
+    private final SortedList<Task> sortedRows = new SortedList<>(rows); //In the order shown
+    private final TaskListMirror rowMirror = new TaskListMirror(rows) {
+        @Override
+        protected void reset(List<Task> tasks) {
+            rows.setAll(tasks); //One change rather than a clear and an add
+        }
+    };
+    private TaskManagement boundTaskManagement;
+    private TaskChangeListener changeListener;
+
+    /**
+     * Creates new TaskTableView object showing no tasks.
+     */
+    public TaskTableView() {
+        sortedRows.comparatorProperty().bind(comparatorProperty());
+        setItems(sortedRows);
+        setFixedCellSize(FIXED_CELL_SIZE);
+        setColumnResizePolicy(CONSTRAINED_RESIZE_POLICY);
+        setPlaceholder(new Label("No tasks. Hmmst've..."));
+        setFocusTraversable(false);
+
+        TableColumn<Task, Integer> numberColumn = new TableColumn<>("#");
+        numberColumn.setSortable(false);
+        numberColumn.setPrefWidth(NARROW_COLUMN_WIDTH);
+        numberColumn.setCellFactory(column -> new TableCell<>() {
+            @Override
+            public void updateIndex(int index) { //Rows shifting or being sorted only changes the index
+                super.updateIndex(index);
+                boolean isRow = index >= 0 && index < sortedRows.size();
+                //Task numbers follow the task list, whichever column the table is sorted by
+                setText(isRow ? String.valueOf(sortedRows.getSourceIndex(index) + 1) : null);
+            }
+        });
+        getColumns().add(numberColumn);
+        getColumns().add(createColumn("Type", Task::getType, NARROW_COLUMN_WIDTH));
+        getColumns().add(createColumn("Done", Task::getStatusIcon, NARROW_COLUMN_WIDTH));
+        getColumns().add(createColumn("Description", Task::getDescription, WIDE_COLUMN_WIDTH));
+        getColumns().add(createColumn("Priority", task -> task.getPriority().getPriorityLevel(),
+                NARROW_COLUMN_WIDTH));
+        getColumns().add(createColumn("Date", TaskTableView::getDate, DATE_COLUMN_WIDTH));
+    }
+
+    private static <T> TableColumn<Task, T> createColumn(String title, Function<Task, T> extractor, double width) {
+        TableColumn<Task, T> column = new TableColumn<>(title);
+        column.setPrefWidth(width);
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(extractor.apply(cell.getValue())));
+        return column;
+    }
+
+    private static LocalDateTime getDate(Task task) {
+        if (task instanceof DeadlineTask) {
+            return ((DeadlineTask) task).getDeadline();
+        } else if (task instanceof EventTask) {
+            return ((EventTask) task).getEventDate();
+        } else if (task instanceof RecurringTask) {
+            return ((RecurringTask) task).getStart();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Shows the tasks of a task list and follows its changes from then on, replacing any list shown before.
+     * Must be called on the JavaFX application thread, and should be called on the thread that changes tasks.
+     *
+     * @param taskManagement TaskManagement object to be shown.
+     */
+    public void bind(TaskManagement taskManagement) {
+        if (taskManagement == boundTaskManagement) {
+            return;
+        }
+        if (boundTaskManagement != null) {
+            boundTaskManagement.removeChangeListener(changeListener);
+        }
+        boundTaskManagement = taskManagement;
+        rows.setAll(taskManagement.getTaskList());
+        changeListener = changes -> applyChanges(taskManagement, changes);
+        taskManagement.addChangeListener(changeListener, FX_EXECUTOR);
+    }
+
+    /**
+     * Applies a batch of changes to the rows, unless the table has been bound elsewhere since.
+     */
+    private void applyChanges(TaskManagement source, List<TaskChangeEvent> changes) {
+        if (source == boundTaskManagement) {
+            rowMirror.applyChanges(changes);
+        }
+    }
+}
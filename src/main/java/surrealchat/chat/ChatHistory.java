@@ -0,0 +1,146 @@
+package surrealchat.chat;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded history of chat messages backed by a ring buffer.
+ * Once the buffer is full, the oldest message is evicted and appended to a transcript file. The transcript is
+ * written by a background thread through one buffered writer, so appending never waits for the disk, and is
+ * flushed when the history is closed.
+ */
+public class ChatHistory implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 500;
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final ChatMessage[] messages;
+    private final File transcriptFile;
+    private final ExecutorService transcriptExecutor; //Null if there is no transcript
+    private Writer transcriptWriter; //Only used on the transcript thread
+    private int head = 0; //Index of the oldest message
+    private int size = 0;
+
+    /**
+     * Creates new ChatHistory object.
+     *
+     * @param capacity Maximum number of messages kept in memory.
+     * @param transcriptFile File to which evicted messages are appended. Evicted messages are dropped if null.
+     */
+    public ChatHistory(int capacity, File transcriptFile) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Chat history capacity must be positive. Not stonks!\n");
+        }
+        this.messages = new ChatMessage[capacity];
+        this.transcriptFile = transcriptFile;
+        this.transcriptExecutor = (transcriptFile == null) ? null : Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "surrealchat-transcript");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Obtains the maximum number of messages kept in memory.
+     *
+     * @return Capacity of history.
+     */
+    public int getCapacity() {
+        return messages.length;
+    }
+
+    /**
+     * Obtains the number of messages kept in memory.
+     *
+     * @return Number of messages in history.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Obtains a message kept in memory.
+     *
+     * @param index Position of message, where 0 is the oldest message still in memory.
+     * @return The message at that position.
+     */
+    public ChatMessage get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No such message in history. Not stonks!\n");
+        }
+        return messages[(head + index) % messages.length];
+    }
+
+    /**
+     * Appends a message to the history, evicting the oldest message into the transcript if history is full.
+     *
+     * @param message Message to be appended.
+     * @return The evicted message, or null if nothing was evicted.
+     */
+    public ChatMessage append(ChatMessage message) {
+        assert message != null : "Null message appended to history! Not stonks!\n";
+        if (size < messages.length) {
+            messages[(head + size) % messages.length] = message;
+            size++;
+            return null;
+        }
+        ChatMessage evicted = messages[head];
+        messages[head] = message;
+        head = (head + 1) % messages.length;
+        spillToTranscript(evicted);
+        return evicted;
+    }
+
+    private void spillToTranscript(ChatMessage evicted) {
+        if (transcriptExecutor == null) {
+            return;
+        }
+        String entry = evicted.toTranscriptEntry();
+        transcriptExecutor.execute(() -> writeToTranscript(entry));
+    }
+
+    private void writeToTranscript(String entry) {
+        try {
+            if (transcriptWriter == null) {
+                transcriptWriter = new BufferedWriter(new FileWriter(transcriptFile, true));
+            }
+            transcriptWriter.write(entry);
+        } catch (IOException e) {
+            System.err.println("Could not write to transcript! Not stonks!\n");
+        }
+    }
+
+    private void closeTranscript() {
+        if (transcriptWriter == null) {
+            return;
+        }
+        try {
+            transcriptWriter.close();
+        } catch (IOException e) {
+            System.err.println("Could not write to transcript! Not stonks!\n");
+        }
+        transcriptWriter = null;
+    }
+
+    /**
+     * Writes out every evicted message still waiting and closes the transcript. Messages must not be appended after.
+     */
+    @Override
+    public void close() {
+        if (transcriptExecutor == null || transcriptExecutor.isShutdown()) {
+            return;
+        }
+        transcriptExecutor.execute(this::closeTranscript);
+        transcriptExecutor.shutdown();
+        try {
+            transcriptExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
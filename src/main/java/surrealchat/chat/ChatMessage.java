@@ -0,0 +1,56 @@
+package surrealchat.chat;
+
+/**
+ * Represents a single message shown in the conversation.
+ */
+public class ChatMessage {
+    /**
+     * Enum denoting who said the message.
+     */
+    public enum Speaker {
+        USER, SURREAL
+    }
+
+    private final Speaker speaker;
+    private final String text;
+
+    /**
+     * Creates new ChatMessage object.
+     *
+     * @param speaker Who said the message.
+     * @param text The contents of the message.
+     */
+    public ChatMessage(Speaker speaker, String text) {
+        assert speaker != null : "Null speaker! Not stonks!\n";
+        assert text != null : "Null message text! Not stonks!\n";
+        this.speaker = speaker;
+        this.text = text;
+    }
+
+    /**
+     * Obtains who said the message.
+     *
+     * @return Speaker of message.
+     */
+    public Speaker getSpeaker() {
+        return speaker;
+    }
+
+    /**
+     * Obtains the contents of the message.
+     *
+     * @return Message text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Converts the message into a string format for the transcript file.
+     *
+     * @return Message in transcript format.
+     */
+    public String toTranscriptEntry() {
+        return String.format("[%s]\n%s", speaker, text.endsWith("\n") ? text : text + "\n");
+    }
+}
@@ -0,0 +1,161 @@
+package surrealchat.command;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.file.ArchiveFile;
+import surrealchat.task.DeadlineTask;
+import surrealchat.task.DescriptionPool;
+import surrealchat.task.EventTask;
+import surrealchat.task.Task;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Command object for moving done or old tasks out of the task list into the archive.
+ */
+public class ArchiveCommand extends Command {
+    protected static final String BEFORE_KEYWORD = "before";
+    protected final String rawDescription;
+    protected final ArchiveFile archiveFile;
+
+    /**
+     * Creates new ArchiveCommand object.
+     *
+     * @param rawDescription Empty to archive done tasks, or before [datetime] to also archive older tasks.
+     * @param archiveFile ArchiveFile object of the workspace currently in use.
+     */
+    public ArchiveCommand(String rawDescription, ArchiveFile archiveFile) {
+        super("archive");
+        this.rawDescription = rawDescription;
+        this.archiveFile = archiveFile;
+    }
+
+    private static boolean isBefore(Task task, LocalDateTime cutoff) {
+        if (task instanceof DeadlineTask) {
+            return ((DeadlineTask) task).getDeadline().isBefore(cutoff);
+        } else if (task instanceof EventTask) {
+            return ((EventTask) task).getEventDate().isBefore(cutoff);
+        } else {
+            return false;
+        }
+    }
+
+    private Predicate<Task> getArchiveFilter() throws SurrealException {
+        if (rawDescription.isEmpty()) {
+            return Task::isDone;
+        }
+        String[] descriptionSplitArray = rawDescription.split(" ", 2);
+        if (!descriptionSplitArray[0].equals(BEFORE_KEYWORD) || descriptionSplitArray.length < 2) {
+            throw new SurrealException("Wrong formatting. Did you mean 'archive before [datetime]'? Not stonks!\n");
+        }
+        LocalDateTime cutoff = parseDate(descriptionSplitArray[1].trim());
+        return task -> task.isDone() || isBefore(task, cutoff);
+    }
+
+    private void appendToArchive(List<Task> tasks) {
+        try {
+            archiveFile.append(tasks.stream().map(Task::saveTask).collect(Collectors.toList()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads archived tasks into string form for printing.
+     *
+     * @param archiveFile ArchiveFile object to be read.
+     * @param keyword Keyword that tasks must contain, case-insensitive, or empty for all tasks.
+     * @return List of archived tasks with their corresponding numbers in the archive.
+     * @throws SurrealException If the archive cannot be read.
+     */
+    protected static List<String> getArchivedTasks(ArchiveFile archiveFile, String keyword) throws SurrealException {
+        DescriptionPool descriptionPool = new DescriptionPool(false); //Tasks are only printed, not kept
+        String lowerCaseKeyword = keyword.toLowerCase();
+        List<String> archivedTasks = new ArrayList<>();
+        try {
+            archiveFile.forEachLine(line -> {
+                String taskString = TaskManagement.parseTask(line, descriptionPool).toString();
+                int taskNumber = archivedTasks.size() + 1;
+                if (taskString.toLowerCase().contains(lowerCaseKeyword)) {
+                    archivedTasks.add(taskNumber + ". " + taskString + "\n");
+                } else {
+                    archivedTasks.add(null); //Keep numbering in step with the archive
+                }
+            });
+        } catch (IOException e) {
+            throw new SurrealException("Archive could not be read. Not stonks!\n");
+        }
+        archivedTasks.removeIf(taskString -> taskString == null);
+        return archivedTasks;
+    }
+
+    /**
+     * Reads a range of archived tasks into string form for printing, without reading the rest of the archive.
+     *
+     * @param archiveFile ArchiveFile object to be read.
+     * @param firstNumber Number of first task to be read, starting from 1.
+     * @param lastNumber Number of last task to be read, inclusive.
+     * @return List of archived tasks in range with their corresponding numbers in the archive.
+     * @throws SurrealException If the archive cannot be read.
+     */
+    protected static List<String> getArchivedTasks(ArchiveFile archiveFile, int firstNumber, int lastNumber)
+            throws SurrealException {
+        DescriptionPool descriptionPool = new DescriptionPool(false);
+        try {
+            List<String> fileTasks = archiveFile.readTasks(firstNumber, lastNumber);
+            List<String> archivedTasks = new ArrayList<>(fileTasks.size());
+            for (int i = 0; i < fileTasks.size(); i++) {
+                String taskString = TaskManagement.parseTask(fileTasks.get(i), descriptionPool).toString();
+                archivedTasks.add((firstNumber + i) + ". " + taskString + "\n");
+            }
+            return archivedTasks;
+        } catch (IOException e) {
+            throw new SurrealException("Archive could not be read. Not stonks!\n");
+        }
+    }
+
+    private String printOutput(List<Task> archivedTasks, int size) {
+        String outputString = String.format("Meme Man has archived %d tasks.\n", archivedTasks.size());
+        outputString += String.format("Total number of tasks: %d\n", size);
+        return outputString;
+    }
+
+    /**
+     * Executes archive command to move tasks into the archive.
+     *
+     * @param taskManagement TaskManagement object where Tasks to be archived are stored.
+     * @return String output upon successful archiving.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            List<Task> archivedTasks = taskManagement.moveTasks(getArchiveFilter(), this::appendToArchive);
+            if (archivedTasks.isEmpty()) {
+                throw new SurrealException("I have nothing to archive. Not stonks!\n");
+            }
+            return printOutput(archivedTasks, taskManagement.getNumberOfTasks());
+        } catch (SurrealException e) {
+            return e.getMessage();
+        } catch (UncheckedIOException e) {
+            return "Archive could not be written, so no tasks were moved. Not stonks!\n";
+        }
+    }
+
+    /**
+     * Describes usage of archive command.
+     *
+     * @return String describing the archive command.
+     */
+    public static String displayHelp() {
+        String outputString = "Moves done tasks out of the list into the archive. ";
+        outputString += "Deadlines and events before a given datetime can be archived too.\n";
+        outputString += "Format of arguments: archive [before [datetime] (optional)]\n";
+        outputString += "Use list --archive or find --archive [keyword] to look at archived tasks.\n";
+        return outputString;
+    }
+}
@@ -1,6 +1,14 @@
 package surrealchat.command;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
 import surrealchat.exception.SurrealException;
+import surrealchat.task.DateTimeCodec;
+import surrealchat.task.DurationCodec;
+import surrealchat.task.EventTask;
 import surrealchat.task.TaskManagement;
 
 /**
@@ -58,4 +66,76 @@ public abstract class Command {
             }
         }
     }
+
+    /**
+     * Obtains date time from String of the form YYYY-MM-DDTHH:MM[:SS].
+     *
+     * @param dateString String to be parsed to date time.
+     * @return Date time inside the String.
+     * @throws SurrealException If dateString is not a valid date time.
+     */
+    protected static LocalDateTime parseDate(String dateString) throws SurrealException {
+        try {
+            return DateTimeCodec.parse(dateString);
+        } catch (DateTimeParseException e) {
+            throw new SurrealException("Input date time format is incorrect. Not stonks!\n");
+        }
+    }
+
+    /**
+     * Obtains the start and optional end of an event from String of the form [start] /to [end].
+     *
+     * @param timesString String to be parsed to event times.
+     * @return Start and end date times of the event, with a null end if none was given.
+     * @throws SurrealException If a date time is not valid, or the event ends before it starts.
+     */
+    protected static LocalDateTime[] parseEventTimes(String timesString) throws SurrealException {
+        String[] timesSplitArray = timesString.split("/to");
+        if (timesSplitArray.length > 2) {
+            throw new SurrealException("An event can only have one end time. Not stonks!\n");
+        }
+        LocalDateTime start = parseDate(timesSplitArray[0].trim());
+        LocalDateTime end = (timesSplitArray.length == 1) ? null : parseDate(timesSplitArray[1].trim());
+        if (end != null && !end.isAfter(start)) {
+            throw new SurrealException("Event must end after it starts. Not stonks!\n");
+        }
+        return new LocalDateTime[] {start, end};
+    }
+
+    /**
+     * Describes the undone events an event overlaps with, if there are any.
+     *
+     * @param taskManagement TaskManagement object holding the events.
+     * @param event Event to be checked.
+     * @return String listing the overlapping events, or an empty String if there are none.
+     */
+    protected static String printOverlaps(TaskManagement taskManagement, EventTask event) {
+        if (event.isDone()) {
+            return "";
+        }
+        List<EventTask> overlappingEvents = taskManagement.getOverlappingEvents(event);
+        if (overlappingEvents.isEmpty()) {
+            return "";
+        }
+        StringBuilder outputBuilder = new StringBuilder("Heads up! This event overlaps with:\n");
+        for (EventTask overlappingEvent : overlappingEvents) {
+            outputBuilder.append(overlappingEvent).append('\n');
+        }
+        return outputBuilder.toString();
+    }
+
+    /**
+     * Obtains effort estimate from String of the form [hours]h[minutes]m, or a number of minutes.
+     *
+     * @param effortString String to be parsed to an effort estimate.
+     * @return Effort estimate inside the String.
+     * @throws SurrealException If effortString is not a valid effort estimate.
+     */
+    protected static Duration parseEffort(String effortString) throws SurrealException {
+        try {
+            return DurationCodec.parse(effortString);
+        } catch (IllegalArgumentException e) {
+            throw new SurrealException(e.getMessage());
+        }
+    }
 }
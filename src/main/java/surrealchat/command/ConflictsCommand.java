@@ -0,0 +1,64 @@
+package surrealchat.command;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.EventTask;
+import surrealchat.task.Task;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Command object for listing every pair of undone events whose times overlap.
+ */
+public class ConflictsCommand extends Command {
+    /**
+     * Creates new ConflictsCommand object.
+     */
+    public ConflictsCommand() {
+        super("conflicts");
+    }
+
+    /**
+     * Executes conflicts command to list overlapping events.
+     *
+     * @param taskManagement TaskManagement object that stores all Task objects.
+     * @return String of overlapping pairs of events.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            List<EventTask[]> conflicts = taskManagement.getEventConflicts();
+            if (conflicts.isEmpty()) {
+                throw new SurrealException("I have no overlapping events. Stonks!\n");
+            }
+            List<Task> taskList = taskManagement.getTaskList();
+            Map<Task, Integer> taskNumbers = new IdentityHashMap<>();
+            for (int i = 0; i < taskList.size(); i++) {
+                taskNumbers.put(taskList.get(i), i + 1);
+            }
+            StringBuilder outputString = new StringBuilder("Meme Man found these events overlapping:\n");
+            for (EventTask[] conflict : conflicts) {
+                outputString.append(taskNumbers.get(conflict[0])).append(". ").append(conflict[0]).append('\n');
+                outputString.append("overlaps\n");
+                outputString.append(taskNumbers.get(conflict[1])).append(". ").append(conflict[1]).append('\n');
+            }
+            outputString.append(String.format("Total number of overlapping pairs: %d\n", conflicts.size()));
+            return outputString.append("Not stonks!\n").toString();
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of conflicts command.
+     *
+     * @return String describing the conflicts command.
+     */
+    public static String displayHelp() {
+        String outputString = "Lists every pair of undone events whose times overlap.\n";
+        outputString += "Events without an end time only overlap events under way when they start.\n";
+        outputString += "Format of arguments: conflicts\n";
+        return outputString;
+    }
+}
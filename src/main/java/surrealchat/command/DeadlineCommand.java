@@ -1,10 +1,10 @@
 package surrealchat.command;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
 
 import surrealchat.exception.SurrealException;
 import surrealchat.task.DeadlineTask;
+import surrealchat.task.DescriptionPool;
 import surrealchat.task.Task;
 import surrealchat.task.TaskManagement;
 import surrealchat.task.TaskPriority;
@@ -25,15 +25,8 @@ public class DeadlineCommand extends Command {
         this.rawDescription = rawDescription;
     }
 
-    private LocalDateTime parseDate(String dateString) throws SurrealException {
-        try {
-            return LocalDateTime.parse(dateString);
-        } catch (DateTimeParseException e) {
-            throw new SurrealException("Input date time format is incorrect. Not stonks!\n");
-        }
-    }
-
-    private DeadlineTask addDeadline(String taskDescription) throws SurrealException {
+    private DeadlineTask addDeadline(String taskDescription, DescriptionPool descriptionPool)
+            throws SurrealException {
         if (taskDescription.isEmpty()) {
             throw new SurrealException("Empty deadline task description. Not stonks!\n");
         }
@@ -44,9 +37,13 @@ public class DeadlineCommand extends Command {
             int intPriority = Integer.valueOf(descriptionSplitArray[1].trim());
             LocalDateTime deadlineDateTime = parseDate(descriptionSplitArray[2].trim());
             TaskPriority taskPriority = TaskPriority.getPriorityType(intPriority);
+            String description = descriptionPool.canonicalize(descriptionSplitArray[0].trim());
             //Create Deadline task
-            return DeadlineTask.createNewDeadlineTask(descriptionSplitArray[0].trim(),
-                    taskPriority, deadlineDateTime);
+            DeadlineTask newTask = DeadlineTask.createNewDeadlineTask(description, taskPriority, deadlineDateTime);
+            if (descriptionSplitArray.length > 3) { //Optional effort estimate
+                return newTask.withEffort(parseEffort(descriptionSplitArray[3]));
+            }
+            return newTask;
         } catch (ArrayIndexOutOfBoundsException e) { //Happens if split does not occur
             throw new SurrealException("Wrong formatting. Did you forget to put ';'? Not stonks!\n");
         } catch (NumberFormatException e) { //Happens if correct int is not passed in for priority
@@ -68,7 +65,7 @@ public class DeadlineCommand extends Command {
      */
     public String execute(TaskManagement taskManagement) {
         try {
-            DeadlineTask addedTask = addDeadline(rawDescription);
+            DeadlineTask addedTask = addDeadline(rawDescription, taskManagement.getDescriptionPool());
             taskManagement.addTask(addedTask);
             return printOutput(addedTask, taskManagement.getNumberOfTasks());
         } catch (SurrealException e) {
@@ -83,8 +80,9 @@ public class DeadlineCommand extends Command {
      */
     public static String displayHelp() {
         String outputString = "Given a description and deadline, stores deadline task.\n";
-        outputString += "Format of arguments: deadline [description] ; [priority] ; [deadline]\n";
+        outputString += "Format of arguments: deadline [description] ; [priority] ; [deadline] ; [effort (optional)]\n";
         outputString += "[deadline] must be of the form {YYYY-MM-DD}T{HH:MM:SS} in 24 hour clock\n";
+        outputString += "[effort] is how long the task takes, such as 2h, 45m or 1h30m\n";
         return outputString;
     }
 }
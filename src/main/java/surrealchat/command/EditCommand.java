@@ -1,11 +1,11 @@
 package surrealchat.command;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
 
 import surrealchat.exception.SurrealException;
 import surrealchat.task.DeadlineTask;
 import surrealchat.task.EventTask;
+import surrealchat.task.RecurringTask;
 import surrealchat.task.Task;
 import surrealchat.task.TaskCode;
 import surrealchat.task.TaskManagement;
@@ -45,16 +45,7 @@ public class EditCommand extends Command {
         }
     }
 
-    private LocalDateTime parseDate(String dateString) throws SurrealException {
-        try {
-            return LocalDateTime.parse(dateString);
-        } catch (DateTimeParseException e) {
-            throw new SurrealException("Input date time format is incorrect. Not stonks!\n");
-        }
-    }
-
-    private ToDoTask editToDo(ToDoTask toDoTask, String rawDescription) throws SurrealException {
-        String[] splitArguments = rawDescription.split(";");
+    private ToDoTask editToDo(ToDoTask toDoTask, String[] splitArguments) throws SurrealException {
         if (splitArguments.length != TODO_ARGUMENTS) {
             throw new SurrealException(
                     "Wrong number of arguments! Please also check your formatting for ';'. Not stonks!\n");
@@ -85,8 +76,35 @@ public class EditCommand extends Command {
         }
     }
 
-    private DeadlineTask editDeadline(DeadlineTask task, String rawDescription) throws SurrealException {
-        String[] splitArguments = rawDescription.split(";");
+    private RecurringTask editRecurring(RecurringTask task, String[] splitArguments) throws SurrealException {
+        if (splitArguments.length != TODO_ARGUMENTS) {
+            throw new SurrealException(
+                    "Wrong number of arguments! Please also check your formatting for ';'. Not stonks!\n");
+        }
+
+        String newDescription = splitArguments[0].trim();
+        String newPriorityString = splitArguments[1].trim();
+        boolean keepDescription = keepOriginal(newDescription);
+        boolean keepPriority = keepOriginal(newPriorityString);
+        try {
+            if (keepDescription && keepPriority) {
+                throw new SurrealException("There is no point editing this task! Not stonks!\n");
+            } else if (keepPriority) {
+                return task.editDescription(newDescription);
+            } else if (keepDescription) {
+                TaskPriority newPriority = TaskPriority.getPriorityType(Integer.valueOf(newPriorityString));
+                return task.editPriority(newPriority);
+            } else {
+                TaskPriority newPriority = TaskPriority.getPriorityType(Integer.valueOf(newPriorityString));
+                return task.editTask(newDescription, newPriority);
+            }
+        } catch (NumberFormatException e) {
+            throw new SurrealException(
+                    "Priority number not parsed. Please check if you put anything other than int. Not stonks!\n");
+        }
+    }
+
+    private DeadlineTask editDeadline(DeadlineTask task, String[] splitArguments) throws SurrealException {
         if (splitArguments.length != DEADLINE_EVENT_ARGUMENTS) {
             throw new SurrealException(
                     "Wrong number of arguments! Please also check your formatting for ';'. Not stonks!\n");
@@ -137,8 +155,17 @@ public class EditCommand extends Command {
         }
     }
 
-    private EventTask editEvent(EventTask task, String rawDescription) throws SurrealException {
-        String[] splitArguments = rawDescription.split(";");
+    /**
+     * Moves an event to new times. Without a new end time, an event keeps lasting as long as before.
+     */
+    private static EventTask moveEvent(EventTask task, LocalDateTime[] newEventTimes) {
+        if (newEventTimes[1] == null) {
+            return task.editEventDate(newEventTimes[0]);
+        }
+        return task.editEventDate(newEventTimes[0], newEventTimes[1]);
+    }
+
+    private EventTask editEvent(EventTask task, String[] splitArguments) throws SurrealException {
         if (splitArguments.length != DEADLINE_EVENT_ARGUMENTS) {
             throw new SurrealException(
                     "Wrong number of arguments! Please also check your formatting for ';'. Not stonks!\n");
@@ -161,26 +188,27 @@ public class EditCommand extends Command {
                 EventTask editedTask = task.editPriority(newPriority);
                 return editedTask;
             } else if (keepDescription && keepPriority) {
-                LocalDateTime newEventDate = parseDate(newEventDatetimeString);
-                EventTask editedTask = task.editEventDate(newEventDate);
+                LocalDateTime[] newEventTimes = parseEventTimes(newEventDatetimeString);
+                EventTask editedTask = moveEvent(task, newEventTimes);
                 return editedTask;
             } else if (keepEventDate) {
                 TaskPriority newPriority = TaskPriority.getPriorityType(Integer.valueOf(newPriorityString));
                 EventTask editedTask = task.editDescription(newDescription).editPriority(newPriority);
                 return editedTask;
             } else if (keepPriority) {
-                LocalDateTime newEventDate = parseDate(newEventDatetimeString);
-                EventTask editedTask = task.editDescription(newDescription).editEventDate(newEventDate);
+                LocalDateTime[] newEventTimes = parseEventTimes(newEventDatetimeString);
+                EventTask editedTask = moveEvent(task.editDescription(newDescription), newEventTimes);
                 return editedTask;
             } else if (keepDescription) {
                 TaskPriority newPriority = TaskPriority.getPriorityType(Integer.valueOf(newPriorityString));
-                LocalDateTime newEventDate = parseDate(newEventDatetimeString);
-                EventTask editedTask = task.editPriority(newPriority).editEventDate(newEventDate);
+                LocalDateTime[] newEventTimes = parseEventTimes(newEventDatetimeString);
+                EventTask editedTask = moveEvent(task.editPriority(newPriority), newEventTimes);
                 return editedTask;
             } else {
                 TaskPriority newPriority = TaskPriority.getPriorityType(Integer.valueOf(newPriorityString));
-                LocalDateTime newEventDate = parseDate(newEventDatetimeString);
-                EventTask editedTask = task.editTask(newDescription, newPriority, newEventDate);
+                LocalDateTime[] newEventTimes = parseEventTimes(newEventDatetimeString);
+                EventTask editedTask = moveEvent(task.editDescription(newDescription).editPriority(newPriority),
+                        newEventTimes);
                 return editedTask;
             }
         } catch (NumberFormatException e) {
@@ -190,21 +218,23 @@ public class EditCommand extends Command {
     }
 
     private static boolean isValidTaskType(String type) {
-        return (type == TaskCode.TODO_TYPE) || (
-                type == TaskCode.DEADLINE_TYPE) || (type == TaskCode.EVENT_TYPE);
+        return (type == TaskCode.TODO_TYPE) || (type == TaskCode.DEADLINE_TYPE)
+                || (type == TaskCode.EVENT_TYPE) || (type == TaskCode.RECURRING_TYPE);
     }
 
-    private Task editTaskByType(Task task, String rawDescription) throws SurrealException {
+    private Task editTaskByType(Task task, String[] splitArguments) throws SurrealException {
         String taskType = task.getType();
         assert EditCommand.isValidTaskType(taskType) : "Invalid task type. Not stonks\n";
 
         switch(taskType) {
         case TaskCode.TODO_TYPE:
-            return editToDo((ToDoTask) task, rawDescription);
+            return editToDo((ToDoTask) task, splitArguments);
         case TaskCode.DEADLINE_TYPE:
-            return editDeadline((DeadlineTask) task, rawDescription);
+            return editDeadline((DeadlineTask) task, splitArguments);
         case TaskCode.EVENT_TYPE:
-            return editEvent((EventTask) task, rawDescription);
+            return editEvent((EventTask) task, splitArguments);
+        case TaskCode.RECURRING_TYPE:
+            return editRecurring((RecurringTask) task, splitArguments);
         default:
             throw new SurrealException("Somehow assert statement in editTaskByType was bypassed. Not stonks!\n");
         }
@@ -232,9 +262,17 @@ public class EditCommand extends Command {
             if (newDescription.isEmpty()) {
                 throw new SurrealException("No arguments provided for editing. Not stonks!\n");
             }
+            String[] splitArguments = newDescription.split(";");
+            //Shared like the descriptions of new tasks
+            if (splitArguments.length > 0 && !keepOriginal(splitArguments[0].trim())) {
+                splitArguments[0] = taskManagement.getDescriptionPool().canonicalize(splitArguments[0].trim());
+            }
             Task taskToEdit = taskManagement.getTask(taskNumber);
-            Task editedTask = editTaskByType(taskToEdit, newDescription);
+            Task editedTask = editTaskByType(taskToEdit, splitArguments);
             taskManagement.replaceTask(taskNumber, editedTask);
+            if (editedTask instanceof EventTask) {
+                return printOutput(editedTask) + printOverlaps(taskManagement, (EventTask) editedTask);
+            }
             return printOutput(editedTask);
         } catch (NumberFormatException e) { //Can happen if clean split does not occur.
             return e.getMessage();
@@ -256,6 +294,9 @@ public class EditCommand extends Command {
         outputString += "edit [task number] /edit [new description] ; [new priority]\n";
         outputString += "Format of arguments for Deadline and Event tasks: ";
         outputString += "edit [task number] /edit [new description] ; [new priority] ; [new datetime]\n";
+        outputString += "Format of arguments for Recurring tasks: ";
+        outputString += "edit [task number] /edit [new description] ; [new priority]\n";
+        outputString += "New Event datetimes may end with /to [end datetime] to change when the event ends.\n";
         outputString += "Use -keep- to preserve certain details.\n";
         return outputString;
     }
@@ -0,0 +1,64 @@
+package surrealchat.command;
+
+import java.time.Duration;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.Task;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Command object for setting or clearing the estimate of how long a task takes.
+ */
+public class EffortCommand extends Command {
+    protected static final String NO_EFFORT = "none";
+    protected final String rawDescription;
+
+    /**
+     * Creates new EffortCommand object.
+     *
+     * @param rawDescription Task number followed by an effort estimate, or by none to clear it.
+     */
+    public EffortCommand(String rawDescription) {
+        super("effort");
+        this.rawDescription = rawDescription;
+    }
+
+    /**
+     * Executes effort command to change the effort estimate of a task.
+     *
+     * @param taskManagement TaskManagement object where the task is stored.
+     * @return String to describe the changed task.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            String[] effortSplitArray = rawDescription.trim().split("\\s+", 2);
+            if (effortSplitArray.length != 2) {
+                throw new SurrealException("Effort must be of the form [task number] [effort]. Not stonks!\n");
+            }
+            int taskNumber = getInputNumber(effortSplitArray[0]);
+            if (isInvalidTaskNumber(taskNumber, taskManagement.getNumberOfTasks())) {
+                throw new SurrealException("Invalid task number. Not stonks!\n");
+            }
+            Duration newEffort = effortSplitArray[1].equalsIgnoreCase(NO_EFFORT)
+                    ? null
+                    : parseEffort(effortSplitArray[1]);
+            Task editedTask = taskManagement.getTask(taskNumber).withEffort(newEffort);
+            taskManagement.replaceTask(taskNumber, editedTask);
+            return String.format("Meme Man has estimated this task:\n%s\n", editedTask);
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of effort command.
+     *
+     * @return String describing the effort command.
+     */
+    public static String displayHelp() {
+        String outputString = "Given a task number, sets how long that task is expected to take.\n";
+        outputString += "Format of arguments: effort [task number] [effort]\n";
+        outputString += "[effort] is of the form 2h, 45m or 1h30m. Use none to clear it.\n";
+        return outputString;
+    }
+}
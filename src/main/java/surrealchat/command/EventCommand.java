@@ -1,9 +1,9 @@
 package surrealchat.command;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
 
 import surrealchat.exception.SurrealException;
+import surrealchat.task.DescriptionPool;
 import surrealchat.task.EventTask;
 import surrealchat.task.Task;
 import surrealchat.task.TaskManagement;
@@ -25,15 +25,8 @@ public class EventCommand extends Command {
         this.rawDescription = rawDescription;
     }
 
-    private LocalDateTime parseDate(String dateString) throws SurrealException {
-        try {
-            return LocalDateTime.parse(dateString);
-        } catch (DateTimeParseException e) {
-            throw new SurrealException("Input date time format is incorrect. Not stonks!\n");
-        }
-    }
-
-    private EventTask addEvent(String taskDescription) throws SurrealException {
+    private EventTask addEvent(String taskDescription, DescriptionPool descriptionPool)
+            throws SurrealException {
         if (taskDescription.isEmpty()) {
             throw new SurrealException("Empty event task description. Not stonks!\n");
         }
@@ -42,11 +35,11 @@ public class EventCommand extends Command {
         String[] descriptionSplitArray = taskDescription.split(";");
         try {
             int intPriority = Integer.valueOf(descriptionSplitArray[1].trim());
-            LocalDateTime eventDateTime = parseDate(descriptionSplitArray[2].trim());
+            LocalDateTime[] eventTimes = parseEventTimes(descriptionSplitArray[2].trim());
             TaskPriority taskPriority = TaskPriority.getPriorityType(intPriority);
-            //Create Deadline task
-            return EventTask.createNewEventTask(descriptionSplitArray[0].trim(),
-                    taskPriority, eventDateTime);
+            String description = descriptionPool.canonicalize(descriptionSplitArray[0].trim());
+            //Create Event task
+            return EventTask.createNewEventTask(description, taskPriority, eventTimes[0], eventTimes[1]);
         } catch (ArrayIndexOutOfBoundsException e) { //Happens if split does not occur
             throw new SurrealException("Wrong formatting. Did you forget to put ';'? Not stonks!\n");
         } catch (NumberFormatException e) { //Happens if correct int is not passed in for priority
@@ -68,9 +61,10 @@ public class EventCommand extends Command {
      */
     public String execute(TaskManagement taskManagement) {
         try {
-            EventTask addedTask = addEvent(rawDescription);
+            EventTask addedTask = addEvent(rawDescription, taskManagement.getDescriptionPool());
             taskManagement.addTask(addedTask);
-            return printOutput(addedTask, taskManagement.getNumberOfTasks());
+            return printOutput(addedTask, taskManagement.getNumberOfTasks())
+                    + printOverlaps(taskManagement, addedTask);
         } catch (SurrealException e) {
             return e.getMessage();
         }
@@ -85,6 +79,8 @@ public class EventCommand extends Command {
         String outputString = "Given a description and event date, stores event task.\n";
         outputString += "Format of arguments: event [description] ; [priority] ; [event date and time]\n";
         outputString += "[event date and time] must be of the form {YYYY-MM-DD}T{HH:MM:SS} in 24 hour clock\n";
+        outputString += "To give an end time, use [start date and time] /to [end date and time] instead.\n";
+        outputString += "You will be told of any undone events it overlaps with.\n";
         return outputString;
     }
 }
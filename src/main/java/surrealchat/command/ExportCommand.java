@@ -0,0 +1,111 @@
+package surrealchat.command;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.file.ExchangeFile;
+import surrealchat.task.DateTimeCodec;
+import surrealchat.task.DeadlineTask;
+import surrealchat.task.EventTask;
+import surrealchat.task.RecurringTask;
+import surrealchat.task.Task;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Command object for writing tasks out to a CSV or JSON file that other programs can open.
+ */
+public class ExportCommand extends Command {
+    protected final String rawDescription;
+
+    /**
+     * Creates new ExportCommand object.
+     *
+     * @param rawDescription Path of file to export to, optionally followed by csv or json.
+     */
+    public ExportCommand(String rawDescription) {
+        super("export");
+        this.rawDescription = rawDescription;
+    }
+
+    /**
+     * Obtains the exchange file named by a command, of the layout given after its path or else suggested by its name.
+     *
+     * @param rawDescription Path of file, optionally followed by csv or json.
+     * @return ExchangeFile named by the command.
+     * @throws SurrealException If no path is given.
+     */
+    protected static ExchangeFile getExchangeFile(String rawDescription) throws SurrealException {
+        if (rawDescription.isEmpty()) {
+            throw new SurrealException("No file given! Not stonks!\n");
+        }
+        int formatStart = rawDescription.lastIndexOf(' ') + 1;
+        String format = rawDescription.substring(formatStart).toLowerCase();
+        if (formatStart > 0 && (format.equals(ExchangeFile.CSV_FORMAT) || format.equals(ExchangeFile.JSON_FORMAT))) {
+            return ExchangeFile.of(new File(rawDescription.substring(0, formatStart).trim()), format);
+        }
+        File file = new File(rawDescription);
+        return ExchangeFile.of(file, ExchangeFile.getFormatFor(file));
+    }
+
+    /**
+     * Converts a task into a record of the fields in ExchangeFile.FIELDS.
+     *
+     * @param task Task to be converted.
+     * @return Record of task.
+     */
+    protected static String[] toRecord(Task task) {
+        String date = "";
+        String repeat = "";
+        String end = "";
+        if (task instanceof DeadlineTask) {
+            date = DateTimeCodec.format(((DeadlineTask) task).getDeadline());
+        } else if (task instanceof EventTask) {
+            date = DateTimeCodec.format(((EventTask) task).getEventDate());
+            LocalDateTime endDate = ((EventTask) task).getEndDate();
+            end = (endDate == null) ? "" : DateTimeCodec.format(endDate);
+        } else if (task instanceof RecurringTask) {
+            date = DateTimeCodec.format(((RecurringTask) task).getStart());
+            repeat = ((RecurringTask) task).getRecurrenceRule().toString();
+        }
+        String effort = (task.getEffort() == null) ? "" : String.valueOf(task.getEffort().toMinutes());
+        return new String[] {ImportCommand.spellTaskType(task.getType()), String.valueOf(task.isDone()),
+            String.valueOf(task.getPriority().getPriorityLevel()), task.getDescription(), date, repeat, effort, end};
+    }
+
+    /**
+     * Executes export command to write every task into a file, one at a time.
+     *
+     * @param taskManagement TaskManagement object where Tasks to be exported are stored.
+     * @return String output upon successful export.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            ExchangeFile exchangeFile = getExchangeFile(rawDescription);
+            List<Task> taskList = taskManagement.getTaskList();
+            if (taskList.isEmpty()) {
+                throw new SurrealException("I have nothing to export. Not stonks!\n");
+            }
+            int exportCount = exchangeFile.write(taskList.stream().map(ExportCommand::toRecord).iterator());
+            return String.format("Meme Man has exported %d tasks to %s.\n", exportCount, exchangeFile.getPath());
+        } catch (SurrealException e) {
+            return e.getMessage();
+        } catch (IOException e) {
+            return "File could not be written. Not stonks!\n";
+        }
+    }
+
+    /**
+     * Describes usage of export command.
+     *
+     * @return String describing the export command.
+     */
+    public static String displayHelp() {
+        String outputString = "Writes every task out to a CSV or JSON file.\n";
+        outputString += "Format of arguments: export [file] [csv/json (optional)]\n";
+        outputString += "Without csv or json, files ending in .json are written as JSON and others as CSV.\n";
+        return outputString;
+    }
+}
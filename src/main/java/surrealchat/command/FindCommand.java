@@ -3,6 +3,8 @@ package surrealchat.command;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import surrealchat.exception.SurrealException;
+import surrealchat.file.ArchiveFile;
 import surrealchat.task.TaskManagement;
 
 /**
@@ -10,6 +12,7 @@ import surrealchat.task.TaskManagement;
  */
 public class FindCommand extends Command {
     protected final String keyword;
+    protected final ArchiveFile archiveFile;
 
     /**
      * Creates new FindCommand object.
@@ -17,16 +20,26 @@ public class FindCommand extends Command {
      * @param keyword The keyword to search. Case-insensitive.
      */
     public FindCommand(String keyword) {
+        this(keyword, null);
+    }
+
+    /**
+     * Creates new FindCommand object for searching archived tasks instead.
+     *
+     * @param keyword The keyword to search. Case-insensitive.
+     * @param archiveFile ArchiveFile object to be searched, or null to search the task list.
+     */
+    public FindCommand(String keyword, ArchiveFile archiveFile) {
         super("find");
         this.keyword = keyword;
+        this.archiveFile = archiveFile;
     }
 
     private String compileSearchResults(List<String> searchResults) {
-        String outputString = "";
         if (searchResults.isEmpty()) {
             throw new NoSuchElementException("My search returned nothing. Not stonks!\n");
         }
-        outputString = searchResults.stream().reduce("Here are my search results:\n", (x, y) -> x + y);
+        String outputString = "Here are my search results:\n" + String.join("", searchResults);
         outputString += "Hmmst've... Stonks\n";
         return outputString;
     }
@@ -41,10 +54,12 @@ public class FindCommand extends Command {
         if (keyword.isEmpty()) {
             return "No keyword given! Not stonks!\n";
         }
-        List<String> searchResults = taskManagement.getSearchResults(keyword);
         try {
+            List<String> searchResults = (archiveFile == null)
+                    ? taskManagement.getSearchResults(keyword)
+                    : ArchiveCommand.getArchivedTasks(archiveFile, keyword);
             return compileSearchResults(searchResults);
-        } catch (NoSuchElementException e) {
+        } catch (NoSuchElementException | SurrealException e) {
             return e.getMessage();
         }
     }
@@ -56,7 +71,8 @@ public class FindCommand extends Command {
      */
     public static String displayHelp() {
         String outputString = "Given a keyword, finds tasks that contain that keyword.\n";
-        outputString += "Format of arguments: find [keyword]\n";
+        outputString += "Format of arguments: find [--archive (optional)] [keyword]\n";
+        outputString += "Add --archive to search archived tasks instead.\n";
         return outputString;
     }
 }
@@ -0,0 +1,224 @@
+package surrealchat.command;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.file.ExchangeFile;
+import surrealchat.task.DeadlineTask;
+import surrealchat.task.DescriptionPool;
+import surrealchat.task.DurationCodec;
+import surrealchat.task.EventTask;
+import surrealchat.task.RecurrenceRule;
+import surrealchat.task.RecurringTask;
+import surrealchat.task.Task;
+import surrealchat.task.TaskCode;
+import surrealchat.task.TaskManagement;
+import surrealchat.task.TaskPriority;
+import surrealchat.task.ToDoTask;
+
+/**
+ * Command object for adding tasks from a CSV or JSON file, such as one written by the export command.
+ * Tasks are read one at a time and added in batches. If any task in the file is invalid, none are added.
+ */
+public class ImportCommand extends Command {
+    protected static final int BATCH_SIZE = 1024;
+    protected static final String TASK_FILE_SEPARATOR = "/split/";
+    protected final String rawDescription;
+
+    /**
+     * Creates new ImportCommand object.
+     *
+     * @param rawDescription Path of file to import from, optionally followed by csv or json.
+     */
+    public ImportCommand(String rawDescription) {
+        super("import");
+        this.rawDescription = rawDescription;
+    }
+
+    /**
+     * Spells out a task type for a record, such as todo for T.
+     *
+     * @param taskType Letter denoting type of task.
+     * @return Task type in words.
+     */
+    protected static String spellTaskType(String taskType) {
+        switch(taskType) {
+        case TaskCode.TODO_TYPE:
+            return "todo";
+        case TaskCode.DEADLINE_TYPE:
+            return "deadline";
+        case TaskCode.EVENT_TYPE:
+            return "event";
+        case TaskCode.RECURRING_TYPE:
+            return "recurring";
+        default:
+            throw new InputMismatchException("The task type in task is invalid. Not Stonks!\n");
+        }
+    }
+
+    private static boolean parseDone(String doneString) throws SurrealException {
+        switch(doneString.trim().toLowerCase()) {
+        case "":
+            //Fallthrough
+        case "0":
+            //Fallthrough
+        case "false":
+            return false;
+        case "1":
+            //Fallthrough
+        case "true":
+            return true;
+        default:
+            throw new SurrealException("Done must be true or false. Not stonks!\n");
+        }
+    }
+
+    private static TaskPriority parsePriority(String priorityString) throws SurrealException {
+        try {
+            return TaskPriority.getPriorityType(Integer.valueOf(priorityString.trim()));
+        } catch (NumberFormatException | InputMismatchException e) {
+            throw new SurrealException("Priority must be integer in range 1-3! Not stonks!\n");
+        }
+    }
+
+    /**
+     * Converts a record of the fields in ExchangeFile.FIELDS into a task.
+     *
+     * @param record Record of task.
+     * @param descriptionPool Table through which the description is shared.
+     * @return Task described by the record.
+     * @throws SurrealException If the record is not a valid task.
+     */
+    protected static Task toTask(String[] record, DescriptionPool descriptionPool) throws SurrealException {
+        Task task = toTaskWithoutEffort(record, descriptionPool);
+        String effortString = record[6].trim();
+        if (effortString.isEmpty()) {
+            return task;
+        }
+        long minutes;
+        try {
+            minutes = Long.parseLong(effortString);
+        } catch (NumberFormatException e) {
+            minutes = 0; //Reported below
+        }
+        if (minutes <= 0) {
+            throw new SurrealException("Effort must be a positive number of minutes. Not stonks!\n");
+        }
+        try {
+            return task.withEffort(DurationCodec.ofMinutes(minutes));
+        } catch (IllegalArgumentException e) {
+            throw new SurrealException(e.getMessage());
+        }
+    }
+
+    private static Task toTaskWithoutEffort(String[] record, DescriptionPool descriptionPool)
+            throws SurrealException {
+        boolean isDone = parseDone(record[1]);
+        TaskPriority taskPriority = parsePriority(record[2]);
+        if (record[3].trim().isEmpty()) {
+            throw new SurrealException("Empty task description. Not stonks!\n");
+        }
+        if (record[3].contains("\n") || record[3].contains("\r") || record[3].contains(TASK_FILE_SEPARATOR)) {
+            //The task file keeps one task per line, split on /split/
+            throw new SurrealException("Description cannot contain line breaks or /split/. Not stonks!\n");
+        }
+        String description = descriptionPool.canonicalize(record[3].trim());
+        String taskType = record[0].trim().toLowerCase();
+        if (taskType.equals("todo")) {
+            return ToDoTask.loadToDoTaskFromFile(isDone, description, taskPriority);
+        }
+        LocalDateTime date = parseDate(record[4].trim());
+        switch(taskType) {
+        case "deadline":
+            return DeadlineTask.loadDeadlineTaskFromFile(isDone, description, taskPriority, date);
+        case "event":
+            LocalDateTime end = record[7].trim().isEmpty() ? null : parseDate(record[7].trim());
+            if (end != null && !end.isAfter(date)) {
+                throw new SurrealException("Event must end after it starts. Not stonks!\n");
+            }
+            return EventTask.loadEventTaskFromFile(isDone, description, taskPriority, date, end);
+        case "recurring":
+            RecurrenceRule recurrenceRule = RecurrenceRule.parse(record[5]);
+            return RecurringTask.loadRecurringTaskFromFile(isDone, description, taskPriority, date, recurrenceRule);
+        default:
+            throw new SurrealException("Type must be todo, deadline, event or recurring. Not stonks!\n");
+        }
+    }
+
+    private int importTasks(ExchangeFile exchangeFile, TaskManagement taskManagement) throws IOException {
+        DescriptionPool descriptionPool = taskManagement.getDescriptionPool();
+        List<Task> batch = new ArrayList<>(BATCH_SIZE);
+        int[] recordCount = {0};
+        exchangeFile.forEachRecord(record -> {
+            recordCount[0]++;
+            try {
+                batch.add(toTask(record, descriptionPool));
+            } catch (SurrealException e) {
+                throw new IllegalArgumentException(
+                        String.format("Task %d in file is invalid: %s", recordCount[0], e.getMessage()));
+            }
+            if (batch.size() == BATCH_SIZE) {
+                taskManagement.addTasks(batch);
+                batch.clear();
+            }
+        });
+        taskManagement.addTasks(batch);
+        return recordCount[0];
+    }
+
+    private String printOutput(int importCount, String path, int size) {
+        String outputString = String.format("Meme Man has imported %d tasks from %s.\n", importCount, path);
+        outputString += String.format("Total number of tasks: %d\n", size);
+        return outputString;
+    }
+
+    /**
+     * Executes import command to add every task in a file.
+     *
+     * @param taskManagement TaskManagement object to which Tasks are added.
+     * @return String output upon successful import.
+     */
+    public String execute(TaskManagement taskManagement) {
+        ExchangeFile exchangeFile;
+        try {
+            exchangeFile = ExportCommand.getExchangeFile(rawDescription);
+            if (!new File(exchangeFile.getPath()).isFile()) {
+                throw new SurrealException("File to import does not exist. Not stonks!\n");
+            }
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+        int numberOfTasksBefore = taskManagement.getNumberOfTasks();
+        try {
+            int importCount = importTasks(exchangeFile, taskManagement);
+            return printOutput(importCount, exchangeFile.getPath(), taskManagement.getNumberOfTasks());
+        } catch (IllegalArgumentException e) {
+            taskManagement.truncateTasks(numberOfTasksBefore);
+            return e.getMessage() + "Nothing was imported.\n";
+        } catch (IOException e) {
+            taskManagement.truncateTasks(numberOfTasksBefore);
+            return "File could not be read, so nothing was imported. Not stonks!\n";
+        } catch (RuntimeException e) { //Tasks added before the failure must still be taken back
+            taskManagement.truncateTasks(numberOfTasksBefore);
+            return "Something went wrong, so nothing was imported. Not stonks!\n";
+        }
+    }
+
+    /**
+     * Describes usage of import command.
+     *
+     * @return String describing the import command.
+     */
+    public static String displayHelp() {
+        String outputString = "Adds every task in a CSV or JSON file, such as one written by export.\n";
+        outputString += "Format of arguments: import [file] [csv/json (optional)]\n";
+        outputString += "Columns or keys: type, done, priority, description, date, repeat, effort (in minutes),"
+                + " end (of events).\n";
+        return outputString;
+    }
+}
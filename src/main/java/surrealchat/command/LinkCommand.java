@@ -0,0 +1,79 @@
+package surrealchat.command;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Command object for linking two tasks so that one blocks the other until it is done.
+ */
+public class LinkCommand extends Command {
+    protected static final String BLOCKS_KEYWORD = " blocks ";
+    protected final String rawDescription;
+
+    /**
+     * Creates new LinkCommand object.
+     *
+     * @param rawDescription Description of link in the form [number] blocks [number].
+     */
+    public LinkCommand(String rawDescription) {
+        super("link");
+        this.rawDescription = rawDescription;
+    }
+
+    /**
+     * Obtains the task numbers of a link.
+     *
+     * @param rawDescription Description of link in the form [number] blocks [number].
+     * @return Numbers of the blocking task and the blocked task.
+     * @throws SurrealException If the description is not of that form.
+     */
+    protected static int[] parseLink(String rawDescription) throws SurrealException {
+        String[] linkSplitArray = rawDescription.split(BLOCKS_KEYWORD, -1);
+        if (linkSplitArray.length != 2) {
+            throw new SurrealException("Link must be of the form [number] blocks [number]. Not stonks!\n");
+        }
+        return new int[] {getInputNumber(linkSplitArray[0]), getInputNumber(linkSplitArray[1])};
+    }
+
+    /**
+     * Describes a link between two tasks.
+     *
+     * @param taskManagement TaskManagement object where the tasks are stored.
+     * @param link Numbers of the blocking task and the blocked task.
+     * @return String of both tasks.
+     */
+    protected static String printLink(TaskManagement taskManagement, int[] link) {
+        String outputString = String.format("%d. %s\n", link[0], taskManagement.getTask(link[0]));
+        outputString += "blocks\n";
+        outputString += String.format("%d. %s\n", link[1], taskManagement.getTask(link[1]));
+        return outputString;
+    }
+
+    /**
+     * Executes link command to make one task block another.
+     *
+     * @param taskManagement TaskManagement object where the tasks are stored.
+     * @return String output upon successful linking.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            int[] link = parseLink(rawDescription);
+            taskManagement.linkTasks(link[0], link[1]);
+            return "Meme Man has linked the tasks:\n" + printLink(taskManagement, link);
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of link command.
+     *
+     * @return String describing the link command.
+     */
+    public static String displayHelp() {
+        String outputString = "Makes one task block another, so the other is not ready until the first is done.\n";
+        outputString += "Format of arguments: link [task number] blocks [task number]\n";
+        outputString += "Use list --ready to see tasks that are not blocked, and plan to see an order to do them.\n";
+        return outputString;
+    }
+}
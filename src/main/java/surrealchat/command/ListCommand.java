@@ -1,17 +1,90 @@
 package surrealchat.command;
 
+import java.io.IOException;
+import java.util.List;
+
 import surrealchat.exception.SurrealException;
+import surrealchat.file.ArchiveFile;
 import surrealchat.task.TaskManagement;
 
 /**
- * Command object for listing out all tasks.
+ * Command object for listing out all tasks, or a range of them.
  */
 public class ListCommand extends Command {
+    protected final String rawRange;
+    protected final ArchiveFile archiveFile;
+    protected final boolean isReadyOnly;
+
     /**
      * Creates new ListCommand object.
      */
     public ListCommand() {
+        this("", null);
+    }
+
+    /**
+     * Creates new ListCommand object for listing a range of tasks, or of archived tasks.
+     *
+     * @param rawRange Range of task numbers in the form [first]-[last] or [number], or empty for all tasks.
+     * @param archiveFile ArchiveFile object to be listed, or null to list the task list.
+     */
+    public ListCommand(String rawRange, ArchiveFile archiveFile) {
+        this(rawRange, archiveFile, false);
+    }
+
+    /**
+     * Creates new ListCommand object for listing a range of tasks, of archived tasks, or of tasks ready to be done.
+     *
+     * @param rawRange Range of task numbers in the form [first]-[last] or [number], or empty for all tasks.
+     * @param archiveFile ArchiveFile object to be listed, or null to list the task list.
+     * @param isReadyOnly Whether to list only undone tasks that no undone task blocks.
+     */
+    public ListCommand(String rawRange, ArchiveFile archiveFile, boolean isReadyOnly) {
         super("list");
+        this.rawRange = rawRange;
+        this.archiveFile = archiveFile;
+        this.isReadyOnly = isReadyOnly;
+    }
+
+    private int[] parseRange() throws SurrealException {
+        if (rawRange.isEmpty()) {
+            return new int[] {1, Integer.MAX_VALUE};
+        }
+        String[] rangeSplitArray = rawRange.split("-", -1);
+        if (rangeSplitArray.length > 2) {
+            throw new SurrealException("Range must be of the form [first]-[last]. Not stonks!\n");
+        }
+        int firstNumber = getInputNumber(rangeSplitArray[0]);
+        int lastNumber = (rangeSplitArray.length == 2) ? getInputNumber(rangeSplitArray[1]) : firstNumber;
+        if (firstNumber <= 0 || lastNumber < firstNumber) {
+            throw new SurrealException("Range must go from a positive number up to a larger one. Not stonks!\n");
+        }
+        return new int[] {firstNumber, lastNumber};
+    }
+
+    /**
+     * Explains why no archived tasks were found, counting the archive from its index rather than reading it.
+     */
+    private String describeEmptyArchiveRange() throws SurrealException {
+        try {
+            int numberOfTasks = archiveFile.getNumberOfTasks();
+            return (numberOfTasks == 0) ? "My archive is empty. Not stonks!\n"
+                    : String.format("My archive only has %d tasks. Not stonks!\n", numberOfTasks);
+        } catch (IOException e) {
+            throw new SurrealException("Archive could not be read. Not stonks!\n");
+        }
+    }
+
+    private String listOutArchivedTasks(int firstNumber, int lastNumber) throws SurrealException {
+        List<String> archivedTasks = (firstNumber == 1 && lastNumber == Integer.MAX_VALUE)
+                ? ArchiveCommand.getArchivedTasks(archiveFile, "")
+                : ArchiveCommand.getArchivedTasks(archiveFile, firstNumber, lastNumber);
+        if (archivedTasks.isEmpty()) {
+            throw new SurrealException(describeEmptyArchiveRange());
+        }
+        StringBuilder outputString = new StringBuilder("I print the archived tasks:\n");
+        archivedTasks.forEach(outputString::append);
+        return outputString.append("Hmmst've... Stonks\n").toString();
     }
 
     /**
@@ -22,8 +95,18 @@ public class ListCommand extends Command {
      */
     public String execute(TaskManagement taskManagement) {
         try {
+            int[] range = parseRange();
+            if (archiveFile != null) {
+                return listOutArchivedTasks(range[0], range[1]);
+            }
+            if (isReadyOnly) {
+                String outputString = "I print the tasks ready to be done:\n";
+                outputString += taskManagement.listOutTasks(range[0], range[1],
+                        taskManagement.getDependencies()::isReady);
+                return outputString + "Hmmst've... Stonks\n";
+            }
             String outputString = "I print the tasks:\n";
-            outputString += taskManagement.listOutTasks();
+            outputString += taskManagement.listOutTasks(range[0], range[1]);
             outputString += "Hmmst've... Stonks\n";
             return outputString;
         } catch (SurrealException e) {
@@ -37,8 +120,10 @@ public class ListCommand extends Command {
      * @return String describing the list command.
      */
     public static String displayHelp() {
-        String outputString = "Displays full list of tasks.\n";
-        outputString += "Format of arguments: list\n";
+        String outputString = "Displays full list of tasks, or only the tasks in a range.\n";
+        outputString += "Format of arguments: list [--archive/--ready (optional)] [first]-[last] (optional)\n";
+        outputString += "Add --archive to list archived tasks instead, or --ready to list only undone tasks that are"
+                + " not blocked.\n";
         return outputString;
     }
 }
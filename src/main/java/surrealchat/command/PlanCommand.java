@@ -0,0 +1,54 @@
+package surrealchat.command;
+
+import java.util.List;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.Task;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Command object for listing undone tasks in an order they can be done, with every task after its blockers.
+ */
+public class PlanCommand extends Command {
+    /**
+     * Creates new PlanCommand object.
+     */
+    public PlanCommand() {
+        super("plan");
+    }
+
+    /**
+     * Executes plan command to list undone tasks in an order they can be done.
+     *
+     * @param taskManagement TaskManagement object that stores all Task objects.
+     * @return String of undone tasks in order.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            List<Task> taskList = taskManagement.getTaskList();
+            List<Integer> plan = taskManagement.getDependencies().getPlan(taskList);
+            if (plan.isEmpty()) {
+                throw new SurrealException("I have nothing left to plan. Not stonks!\n");
+            }
+            StringBuilder outputString = new StringBuilder("Meme Man plans to do the tasks in this order:\n");
+            for (int taskNumber : plan) {
+                outputString.append(taskNumber).append(". ").append(taskList.get(taskNumber - 1)).append('\n');
+            }
+            return outputString.append("Hmmst've... Stonks\n").toString();
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of plan command.
+     *
+     * @return String describing the plan command.
+     */
+    public static String displayHelp() {
+        String outputString = "Lists undone tasks in an order they can be done, with tasks after the ones blocking"
+                + " them.\n";
+        outputString += "Format of arguments: plan\n";
+        return outputString;
+    }
+}
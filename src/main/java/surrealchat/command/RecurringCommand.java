@@ -0,0 +1,87 @@
+package surrealchat.command;
+
+import java.time.LocalDateTime;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.DescriptionPool;
+import surrealchat.task.RecurrenceRule;
+import surrealchat.task.RecurringTask;
+import surrealchat.task.Task;
+import surrealchat.task.TaskManagement;
+import surrealchat.task.TaskPriority;
+
+/**
+ * Command object for creating a new RecurringTask object.
+ */
+public class RecurringCommand extends Command {
+    protected final String rawDescription;
+
+    /**
+     * Creates new RecurringCommand object.
+     *
+     * @param rawDescription The description for new RecurringTask object, inclusive of start and recurrence.
+     */
+    public RecurringCommand(String rawDescription) {
+        super("recurring");
+        this.rawDescription = rawDescription;
+    }
+
+    private RecurringTask addRecurring(String taskDescription, DescriptionPool descriptionPool)
+            throws SurrealException {
+        if (taskDescription.isEmpty()) {
+            throw new SurrealException("Empty recurring task description. Not stonks!\n");
+        }
+
+        //Split the description into description, priority, start and recurrence rule
+        String[] descriptionSplitArray = taskDescription.split(";");
+        try {
+            int intPriority = Integer.valueOf(descriptionSplitArray[1].trim());
+            LocalDateTime start = parseDate(descriptionSplitArray[2].trim());
+            RecurrenceRule recurrenceRule = RecurrenceRule.parse(descriptionSplitArray[3]);
+            TaskPriority taskPriority = TaskPriority.getPriorityType(intPriority);
+            String description = descriptionPool.canonicalize(descriptionSplitArray[0].trim());
+            //Create Recurring task
+            return RecurringTask.createNewRecurringTask(description, taskPriority, start, recurrenceRule);
+        } catch (ArrayIndexOutOfBoundsException e) { //Happens if split does not occur
+            throw new SurrealException("Wrong formatting. Did you forget to put ';'? Not stonks!\n");
+        } catch (NumberFormatException e) { //Happens if correct int is not passed in for priority
+            throw new SurrealException("Priority argument must be integer in range 1-3! Not stonks!\n");
+        }
+    }
+
+    private String printOutput(Task task, int size) {
+        String outputString = String.format("Meme Man has added recurring task: %s\n", task);
+        outputString += String.format("Total number of tasks: %d\n", size);
+        return outputString;
+    }
+
+    /**
+     * Executes recurring command to generate new RecurringTask object.
+     *
+     * @param taskManagement TaskManagement object to which RecurringTask is added.
+     * @return String to be printed upon successful addition of RecurringTask.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            RecurringTask addedTask = addRecurring(rawDescription, taskManagement.getDescriptionPool());
+            taskManagement.addTask(addedTask);
+            return printOutput(addedTask, taskManagement.getNumberOfTasks());
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of recurring command.
+     *
+     * @return String describing the recurring command.
+     */
+    public static String displayHelp() {
+        String outputString = "Given a description, first date and how often it repeats, stores recurring task.\n";
+        outputString += "Format of arguments: recurring [description] ; [priority] ; [first date and time] ; ";
+        outputString += "[recurrence]\n";
+        outputString += "[first date and time] must be of the form {YYYY-MM-DD}T{HH:MM:SS} in 24 hour clock\n";
+        outputString += "[recurrence] is daily, weekly, monthly, yearly or every [number] [days/weeks/months/years]\n";
+        return outputString;
+    }
+}
@@ -0,0 +1,95 @@
+package surrealchat.command;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.DateTimeCodec;
+import surrealchat.task.ScheduledSlot;
+import surrealchat.task.TaskManagement;
+import surrealchat.task.TaskScheduler;
+
+/**
+ * Command object for planning day by day when to work on undone deadlines, around events.
+ */
+public class ScheduleCommand extends Command {
+    protected static final LocalTime WORKDAY_START = LocalTime.of(9, 0);
+    protected static final LocalTime WORKDAY_END = LocalTime.of(18, 0);
+    protected final String rawStart;
+
+    /**
+     * Creates new ScheduleCommand object.
+     *
+     * @param rawStart Date and time from which to plan, or empty to plan from now.
+     */
+    public ScheduleCommand(String rawStart) {
+        super("schedule");
+        this.rawStart = rawStart;
+    }
+
+    private String printSchedule(List<ScheduledSlot> slots) {
+        StringBuilder outputString = new StringBuilder("Meme Man's schedule, earliest deadline first:\n");
+        LocalDate date = null;
+        int lateCount = 0;
+        for (ScheduledSlot slot : slots) {
+            if (!slot.getStart().toLocalDate().equals(date)) {
+                date = slot.getStart().toLocalDate();
+                DateTimeCodec.appendDate(outputString, date).append(":\n");
+            }
+            DateTimeCodec.appendTime(outputString, slot.getStart().toLocalTime()).append('-');
+            DateTimeCodec.appendTime(outputString, slot.getEnd().toLocalTime()).append(" | ")
+                    .append(slot.getTaskNumber()).append(". ").append(slot.getTask());
+            if (slot.isLate()) {
+                outputString.append(" | LATE");
+                lateCount++;
+            }
+            outputString.append('\n');
+        }
+        if (lateCount > 0) {
+            return outputString.append(String.format("%d deadlines cannot be met. Not stonks!\n", lateCount))
+                    .toString();
+        }
+        return outputString.append("Every deadline can be met. Stonks!\n").toString();
+    }
+
+    /**
+     * Executes schedule command to plan when to work on undone deadlines.
+     *
+     * @param taskManagement TaskManagement object that stores all Task objects.
+     * @return String of the plan, day by day.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            LocalDateTime start = rawStart.isEmpty()
+                    ? LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES)
+                    : parseDate(rawStart.trim());
+            TaskScheduler scheduler = new TaskScheduler(WORKDAY_START, WORKDAY_END);
+            List<ScheduledSlot> slots = scheduler.schedule(taskManagement.getTaskList(), start);
+            if (slots.isEmpty()) {
+                throw new SurrealException("I have no deadlines to schedule. Not stonks!\n");
+            }
+            return printSchedule(slots);
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of schedule command.
+     *
+     * @return String describing the schedule command.
+     */
+    public static String displayHelp() {
+        String outputString = "Plans day by day when to work on undone deadlines from 09:00 to 18:00, around"
+                + " events.\n";
+        outputString += "Format of arguments: schedule [start (optional)]\n";
+        outputString += "[start] must be of the form {YYYY-MM-DD}T{HH:MM:SS}, and is now if not given.\n";
+        outputString += "Earliest deadlines come first. Tasks take their effort estimate, or 1 hour without one.\n";
+        outputString += "Events last until their end time, or 1 hour without one.\n";
+        outputString += "Deadlines that cannot be met are marked LATE.\n";
+        return outputString;
+    }
+}
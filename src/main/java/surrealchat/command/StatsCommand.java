@@ -0,0 +1,52 @@
+package surrealchat.command;
+
+import surrealchat.metrics.CommandMetrics;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Command object for displaying how long commands have taken.
+ */
+public class StatsCommand extends Command {
+    protected final CommandMetrics commandMetrics;
+
+    /**
+     * Creates new StatsCommand object.
+     *
+     * @param commandMetrics CommandMetrics object holding the recorded latencies.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        super("stats");
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Executes stats command to list latencies of each command.
+     *
+     * @param taskManagement TaskManagement object that handles Task objects relevant to command.
+     * @return String of latencies of each phase of each command and memory saved by sharing descriptions.
+     */
+    public String execute(TaskManagement taskManagement) {
+        String stats = commandMetrics.formatStats();
+        if (stats.isEmpty()) {
+            return "I have no stats yet. Not stonks!\n";
+        }
+        String outputString = "Here are my stats (latencies in microseconds):\n";
+        outputString += stats;
+        outputString += taskManagement.getDescriptionPool().formatReport(taskManagement.getTaskList());
+        outputString += "Hmmst've... Stonks\n";
+        return outputString;
+    }
+
+    /**
+     * Describes usage of stats command.
+     *
+     * @return String describing the stats command.
+     */
+    public static String displayHelp() {
+        String outputString = "Displays count, p50, p99 and max latency of each command, ";
+        outputString += "split into execute, render and persist.\n";
+        outputString += "Also shows the memory saved by sharing repeated task descriptions.\n";
+        outputString += "Format of arguments: stats\n";
+        return outputString;
+    }
+}
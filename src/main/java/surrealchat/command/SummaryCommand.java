@@ -0,0 +1,105 @@
+package surrealchat.command;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.DueDateCounters;
+import surrealchat.task.TaskCode;
+import surrealchat.task.TaskCounters;
+import surrealchat.task.TaskManagement;
+import surrealchat.task.TaskPriority;
+
+/**
+ * Command object for summarising the tasks from their running counts, without looking through the tasks.
+ */
+public class SummaryCommand extends Command {
+    protected final String rawNow;
+
+    /**
+     * Creates new SummaryCommand object.
+     *
+     * @param rawNow Date and time to summarise at, or empty to summarise at the current time.
+     */
+    public SummaryCommand(String rawNow) {
+        super("summary");
+        this.rawNow = rawNow;
+    }
+
+    private static String spellTaskType(String taskType) {
+        switch(taskType) {
+        case TaskCode.TODO_TYPE:
+            return "ToDo";
+        case TaskCode.DEADLINE_TYPE:
+            return "Deadline";
+        case TaskCode.EVENT_TYPE:
+            return "Event";
+        default:
+            return "Recurring";
+        }
+    }
+
+    private static void appendTypeLine(StringBuilder outputString, TaskCounters taskCounters, String type) {
+        outputString.append(spellTaskType(type)).append(": ").append(taskCounters.getCount(type, false))
+                .append(" undone (by priority 3/2/1: ");
+        for (TaskPriority taskPriority : TaskPriority.values()) { //From HIGH to LOW
+            outputString.append(taskCounters.getCount(type, false, taskPriority))
+                    .append((taskPriority == TaskPriority.LOW) ? ")" : "/");
+        }
+        outputString.append(", ").append(taskCounters.getCount(type, true)).append(" done\n");
+    }
+
+    private static void appendDueLine(StringBuilder outputString, String period, int count, int highCount) {
+        outputString.append(String.format("Deadlines due %s: %d (%d of priority 3)\n", period, count, highCount));
+    }
+
+    /**
+     * Executes summary command to count tasks by type, priority and when deadlines are due.
+     *
+     * @param taskManagement TaskManagement object that stores all Task objects.
+     * @return String of the counts.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            LocalDateTime now = rawNow.isEmpty() ? LocalDateTime.now() : parseDate(rawNow.trim());
+            TaskCounters taskCounters = taskManagement.getTaskCounters();
+            if (taskCounters.getTotalCount() == 0) {
+                throw new SurrealException("I have nothing to summarise. Not stonks!\n");
+            }
+            StringBuilder outputString = new StringBuilder("Meme Man's summary of your tasks:\n");
+            outputString.append(String.format("Total: %d undone, %d done\n", taskCounters.getUndoneCount(),
+                    taskCounters.getDoneCount()));
+            for (String type : TaskCounters.TYPES) {
+                appendTypeLine(outputString, taskCounters, type);
+            }
+            DueDateCounters dueDateCounters = taskCounters.getDueDateCounters();
+            LocalDate today = now.toLocalDate();
+            outputString.append(String.format("Deadlines overdue: %d\n", dueDateCounters.getOverdueCount(now)));
+            appendDueLine(outputString, "today", dueDateCounters.getDueOnDayCount(today, null),
+                    dueDateCounters.getDueOnDayCount(today, TaskPriority.HIGH));
+            appendDueLine(outputString, "tomorrow", dueDateCounters.getDueOnDayCount(today.plusDays(1), null),
+                    dueDateCounters.getDueOnDayCount(today.plusDays(1), TaskPriority.HIGH));
+            appendDueLine(outputString, "this week", dueDateCounters.getDueInWeekCount(today, null),
+                    dueDateCounters.getDueInWeekCount(today, TaskPriority.HIGH));
+            appendDueLine(outputString, "next week", dueDateCounters.getDueInWeekCount(today.plusWeeks(1), null),
+                    dueDateCounters.getDueInWeekCount(today.plusWeeks(1), TaskPriority.HIGH));
+            return outputString.append("Hmmst've... Stonks\n").toString();
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of summary command.
+     *
+     * @return String describing the summary command.
+     */
+    public static String displayHelp() {
+        String outputString = "Counts tasks by type, priority and whether they are done, and deadlines by when they"
+                + " are due.\n";
+        outputString += "Format of arguments: summary [date and time (optional)]\n";
+        outputString += "[date and time] must be of the form {YYYY-MM-DD}T{HH:MM:SS}, and is now if not given.\n";
+        outputString += "Weeks run from Monday to Sunday.\n";
+        return outputString;
+    }
+}
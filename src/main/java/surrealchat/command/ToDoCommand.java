@@ -1,6 +1,7 @@
 package surrealchat.command;
 
 import surrealchat.exception.SurrealException;
+import surrealchat.task.DescriptionPool;
 import surrealchat.task.Task;
 import surrealchat.task.TaskManagement;
 import surrealchat.task.TaskPriority;
@@ -22,7 +23,8 @@ public class ToDoCommand extends Command {
         this.taskDescription = taskDescription;
     }
 
-    private ToDoTask addToDo(String taskDescription) throws SurrealException {
+    private ToDoTask addToDo(String taskDescription, DescriptionPool descriptionPool)
+            throws SurrealException {
         if (taskDescription.isEmpty()) {
             throw new SurrealException("Empty todo task description. Not stonks!\n");
         }
@@ -30,7 +32,8 @@ public class ToDoCommand extends Command {
             String[] descriptionSplitArray = taskDescription.split(";");
             int intPriority = Integer.valueOf(descriptionSplitArray[1].trim());
             TaskPriority taskPriority = TaskPriority.getPriorityType(intPriority);
-            return ToDoTask.createNewToDoTask(descriptionSplitArray[0].trim(), taskPriority);
+            String description = descriptionPool.canonicalize(descriptionSplitArray[0].trim());
+            return ToDoTask.createNewToDoTask(description, taskPriority);
         } catch (ArrayIndexOutOfBoundsException e) { //Happens if split does not occur
             throw new SurrealException("Wrong formatting. Did you forget to put ';'? Not stonks!\n");
         } catch (NumberFormatException e) { //Happens if correct int is not passed in for priority
@@ -52,7 +55,7 @@ public class ToDoCommand extends Command {
      */
     public String execute(TaskManagement taskManagement) {
         try {
-            ToDoTask addedTask = addToDo(taskDescription);
+            ToDoTask addedTask = addToDo(taskDescription, taskManagement.getDescriptionPool());
             taskManagement.addTask(addedTask);
             return printOutput(addedTask, taskManagement.getNumberOfTasks());
         } catch (SurrealException e) {
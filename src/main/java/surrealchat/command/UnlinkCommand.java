@@ -0,0 +1,49 @@
+package surrealchat.command;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Command object for removing the link between two tasks.
+ */
+public class UnlinkCommand extends Command {
+    protected final String rawDescription;
+
+    /**
+     * Creates new UnlinkCommand object.
+     *
+     * @param rawDescription Description of link in the form [number] blocks [number].
+     */
+    public UnlinkCommand(String rawDescription) {
+        super("unlink");
+        this.rawDescription = rawDescription;
+    }
+
+    /**
+     * Executes unlink command so that one task no longer blocks another.
+     *
+     * @param taskManagement TaskManagement object where the tasks are stored.
+     * @return String output upon successful unlinking.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            int[] link = LinkCommand.parseLink(rawDescription);
+            taskManagement.unlinkTasks(link[0], link[1]);
+            return "Meme Man has unlinked the tasks, so this no longer holds:\n"
+                    + LinkCommand.printLink(taskManagement, link);
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of unlink command.
+     *
+     * @return String describing the unlink command.
+     */
+    public static String displayHelp() {
+        String outputString = "Removes a link made by the link command.\n";
+        outputString += "Format of arguments: unlink [task number] blocks [task number]\n";
+        return outputString;
+    }
+}
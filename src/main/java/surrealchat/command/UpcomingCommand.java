@@ -0,0 +1,114 @@
+package surrealchat.command;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.DateTimeCodec;
+import surrealchat.task.DeadlineTask;
+import surrealchat.task.EventTask;
+import surrealchat.task.RecurringTask;
+import surrealchat.task.Task;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Command object for listing deadlines, events and occurrences of recurring tasks coming up within some days.
+ */
+public class UpcomingCommand extends Command {
+    protected static final int DEFAULT_DAYS = 7;
+    protected final String rawDays;
+
+    /**
+     * Creates new UpcomingCommand object.
+     *
+     * @param rawDays Number of days ahead to look, or empty for the default of 7.
+     */
+    public UpcomingCommand(String rawDays) {
+        super("upcoming");
+        this.rawDays = rawDays;
+    }
+
+    private static Stream<LocalDateTime> getDatesWithin(Task task, LocalDateTime from, LocalDateTime to) {
+        if (task.isDone()) {
+            return Stream.empty();
+        } else if (task instanceof RecurringTask) {
+            return ((RecurringTask) task).getOccurrences(from, to);
+        }
+        LocalDateTime date;
+        if (task instanceof DeadlineTask) {
+            date = ((DeadlineTask) task).getDeadline();
+        } else if (task instanceof EventTask) {
+            date = ((EventTask) task).getEventDate();
+        } else {
+            return Stream.empty();
+        }
+        return (date.isBefore(from) || date.isAfter(to)) ? Stream.empty() : Stream.of(date);
+    }
+
+    /**
+     * Lists upcoming dates of tasks within a period, earliest first.
+     *
+     * @param taskList Tasks to look through.
+     * @param from Start of the period, inclusive.
+     * @param to End of the period, inclusive.
+     * @return Lines of date, task number and task.
+     */
+    protected static List<String> getUpcoming(List<Task> taskList, LocalDateTime from, LocalDateTime to) {
+        List<Map.Entry<LocalDateTime, String>> upcoming = new ArrayList<>();
+        for (int i = 1; i <= taskList.size(); i++) {
+            Task task = taskList.get(i - 1);
+            String taskString = i + ". " + task;
+            getDatesWithin(task, from, to).forEach(date -> upcoming.add(Map.entry(date, taskString)));
+        }
+        upcoming.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+        List<String> upcomingLines = new ArrayList<>();
+        for (Map.Entry<LocalDateTime, String> entry : upcoming) {
+            StringBuilder line = new StringBuilder();
+            DateTimeCodec.appendDate(line, entry.getKey().toLocalDate()).append(", ");
+            DateTimeCodec.appendTime(line, entry.getKey().toLocalTime()).append(" | ").append(entry.getValue());
+            upcomingLines.add(line.append('\n').toString());
+        }
+        return upcomingLines;
+    }
+
+    /**
+     * Executes upcoming command to list what is coming up.
+     *
+     * @param taskManagement TaskManagement object where Tasks are stored.
+     * @return String of upcoming dates and their tasks.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            int days = rawDays.isEmpty() ? DEFAULT_DAYS : getInputNumber(rawDays);
+            if (days <= 0) {
+                throw new SurrealException("Number of days must be positive. Not stonks!\n");
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<String> upcomingLines = getUpcoming(taskManagement.getTaskList(), now, now.plusDays(days));
+            if (upcomingLines.isEmpty()) {
+                return String.format("Nothing is coming up in the next %d days. Not stonks!\n", days);
+            }
+            StringBuilder outputString = new StringBuilder();
+            outputString.append(String.format("Coming up in the next %d days:\n", days));
+            upcomingLines.forEach(outputString::append);
+            return outputString.append("Hmmst've... Stonks\n").toString();
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of upcoming command.
+     *
+     * @return String describing the upcoming command.
+     */
+    public static String displayHelp() {
+        String outputString = "Lists deadlines, events and occurrences of recurring tasks coming up, earliest first.\n";
+        outputString += "Format of arguments: upcoming [number of days (optional, 7 if not given)]\n";
+        return outputString;
+    }
+}
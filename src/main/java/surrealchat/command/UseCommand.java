@@ -0,0 +1,60 @@
+package surrealchat.command;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.TaskManagement;
+import surrealchat.workspace.Workspace;
+import surrealchat.workspace.WorkspaceManager;
+
+/**
+ * Command object for switching to another workspace.
+ */
+public class UseCommand extends Command {
+    protected final String workspaceName;
+    protected final WorkspaceManager workspaceManager;
+
+    /**
+     * Creates new UseCommand object.
+     *
+     * @param workspaceName Name of workspace to switch to.
+     * @param workspaceManager WorkspaceManager object that handles all workspaces.
+     */
+    public UseCommand(String workspaceName, WorkspaceManager workspaceManager) {
+        super("use");
+        this.workspaceName = workspaceName;
+        this.workspaceManager = workspaceManager;
+    }
+
+    private String printOutput(Workspace workspace) {
+        String outputString = String.format("Meme Man is now using workspace: %s\n", workspace.getName());
+        outputString += String.format("Total number of tasks: %d\n",
+                workspace.getTaskManagement().getNumberOfTasks());
+        return outputString;
+    }
+
+    /**
+     * Executes use command to switch to another workspace.
+     *
+     * @param taskManagement TaskManagement object of the workspace currently in use.
+     * @return String to be printed upon successful switch.
+     */
+    public String execute(TaskManagement taskManagement) {
+        try {
+            Workspace workspace = workspaceManager.switchTo(workspaceName);
+            return printOutput(workspace);
+        } catch (SurrealException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Describes usage of use command.
+     *
+     * @return String describing the use command.
+     */
+    public static String displayHelp() {
+        String outputString = "Switches to another task list, creating it if it does not exist yet.\n";
+        outputString += "Format of arguments: use [workspace name]\n";
+        outputString += String.format("The original task list is called %s.\n", WorkspaceManager.DEFAULT_WORKSPACE);
+        return outputString;
+    }
+}
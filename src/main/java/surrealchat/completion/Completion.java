@@ -0,0 +1,43 @@
+package surrealchat.completion;
+
+/**
+ * A suggested completion of what the user is typing.
+ */
+public class Completion {
+    protected final String text;
+    protected final String label;
+
+    /**
+     * Creates new Completion object.
+     *
+     * @param text Whole input once completed.
+     * @param label What to show the user for this completion.
+     */
+    public Completion(String text, String label) {
+        this.text = text;
+        this.label = label;
+    }
+
+    /**
+     * Obtains the whole input once completed.
+     *
+     * @return Completed input.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Obtains what to show the user for this completion.
+     *
+     * @return Label of completion.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,162 @@
+package surrealchat.completion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import surrealchat.task.Task;
+import surrealchat.task.TaskChangeEvent;
+import surrealchat.task.TaskChangeListener;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Suggests completions of command words, task numbers and words from task descriptions as the user types.
+ * Description words are kept in a prefix trie, which is updated by task change events rather than rebuilt.
+ * Not safe for use from many threads at once, so changes should be delivered on the thread that asks for completions.
+ */
+public class CompletionIndex implements TaskChangeListener {
+    public static final int DEFAULT_LIMIT = 8;
+    private static final Set<String> NUMBERED_COMMANDS = Set.of("done", "delete", "edit");
+    private static final Pattern TASK_NUMBER_PREFIX = Pattern.compile("[1-9][0-9]{0,8}|");
+    private static final int MIN_WORD_LENGTH = 2; //Shorter words are quicker to type than to pick
+
+    private final PrefixTrie commandTrie = new PrefixTrie();
+    private final PrefixTrie wordTrie = new PrefixTrie();
+    private final TaskManagement taskManagement;
+
+    /**
+     * Creates new CompletionIndex object with no description words yet.
+     *
+     * @param commands Command words that can be completed.
+     * @param taskManagement TaskManagement object whose task numbers can be completed.
+     */
+    public CompletionIndex(Collection<String> commands, TaskManagement taskManagement) {
+        commands.forEach(commandTrie::add);
+        this.taskManagement = taskManagement;
+    }
+
+    private void forEachWord(Task task, boolean isAdded) {
+        String description = task.getDescription();
+        int wordStart = 0;
+        for (int i = 0; i <= description.length(); i++) {
+            if (i < description.length() && Character.isLetterOrDigit(description.charAt(i))) {
+                continue;
+            }
+            if (i - wordStart >= MIN_WORD_LENGTH) {
+                String word = description.substring(wordStart, i);
+                if (isAdded) {
+                    wordTrie.add(word);
+                } else {
+                    wordTrie.remove(word);
+                }
+            }
+            wordStart = i + 1;
+        }
+    }
+
+    /**
+     * Adds the description words of tasks, such as those already in the list when the index is made.
+     *
+     * @param tasks Tasks to be added.
+     */
+    public void addTasks(List<Task> tasks) {
+        tasks.forEach(task -> forEachWord(task, true));
+    }
+
+    /**
+     * Updates description words by the changes made, taking time proportional to the changes.
+     *
+     * @param changes Changes made, in order.
+     */
+    @Override
+    public void onTasksChanged(List<TaskChangeEvent> changes) {
+        for (TaskChangeEvent change : changes) {
+            if (change.getKind() == TaskChangeEvent.Kind.CLEARED) {
+                wordTrie.clear();
+                continue;
+            }
+            if (change.getOldTask() != null) {
+                forEachWord(change.getOldTask(), false);
+            }
+            if (change.getNewTask() != null) {
+                forEachWord(change.getNewTask(), true);
+            }
+        }
+    }
+
+    /**
+     * Obtains the number of distinct description words known.
+     *
+     * @return Number of distinct words.
+     */
+    public int getNumberOfWords() {
+        return wordTrie.size();
+    }
+
+    private List<Completion> completeTaskNumbers(String command, String prefix, int limit) {
+        List<Completion> completions = new ArrayList<>();
+        int numberOfTasks = taskManagement.getNumberOfTasks();
+        //Numbers starting with prefix in ascending order: the prefix itself, then with one more digit, and so on
+        long low = prefix.isEmpty() ? 1 : Long.parseLong(prefix);
+        long high = prefix.isEmpty() ? 9 : low;
+        try {
+            for (; low <= numberOfTasks && completions.size() < limit; low *= 10, high = high * 10 + 9) {
+                for (long number = low; number <= Math.min(high, numberOfTasks) && completions.size() < limit;
+                        number++) {
+                    Task task = taskManagement.getTask((int) number);
+                    completions.add(new Completion(command + " " + number, number + ". " + task));
+                }
+            }
+        } catch (IndexOutOfBoundsException e) { //Tasks were deleted meanwhile
+            return completions;
+        }
+        return completions;
+    }
+
+    private List<Completion> completeWord(String input, int limit) {
+        int wordStart = input.length();
+        while (wordStart > 0 && Character.isLetterOrDigit(input.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String prefix = input.substring(wordStart);
+        List<Completion> completions = new ArrayList<>();
+        if (prefix.isEmpty()) {
+            return completions;
+        }
+        for (String word : wordTrie.complete(prefix, limit + 1)) {
+            if (word.length() > prefix.length() && completions.size() < limit) {
+                completions.add(new Completion(input.substring(0, wordStart) + word, word));
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Suggests completions of an input: command words while the first word is typed, task numbers after commands
+     * that take one, and description words otherwise.
+     *
+     * @param input What the user has typed so far.
+     * @param limit Maximum number of completions.
+     * @return Completions, best first. Empty if there are none.
+     */
+    public List<Completion> complete(String input, int limit) {
+        int commandEnd = input.indexOf(' ');
+        if (input.isEmpty()) {
+            return new ArrayList<>();
+        } else if (commandEnd < 0) {
+            List<Completion> completions = new ArrayList<>();
+            for (String command : commandTrie.complete(input, limit)) {
+                completions.add(new Completion(command + " ", command));
+            }
+            return completions;
+        }
+        String command = input.substring(0, commandEnd);
+        String argument = input.substring(commandEnd + 1);
+        if (NUMBERED_COMMANDS.contains(command) && TASK_NUMBER_PREFIX.matcher(argument).matches()) {
+            return completeTaskNumbers(command, argument, limit);
+        }
+        return completeWord(input, limit);
+    }
+}
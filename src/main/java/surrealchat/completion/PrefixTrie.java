@@ -0,0 +1,185 @@
+package surrealchat.completion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Counts words in a prefix trie, so that the words starting with a prefix can be found without scanning every word.
+ * Words are matched ignoring case, and are given back as first spelt.
+ * Not safe for use from many threads at once.
+ */
+public class PrefixTrie {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+
+    /**
+     * A node of the trie. Children are kept in arrays sorted by character, which take far less memory than maps.
+     */
+    private static class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int count; //Times the word ending here was added
+        private int wordCount; //Distinct words ending here or below
+        private String word; //Spelling of the word ending here
+
+        private Node getChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return (index >= 0) ? children[index] : null;
+        }
+
+        private Node getOrAddChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        private void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            int remaining = keys.length - index - 1;
+            char[] newKeys = (keys.length == 1) ? NO_KEYS : new char[keys.length - 1];
+            Node[] newChildren = (children.length == 1) ? NO_CHILDREN : new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, remaining);
+            System.arraycopy(children, index + 1, newChildren, index, remaining);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.getChild(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Adds one occurrence of a word.
+     *
+     * @param word Word to be added. Must not be empty.
+     */
+    public void add(String word) {
+        String key = word.toLowerCase();
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+        }
+        node.count++;
+        if (node.count > 1) {
+            return;
+        }
+        node.word = word; //New word, so count it on the way down
+        node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node.wordCount++;
+            node = node.getChild(key.charAt(i));
+        }
+        node.wordCount++;
+    }
+
+    /**
+     * Removes one occurrence of a word. Branches left without words are dropped.
+     *
+     * @param word Word to be removed.
+     * @return True if the word was there, false otherwise.
+     */
+    public boolean remove(String word) {
+        String key = word.toLowerCase();
+        Node node = find(key);
+        if (node == null || node.count == 0) {
+            return false;
+        }
+        node.count--;
+        if (node.count > 0) {
+            return true;
+        }
+        node.word = null;
+        node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node.wordCount--;
+            Node child = node.getChild(key.charAt(i));
+            if (child.wordCount == 1) { //Only the removed word is below, so drop the whole branch
+                node.removeChild(key.charAt(i));
+                return true;
+            }
+            node = child;
+        }
+        node.wordCount--;
+        return true;
+    }
+
+    /**
+     * Obtains the number of times a word was added and not removed.
+     *
+     * @param word Word to be looked up.
+     * @return Number of occurrences of word.
+     */
+    public int getCount(String word) {
+        Node node = find(word.toLowerCase());
+        return (node == null) ? 0 : node.count;
+    }
+
+    /**
+     * Obtains the number of distinct words.
+     *
+     * @return Number of distinct words.
+     */
+    public int size() {
+        return root.wordCount;
+    }
+
+    /**
+     * Removes every word.
+     */
+    public void clear() {
+        root.keys = NO_KEYS;
+        root.children = NO_CHILDREN;
+        root.count = 0;
+        root.wordCount = 0;
+        root.word = null;
+    }
+
+    /**
+     * Finds words starting with a prefix in alphabetical order. Only as many nodes as needed for the words found
+     * are visited, however many words share the prefix.
+     *
+     * @param prefix Prefix of words, which is matched ignoring case.
+     * @param limit Maximum number of words to be found.
+     * @return Words starting with prefix, as first spelt.
+     */
+    public List<String> complete(String prefix, int limit) {
+        List<String> words = new ArrayList<>(Math.min(limit, 16));
+        Node node = find(prefix.toLowerCase());
+        if (node != null && limit > 0) {
+            collectWords(node, words, limit);
+        }
+        return words;
+    }
+
+    private static void collectWords(Node node, List<String> words, int limit) {
+        if (node.count > 0) {
+            words.add(node.word);
+        }
+        for (int i = 0; i < node.children.length && words.size() < limit; i++) {
+            collectWords(node.children[i], words, limit);
+        }
+    }
+}
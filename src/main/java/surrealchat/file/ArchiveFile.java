@@ -0,0 +1,91 @@
+package surrealchat.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Handles the archive of a task file, where tasks that are rarely looked at are kept apart from the active ones.
+ * Tasks are only ever appended to the archive, which is laid out as a segmented task file so that a page of it can
+ * be read on its own. It is only read when asked for.
+ */
+public class ArchiveFile {
+    public static final String ARCHIVE_FILE_EXTENSION = ".archive";
+    protected final File file;
+    protected final SegmentedTaskFile segmentedFile;
+
+    /**
+     * Creates a new ArchiveFile instance.
+     *
+     * @param file File object with specified file path of archive.
+     */
+    public ArchiveFile(File file) {
+        this.file = file;
+        this.segmentedFile = new SegmentedTaskFile(file);
+    }
+
+    /**
+     * Obtains the archive file kept beside a task file, such as tasks.archive for tasks.txt.
+     *
+     * @param taskFile The task file.
+     * @return File of archive.
+     */
+    public static File getArchiveFileFor(File taskFile) {
+        String name = taskFile.getName();
+        int extensionStart = name.lastIndexOf('.');
+        String baseName = (extensionStart > 0) ? name.substring(0, extensionStart) : name;
+        return new File(taskFile.getAbsoluteFile().getParentFile(), baseName + ARCHIVE_FILE_EXTENSION);
+    }
+
+    /**
+     * Obtains the size of the archive on disk.
+     *
+     * @return Size of archive in bytes, or 0 if it does not exist.
+     */
+    public long getFileSize() {
+        return file.length();
+    }
+
+    /**
+     * Appends tasks to the end of the archive, and only returns once they are on disk.
+     *
+     * @param fileTaskList List of tasks in file string format.
+     * @throws IOException If the archive cannot be written.
+     */
+    public void append(List<String> fileTaskList) throws IOException {
+        segmentedFile.append(fileTaskList);
+    }
+
+    /**
+     * Obtains the number of tasks in the archive.
+     *
+     * @return Number of archived tasks.
+     * @throws IOException If the archive cannot be read.
+     */
+    public int getNumberOfTasks() throws IOException {
+        return segmentedFile.getNumberOfTasks();
+    }
+
+    /**
+     * Reads a range of archived tasks without reading the rest of the archive.
+     *
+     * @param firstNumber Number of first task to be read, starting from 1.
+     * @param lastNumber Number of last task to be read, inclusive.
+     * @return List of tasks in file string format.
+     * @throws IOException If the archive cannot be read.
+     */
+    public List<String> readTasks(int firstNumber, int lastNumber) throws IOException {
+        return segmentedFile.readTasks(firstNumber, lastNumber);
+    }
+
+    /**
+     * Reads the archive one task at a time, oldest first.
+     *
+     * @param action Action to be run on each task in file string format.
+     * @throws IOException If the archive cannot be read.
+     */
+    public void forEachLine(Consumer<String> action) throws IOException {
+        segmentedFile.forEachTask(action);
+    }
+}
@@ -0,0 +1,128 @@
+package surrealchat.file;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Handles a task file saved as a deflate-compressed snapshot, which is much smaller than plain text for the repeated
+ * markers, dates and descriptions in task files.
+ * The file starts with a magic header, followed by the plain text layout compressed with java.util.zip.
+ */
+public class CompressedTaskFile {
+    public static final int DEFAULT_LEVEL = Deflater.BEST_SPEED;
+    private static final byte[] HEADER_MAGIC = "SCZIP001".getBytes(StandardCharsets.US_ASCII);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final File file;
+    protected final int level;
+
+    /**
+     * Creates a new CompressedTaskFile instance.
+     *
+     * @param file File object with specified file path.
+     * @param level Deflate compression level from 1 (fastest) to 9 (smallest).
+     */
+    public CompressedTaskFile(File file, int level) {
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level must be from 1 to 9. Not stonks!\n");
+        }
+        this.file = file;
+        this.level = level;
+    }
+
+    /**
+     * Creates a new CompressedTaskFile instance using the fastest compression level.
+     *
+     * @param file File object with specified file path.
+     */
+    public CompressedTaskFile(File file) {
+        this(file, DEFAULT_LEVEL);
+    }
+
+    /**
+     * Checks whether a file starts with the magic header of a compressed task file.
+     *
+     * @param file File to be checked.
+     * @return True if file is a compressed task file, false otherwise.
+     * @throws IOException If file cannot be read.
+     */
+    public static boolean isCompressed(File file) throws IOException {
+        if (file.length() < HEADER_MAGIC.length) {
+            return false;
+        }
+        try (InputStream input = new FileInputStream(file)) {
+            return Arrays.equals(input.readNBytes(HEADER_MAGIC.length), HEADER_MAGIC);
+        }
+    }
+
+    /**
+     * Replaces the file with a compressed snapshot of the given tasks. The snapshot is written beside the old file
+     * and then moved over it, so the old tasks are kept if writing fails.
+     *
+     * @param fileTaskList List of tasks in file string format.
+     * @throws IOException If the file cannot be written.
+     */
+    public synchronized void write(List<String> fileTaskList) throws IOException {
+        File tempFile = new File(file.getPath() + ".tmp");
+        Deflater deflater = new Deflater(level);
+        try (FileOutputStream fileOutput = new FileOutputStream(tempFile)) {
+            fileOutput.write(HEADER_MAGIC);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new DeflaterOutputStream(fileOutput, deflater, BUFFER_SIZE), StandardCharsets.UTF_8),
+                    BUFFER_SIZE);
+            for (String fileTask : fileTaskList) {
+                writer.write(fileTask);
+                writer.write('\n');
+            }
+            writer.close();
+        } finally {
+            deflater.end();
+        }
+        try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads every task in the snapshot.
+     *
+     * @return List of tasks in file string format.
+     * @throws IOException If the file cannot be read, is damaged or is not a compressed task file.
+     */
+    public synchronized List<String> read() throws IOException {
+        try (InputStream fileInput = new FileInputStream(file)) {
+            if (!Arrays.equals(fileInput.readNBytes(HEADER_MAGIC.length), HEADER_MAGIC)) {
+                throw new IOException("Not a compressed task file. Not stonks!\n");
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new InflaterInputStream(fileInput), StandardCharsets.UTF_8), BUFFER_SIZE);
+            List<String> fileTasks = new ArrayList<>();
+            String fileTask;
+            while ((fileTask = reader.readLine()) != null) {
+                fileTasks.add(fileTask);
+            }
+            return fileTasks;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package surrealchat.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Handles a comma-separated values file of tasks, as opened by spreadsheets.
+ * The first row names the columns, which may come in any order. Fields holding commas, quotes or line breaks are
+ * quoted, with quotes inside doubled.
+ */
+public class CsvExchangeFile extends ExchangeFile {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final StringBuilder field = new StringBuilder();
+    private int lineNumber;
+
+    /**
+     * Creates a new CsvExchangeFile instance.
+     *
+     * @param file File object with specified file path.
+     */
+    public CsvExchangeFile(File file) {
+        super(file);
+    }
+
+    @Override
+    protected void writeHeader(Writer writer) throws IOException {
+        writer.write(String.join(String.valueOf(SEPARATOR), FIELDS));
+        writer.write('\n');
+    }
+
+    @Override
+    protected void writeRecord(Writer writer, String[] record, boolean isFirst) throws IOException {
+        for (int i = 0; i < record.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(writer, record[i]);
+        }
+        writer.write('\n');
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+        boolean isQuoted = false;
+        for (int i = 0; i < value.length() && !isQuoted; i++) {
+            char c = value.charAt(i);
+            isQuoted = (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r');
+        }
+        if (!isQuoted) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    @Override
+    protected void writeFooter(Writer writer) {
+        //Nothing comes after the last row
+    }
+
+    @Override
+    protected synchronized void readRecords(Reader reader, Consumer<String[]> action) throws IOException {
+        lineNumber = 1;
+        List<String> row = new ArrayList<>();
+        if (!readRow(reader, row)) {
+            return; //Empty file
+        }
+        int[] fieldIndexes = new int[row.size()]; //Column position to index in record
+        for (int i = 0; i < row.size(); i++) {
+            fieldIndexes[i] = getFieldIndex(row.get(i));
+        }
+        int rowLineNumber = lineNumber;
+        for (; readRow(reader, row); rowLineNumber = lineNumber) {
+            if (row.size() == 1 && row.get(0).isEmpty()) {
+                continue; //Blank line
+            }
+            if (row.size() > fieldIndexes.length) {
+                throw new IllegalArgumentException(String.format(
+                        "Row on line %d has more fields than there are columns. Not stonks!\n", rowLineNumber));
+            }
+            String[] record = new String[FIELDS.size()];
+            Arrays.fill(record, "");
+            for (int i = 0; i < row.size(); i++) {
+                if (fieldIndexes[i] >= 0) {
+                    record[fieldIndexes[i]] = row.get(i);
+                }
+            }
+            action.accept(record);
+        }
+    }
+
+    /**
+     * Reads the next row of fields, which may span more than one line if a quoted field holds line breaks.
+     *
+     * @param reader Reader of file.
+     * @param row List to be filled with the fields of the row.
+     * @return False if the end of the file was reached before the row, true otherwise.
+     * @throws IOException If the file cannot be read.
+     */
+    private boolean readRow(Reader reader, List<String> row) throws IOException {
+        row.clear();
+        field.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException(String.format(
+                            "Quoted field is never closed by line %d. Not stonks!\n", lineNumber));
+                } else if (c == QUOTE) {
+                    c = reader.read();
+                    if (c != QUOTE) { //Closing quote, so look at the next character as unquoted
+                        isQuoted = false;
+                        continue;
+                    }
+                }
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            } else if (c == QUOTE && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                row.add(field.toString());
+                lineNumber += (c == '\n') ? 1 : 0;
+                return true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package surrealchat.file;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Handles a file for moving tasks in and out of SurrealChat in a layout other programs understand.
+ * Each task is a record of the fields in FIELDS, in that order, with empty strings for fields that do not apply.
+ * Records are read and written one at a time, so the size of the file does not matter.
+ */
+public abstract class ExchangeFile {
+    public static final String CSV_FORMAT = "csv";
+    public static final String JSON_FORMAT = "json";
+    public static final List<String> FIELDS = List.of(
+            "type", "done", "priority", "description", "date", "repeat", "effort", "end");
+    protected static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final File file;
+
+    /**
+     * Creates a new ExchangeFile instance.
+     *
+     * @param file File object with specified file path.
+     */
+    protected ExchangeFile(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Creates an ExchangeFile of the given layout.
+     *
+     * @param file File object with specified file path.
+     * @param format Layout of file: csv or json.
+     * @return ExchangeFile of the given layout.
+     * @throws IllegalArgumentException If format is not csv or json.
+     */
+    public static ExchangeFile of(File file, String format) {
+        switch(format.toLowerCase()) {
+        case CSV_FORMAT:
+            return new CsvExchangeFile(file);
+        case JSON_FORMAT:
+            return new JsonExchangeFile(file);
+        default:
+            throw new IllegalArgumentException("File format must be csv or json. Not stonks!\n");
+        }
+    }
+
+    /**
+     * Works out the layout of a file from its name: json for .json files and csv otherwise.
+     *
+     * @param file File to be checked.
+     * @return Layout of file.
+     */
+    public static String getFormatFor(File file) {
+        return file.getName().toLowerCase().endsWith("." + JSON_FORMAT) ? JSON_FORMAT : CSV_FORMAT;
+    }
+
+    /**
+     * Obtains the path of the file.
+     *
+     * @return Path of file.
+     */
+    public String getPath() {
+        return file.getPath();
+    }
+
+    /**
+     * Obtains the index of a field in a record.
+     *
+     * @param field Name of field.
+     * @return Index of field, or -1 if there is no such field.
+     */
+    protected static int getFieldIndex(String field) {
+        return FIELDS.indexOf(field.trim().toLowerCase());
+    }
+
+    /**
+     * Writes records into the file, replacing what was there. The records are written beside the old file and then
+     * moved over it, so a failed write leaves no half-written file behind.
+     *
+     * @param records Records to be written, each holding the fields in FIELDS order.
+     * @return Number of records written.
+     * @throws IOException If the file cannot be written.
+     */
+    public int write(Iterator<String[]> records) throws IOException {
+        File tempFile = new File(file.getPath() + ".tmp");
+        int recordCount = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(tempFile), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            writeHeader(writer);
+            while (records.hasNext()) {
+                writeRecord(writer, records.next(), recordCount == 0);
+                recordCount++;
+            }
+            writeFooter(writer);
+        } catch (IOException e) {
+            tempFile.delete();
+            throw e;
+        }
+        try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return recordCount;
+    }
+
+    /**
+     * Reads the file one record at a time, in file order.
+     *
+     * @param action Action to be run on each record, which holds the fields in FIELDS order.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not laid out correctly.
+     */
+    public void forEachRecord(Consumer<String[]> action) throws IOException {
+        try (Reader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            readRecords(reader, action);
+        }
+    }
+
+    /**
+     * Writes what comes before the first record.
+     *
+     * @param writer Writer of file.
+     * @throws IOException If the file cannot be written.
+     */
+    protected abstract void writeHeader(Writer writer) throws IOException;
+
+    /**
+     * Writes one record.
+     *
+     * @param writer Writer of file.
+     * @param record Fields of record in FIELDS order.
+     * @param isFirst Whether this is the first record in the file.
+     * @throws IOException If the file cannot be written.
+     */
+    protected abstract void writeRecord(Writer writer, String[] record, boolean isFirst) throws IOException;
+
+    /**
+     * Writes what comes after the last record.
+     *
+     * @param writer Writer of file.
+     * @throws IOException If the file cannot be written.
+     */
+    protected abstract void writeFooter(Writer writer) throws IOException;
+
+    /**
+     * Reads every record from the file.
+     *
+     * @param reader Buffered reader of file.
+     * @param action Action to be run on each record.
+     * @throws IOException If the file cannot be read.
+     */
+    protected abstract void readRecords(Reader reader, Consumer<String[]> action) throws IOException;
+}
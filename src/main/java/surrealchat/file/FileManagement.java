@@ -3,24 +3,61 @@ package surrealchat.file;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
+import surrealchat.metrics.FileLoadEvent;
+import surrealchat.metrics.FileSaveEvent;
 
 /**
  * Handles file save/load operations.
+ * Task files are saved as plain text, one task per line, unless the system property surrealchat.file.format is set to
+ * segmented or compressed. Every layout is recognised when loading.
  */
 public class FileManagement {
+    public static final String FORMAT_PROPERTY = "surrealchat.file.format";
+    public static final String COMPRESSION_LEVEL_PROPERTY = "surrealchat.file.compression.level";
+    public static final String TEXT_FORMAT = "text";
+    public static final String SEGMENTED_FORMAT = "segmented";
+    public static final String COMPRESSED_FORMAT = "compressed";
     protected File file;
+    protected final String fileFormat;
 
     /**
-     * Creates a new FileManagement instance.
+     * Creates a new FileManagement instance, saving in the layout chosen by system property.
      *
      * @param file File object with specified file path for save/load.
      */
     public FileManagement(File file) {
+        this(file, System.getProperty(FORMAT_PROPERTY, TEXT_FORMAT).toLowerCase());
+    }
+
+    /**
+     * Creates a new FileManagement instance.
+     *
+     * @param file File object with specified file path for save/load.
+     * @param fileFormat Layout to save in: text, segmented or compressed.
+     */
+    public FileManagement(File file, String fileFormat) {
+        if (!fileFormat.equals(TEXT_FORMAT) && !fileFormat.equals(SEGMENTED_FORMAT)
+                && !fileFormat.equals(COMPRESSED_FORMAT)) {
+            throw new IllegalArgumentException("File format must be text, segmented or compressed. Not stonks!\n");
+        }
         this.file = file;
+        this.fileFormat = fileFormat;
+    }
+
+    /**
+     * Obtains the size of the file on disk.
+     *
+     * @return Size of file in bytes, or 0 if it does not exist.
+     */
+    public long getFileSize() {
+        return file.length();
     }
 
     /**
@@ -30,34 +67,77 @@ public class FileManagement {
      * @throws IOException If error arises during file creation process.
      */
     public List<String> loadTaskFile() throws IOException {
+        FileLoadEvent loadEvent = new FileLoadEvent();
+        loadEvent.begin();
         //Create file if not available and scan the file
         file.createNewFile();
-        Scanner fileScanner = new Scanner(file);
-
-        //Obtain task lines
         List<String> fileLines = new ArrayList<String>();
-        while (fileScanner.hasNext()) {
-            String nextTask = fileScanner.nextLine();
-            fileLines.add(nextTask);
+        if (SegmentedTaskFile.isSegmented(file)) {
+            new SegmentedTaskFile(file).forEachTask(fileLines::add);
+        } else if (CompressedTaskFile.isCompressed(file)) {
+            fileLines = new CompressedTaskFile(file).read();
+        } else {
+            //Obtain task lines
+            Scanner fileScanner = new Scanner(file);
+            while (fileScanner.hasNext()) {
+                String nextTask = fileScanner.nextLine();
+                fileLines.add(nextTask);
+            }
+            fileScanner.close();
+        }
+        if (loadEvent.shouldCommit()) {
+            loadEvent.setPath(file.getPath());
+            loadEvent.setLinesRead(fileLines.size());
+            loadEvent.setBytesRead(file.length());
+            loadEvent.commit();
         }
         return fileLines;
     }
 
     /**
-     * Writes tasks into file to be saved.
+     * Writes tasks into file to be saved. Concurrent saves are written one after another.
+     * The old file is kept if writing fails.
      *
      * @param fileTaskList List of tasks to be keyed into the file.
+     * @return Whether the tasks were saved.
      */
-    public void saveTasksToFile(List<String> fileTaskList) {
+    public synchronized boolean saveTasksToFile(List<String> fileTaskList) {
+        FileSaveEvent saveEvent = new FileSaveEvent();
+        saveEvent.begin();
         try {
             //Write the tasks to file
-            FileWriter fw = new FileWriter(file);
-            for (String s : fileTaskList) {
-                fw.write(String.format("%s\n", s));
+            if (fileFormat.equals(SEGMENTED_FORMAT)) {
+                new SegmentedTaskFile(file).write(fileTaskList);
+            } else if (fileFormat.equals(COMPRESSED_FORMAT)) {
+                int level = Integer.getInteger(COMPRESSION_LEVEL_PROPERTY, CompressedTaskFile.DEFAULT_LEVEL);
+                new CompressedTaskFile(file, level).write(fileTaskList);
+            } else {
+                File tempFile = new File(file.getPath() + ".tmp");
+                try (FileWriter fw = new FileWriter(tempFile)) {
+                    for (String s : fileTaskList) {
+                        fw.write(String.format("%s\n", s));
+                    }
+                } catch (IOException e) {
+                    Files.deleteIfExists(tempFile.toPath());
+                    throw e;
+                }
+                try {
+                    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (saveEvent.shouldCommit()) {
+                saveEvent.setPath(file.getPath());
+                saveEvent.setTaskCount(fileTaskList.size());
+                saveEvent.setBytesWritten(file.length());
+                saveEvent.commit();
             }
-            fw.close();
+            return true;
         } catch (IOException e) {
             System.err.println("Something went wrong! Not stonks!\n");
+            return false;
         }
     }
 }
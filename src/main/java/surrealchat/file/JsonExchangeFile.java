@@ -0,0 +1,251 @@
+package surrealchat.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Handles a JSON file of tasks: an array of flat objects, one per line, keyed by field name.
+ * Fields that do not apply are left out when writing, and unknown keys are skipped when reading.
+ * Only the objects being read are held in memory, so the array may be of any length.
+ */
+public class JsonExchangeFile extends ExchangeFile {
+    private static final Set<String> LITERAL_FIELDS = Set.of("done", "priority", "effort"); //Written without quotes
+
+    private Reader reader;
+    private int next;
+    private int lineNumber;
+    private final StringBuilder token = new StringBuilder();
+
+    /**
+     * Creates a new JsonExchangeFile instance.
+     *
+     * @param file File object with specified file path.
+     */
+    public JsonExchangeFile(File file) {
+        super(file);
+    }
+
+    @Override
+    protected void writeHeader(Writer writer) throws IOException {
+        writer.write('[');
+    }
+
+    @Override
+    protected void writeRecord(Writer writer, String[] record, boolean isFirst) throws IOException {
+        writer.write(isFirst ? "\n{" : ",\n{");
+        boolean isFirstField = true;
+        for (int i = 0; i < record.length; i++) {
+            if (record[i].isEmpty()) {
+                continue;
+            }
+            if (!isFirstField) {
+                writer.write(',');
+            }
+            isFirstField = false;
+            writeString(writer, FIELDS.get(i));
+            writer.write(':');
+            if (LITERAL_FIELDS.contains(FIELDS.get(i))) {
+                writer.write(record[i]);
+            } else {
+                writeString(writer, record[i]);
+            }
+        }
+        writer.write('}');
+    }
+
+    private static void writeString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch(c) {
+            case '"':
+                writer.write("\\\"");
+                break;
+            case '\\':
+                writer.write("\\\\");
+                break;
+            case '\n':
+                writer.write("\\n");
+                break;
+            case '\r':
+                writer.write("\\r");
+                break;
+            case '\t':
+                writer.write("\\t");
+                break;
+            default:
+                if (c < ' ') {
+                    writer.write(String.format("\\u%04x", (int) c));
+                } else {
+                    writer.write(c);
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    @Override
+    protected void writeFooter(Writer writer) throws IOException {
+        writer.write("\n]\n");
+    }
+
+    @Override
+    protected synchronized void readRecords(Reader reader, Consumer<String[]> action) throws IOException {
+        this.reader = reader;
+        lineNumber = 1;
+        next = reader.read();
+        try {
+            skipWhitespace();
+            if (next == -1) {
+                return; //Empty file
+            }
+            expect('[');
+            skipWhitespace();
+            if (next == ']') {
+                return;
+            }
+            do {
+                skipWhitespace();
+                action.accept(readObject());
+                skipWhitespace();
+            } while (consumeIf(','));
+            expect(']');
+        } finally {
+            this.reader = null;
+        }
+    }
+
+    private String[] readObject() throws IOException {
+        String[] record = new String[FIELDS.size()];
+        Arrays.fill(record, "");
+        expect('{');
+        skipWhitespace();
+        if (consumeIf('}')) {
+            return record;
+        }
+        do {
+            skipWhitespace();
+            int fieldIndex = getFieldIndex(readString());
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            String value = readValue();
+            if (fieldIndex >= 0) {
+                record[fieldIndex] = value;
+            }
+            skipWhitespace();
+        } while (consumeIf(','));
+        expect('}');
+        return record;
+    }
+
+    private String readValue() throws IOException {
+        if (next == '"') {
+            return readString();
+        } else if (next == '{' || next == '[') {
+            throw malformed("Values inside tasks cannot be objects or arrays");
+        }
+        token.setLength(0);
+        while (next != -1 && next != ',' && next != '}' && next != ']' && !Character.isWhitespace(next)) {
+            token.append((char) next);
+            advance();
+        }
+        String literal = token.toString();
+        if (literal.equals("null")) {
+            return "";
+        } else if (literal.isEmpty()) {
+            throw malformed("Missing value");
+        }
+        return literal;
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        token.setLength(0);
+        while (next != '"') {
+            if (next == -1 || next == '\n') {
+                throw malformed("String is never closed");
+            } else if (next == '\\') {
+                advance();
+                token.append(readEscape());
+            } else {
+                token.append((char) next);
+                advance();
+            }
+        }
+        advance();
+        return token.toString();
+    }
+
+    private char readEscape() throws IOException {
+        int escaped = next;
+        advance();
+        switch(escaped) {
+        case '"':
+            //Fallthrough
+        case '\\':
+            //Fallthrough
+        case '/':
+            return (char) escaped;
+        case 'b':
+            return '\b';
+        case 'f':
+            return '\f';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 't':
+            return '\t';
+        case 'u':
+            int codeUnit = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(next, 16);
+                if (next == -1 || digit < 0) {
+                    throw malformed("Bad unicode escape");
+                }
+                codeUnit = codeUnit * 16 + digit;
+                advance();
+            }
+            return (char) codeUnit;
+        default:
+            throw malformed("Bad escape");
+        }
+    }
+
+    private void advance() throws IOException {
+        if (next == '\n') {
+            lineNumber++;
+        }
+        next = reader.read();
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (next != -1 && Character.isWhitespace(next)) {
+            advance();
+        }
+    }
+
+    private boolean consumeIf(char expected) throws IOException {
+        if (next != expected) {
+            return false;
+        }
+        advance();
+        return true;
+    }
+
+    private void expect(char expected) throws IOException {
+        if (!consumeIf(expected)) {
+            throw malformed("Expected '" + expected + "'");
+        }
+    }
+
+    private IllegalArgumentException malformed(String problem) {
+        return new IllegalArgumentException(String.format("%s on line %d. Not stonks!\n", problem, lineNumber));
+    }
+}
@@ -0,0 +1,97 @@
+package surrealchat.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handles the links of a task file, which are kept beside it as one line per link: the number of the task that
+ * blocks, then the number of the task it blocks. Numbers are positions in the task file as it was last saved.
+ */
+public class LinkFile {
+    public static final String LINK_FILE_EXTENSION = ".links";
+    protected final File file;
+
+    /**
+     * Creates a new LinkFile instance.
+     *
+     * @param file File object with specified file path of links.
+     */
+    public LinkFile(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Obtains the link file kept beside a task file, such as tasks.links for tasks.txt.
+     *
+     * @param taskFile The task file.
+     * @return File of links.
+     */
+    public static File getLinkFileFor(File taskFile) {
+        String name = taskFile.getName();
+        int extensionStart = name.lastIndexOf('.');
+        String baseName = (extensionStart > 0) ? name.substring(0, extensionStart) : name;
+        return new File(taskFile.getAbsoluteFile().getParentFile(), baseName + LINK_FILE_EXTENSION);
+    }
+
+    /**
+     * Writes links into the file, replacing what was there. The links are written beside the old file and then moved
+     * over it, so the old links are kept if writing fails. The file is removed if there are no links.
+     *
+     * @param links Pairs of blocker and blocked task numbers.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(List<int[]> links) throws IOException {
+        if (links.isEmpty()) {
+            Files.deleteIfExists(file.toPath());
+            return;
+        }
+        List<String> lines = new ArrayList<>(links.size());
+        for (int[] link : links) {
+            lines.add(link[0] + " " + link[1]);
+        }
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            Files.write(tempFile.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+        try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the links from the file. Lines that are not two numbers are skipped.
+     *
+     * @return Pairs of blocker and blocked task numbers, or no pairs if the file does not exist.
+     * @throws IOException If the file cannot be read.
+     */
+    public List<int[]> read() throws IOException {
+        List<int[]> links = new ArrayList<>();
+        if (!file.isFile()) {
+            return links;
+        }
+        for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+            String[] numbers = line.trim().split("\\s+");
+            if (numbers.length != 2) {
+                continue;
+            }
+            try {
+                links.add(new int[] {Integer.parseInt(numbers[0]), Integer.parseInt(numbers[1])});
+            } catch (NumberFormatException e) {
+                continue;
+            }
+        }
+        return links;
+    }
+}
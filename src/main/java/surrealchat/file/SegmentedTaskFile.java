@@ -0,0 +1,372 @@
+package surrealchat.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Handles a task file laid out in blocks, so that one task or one page of tasks can be read without reading the rest.
+ * The file starts with a magic header, followed by blocks of tasks each with a CRC32 checksum, and ends with a footer
+ * indexing the byte offset and first task of every block.
+ * If the footer is damaged, for example by a crash halfway through an append, the index is rebuilt from the blocks.
+ */
+public class SegmentedTaskFile {
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+    private static final byte[] HEADER_MAGIC = "SCSEG001".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRAILER_MAGIC = "SCEND001".getBytes(StandardCharsets.US_ASCII);
+    private static final int BLOCK_HEADER_BYTES = 8; //Payload length and number of tasks
+    private static final int CHECKSUM_BYTES = 4;
+    private static final int INDEX_ENTRY_BYTES = 12; //Block offset and number of tasks before the block
+    private static final int FOOTER_FIXED_BYTES = 8 + CHECKSUM_BYTES; //Block count, task count and checksum
+    private static final int TRAILER_BYTES = 8 + TRAILER_MAGIC.length; //Footer offset and magic
+
+    protected final File file;
+    protected final int blockSize;
+
+    /**
+     * Offsets of the blocks in the file, together with the number of tasks before each block.
+     */
+    private static class BlockIndex {
+        private final List<Long> blockOffsets = new ArrayList<>();
+        private final List<Integer> tasksBefore = new ArrayList<>();
+        private int taskCount = 0;
+        private long endOfBlocks = HEADER_MAGIC.length;
+
+        private void add(long blockOffset, int blockTaskCount, long blockEnd) {
+            blockOffsets.add(blockOffset);
+            tasksBefore.add(taskCount);
+            taskCount += blockTaskCount;
+            endOfBlocks = blockEnd;
+        }
+
+        private int findBlock(int taskIndex) {
+            int low = 0;
+            int high = tasksBefore.size() - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (tasksBefore.get(middle) <= taskIndex) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Creates a new SegmentedTaskFile instance.
+     *
+     * @param file File object with specified file path.
+     * @param blockSize Size in bytes that blocks are filled up to. Larger tasks get a block of their own.
+     */
+    public SegmentedTaskFile(File file, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive. Not stonks!\n");
+        }
+        this.file = file;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Creates a new SegmentedTaskFile instance with blocks of 64 KB.
+     *
+     * @param file File object with specified file path.
+     */
+    public SegmentedTaskFile(File file) {
+        this(file, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Checks whether a file starts with the magic header of a segmented task file.
+     *
+     * @param file File to be checked.
+     * @return True if file is a segmented task file, false otherwise.
+     * @throws IOException If file cannot be read.
+     */
+    public static boolean isSegmented(File file) throws IOException {
+        if (file.length() < HEADER_MAGIC.length) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return Arrays.equals(readFully(channel, 0, HEADER_MAGIC.length).array(), HEADER_MAGIC);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Task file ended too early. Not stonks!\n");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void writeFully(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), buffer.arrayOffset() + offset, length);
+        return (int) crc.getValue();
+    }
+
+    private long writeBlock(FileChannel channel, long position, ByteArrayOutputStream payload, int blockTaskCount,
+            BlockIndex index) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(BLOCK_HEADER_BYTES + payload.size() + CHECKSUM_BYTES);
+        block.putInt(payload.size()).putInt(blockTaskCount).put(payload.toByteArray());
+        block.putInt(checksum(block, BLOCK_HEADER_BYTES, payload.size())).flip();
+        writeFully(channel, position, block);
+        long blockEnd = position + block.capacity();
+        index.add(position, blockTaskCount, blockEnd);
+        return blockEnd;
+    }
+
+    private long writeBlocks(FileChannel channel, long position, List<String> fileTaskList, BlockIndex index)
+            throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(blockSize);
+        int blockTaskCount = 0;
+        for (String fileTask : fileTaskList) {
+            byte[] record = (fileTask + "\n").getBytes(StandardCharsets.UTF_8);
+            if (blockTaskCount > 0 && payload.size() + record.length > blockSize) {
+                position = writeBlock(channel, position, payload, blockTaskCount, index);
+                payload.reset();
+                blockTaskCount = 0;
+            }
+            payload.write(record, 0, record.length);
+            blockTaskCount++;
+        }
+        if (blockTaskCount > 0) {
+            position = writeBlock(channel, position, payload, blockTaskCount, index);
+        }
+        return position;
+    }
+
+    private static void writeFooter(FileChannel channel, long position, BlockIndex index) throws IOException {
+        int blockCount = index.blockOffsets.size();
+        ByteBuffer footer = ByteBuffer.allocate(blockCount * INDEX_ENTRY_BYTES + FOOTER_FIXED_BYTES + TRAILER_BYTES);
+        footer.putInt(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            footer.putLong(index.blockOffsets.get(i)).putInt(index.tasksBefore.get(i));
+        }
+        footer.putInt(index.taskCount);
+        footer.putInt(checksum(footer, 0, footer.position()));
+        footer.putLong(position).put(TRAILER_MAGIC).flip();
+        writeFully(channel, position, footer);
+    }
+
+    /**
+     * Replaces the file with the given tasks. The file is written beside the old one and then moved over it,
+     * so the old tasks are kept if writing fails.
+     *
+     * @param fileTaskList List of tasks in file string format.
+     * @throws IOException If the file cannot be written.
+     */
+    public synchronized void write(List<String> fileTaskList) throws IOException {
+        File tempFile = new File(file.getPath() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, 0, ByteBuffer.wrap(HEADER_MAGIC));
+            BlockIndex index = new BlockIndex();
+            long footerOffset = writeBlocks(channel, HEADER_MAGIC.length, fileTaskList, index);
+            writeFooter(channel, footerOffset, index);
+            channel.force(false);
+        }
+        try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Adds tasks to the end of the file without rewriting the tasks already in it, and only returns once they are
+     * on disk.
+     *
+     * @param fileTaskList List of tasks in file string format.
+     * @throws IOException If the file cannot be written or is not a segmented task file.
+     */
+    public synchronized void append(List<String> fileTaskList) throws IOException {
+        if (file.length() == 0) {
+            write(fileTaskList);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            BlockIndex index = readIndex(channel);
+            channel.truncate(index.endOfBlocks); //Drop the old footer, which is rewritten after the new blocks
+            long footerOffset = writeBlocks(channel, index.endOfBlocks, fileTaskList, index);
+            writeFooter(channel, footerOffset, index);
+            channel.force(false);
+        }
+    }
+
+    private static BlockIndex readIndex(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_MAGIC.length
+                || !Arrays.equals(readFully(channel, 0, HEADER_MAGIC.length).array(), HEADER_MAGIC)) {
+            throw new IOException("Not a segmented task file. Not stonks!\n");
+        }
+        BlockIndex index = readFooter(channel, size);
+        return (index != null) ? index : scanBlocks(channel, size);
+    }
+
+    private static BlockIndex readFooter(FileChannel channel, long size) throws IOException {
+        if (size < HEADER_MAGIC.length + FOOTER_FIXED_BYTES + TRAILER_BYTES) {
+            return null;
+        }
+        ByteBuffer trailer = readFully(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+        long footerOffset = trailer.getLong();
+        byte[] trailerMagic = new byte[TRAILER_MAGIC.length];
+        trailer.get(trailerMagic);
+        long footerLength = size - TRAILER_BYTES - footerOffset;
+        if (!Arrays.equals(trailerMagic, TRAILER_MAGIC) || footerOffset < HEADER_MAGIC.length
+                || footerLength < FOOTER_FIXED_BYTES || footerLength > Integer.MAX_VALUE) {
+            return null;
+        }
+        ByteBuffer footer = readFully(channel, footerOffset, (int) footerLength);
+        int blockCount = footer.getInt();
+        if (footerLength != (long) blockCount * INDEX_ENTRY_BYTES + FOOTER_FIXED_BYTES
+                || footer.getInt((int) footerLength - CHECKSUM_BYTES)
+                        != checksum(footer, 0, (int) footerLength - CHECKSUM_BYTES)) {
+            return null;
+        }
+        BlockIndex index = new BlockIndex();
+        for (int i = 0; i < blockCount; i++) {
+            index.blockOffsets.add(footer.getLong());
+            index.tasksBefore.add(footer.getInt());
+        }
+        index.taskCount = footer.getInt();
+        index.endOfBlocks = footerOffset;
+        return index;
+    }
+
+    private static BlockIndex scanBlocks(FileChannel channel, long size) throws IOException {
+        BlockIndex index = new BlockIndex();
+        long position = HEADER_MAGIC.length;
+        while (position + BLOCK_HEADER_BYTES + CHECKSUM_BYTES <= size) {
+            ByteBuffer blockHeader = readFully(channel, position, BLOCK_HEADER_BYTES);
+            int payloadLength = blockHeader.getInt();
+            int blockTaskCount = blockHeader.getInt();
+            long blockEnd = position + BLOCK_HEADER_BYTES + payloadLength + CHECKSUM_BYTES;
+            if (payloadLength < 0 || blockTaskCount <= 0 || blockEnd > size) {
+                break;
+            }
+            try {
+                readBlock(channel, position);
+            } catch (IOException e) { //First damaged block, such as one cut short by a crash
+                break;
+            }
+            index.add(position, blockTaskCount, blockEnd);
+            position = blockEnd;
+        }
+        return index;
+    }
+
+    private static List<String> readBlock(FileChannel channel, long position) throws IOException {
+        ByteBuffer blockHeader = readFully(channel, position, BLOCK_HEADER_BYTES);
+        int payloadLength = blockHeader.getInt();
+        int blockTaskCount = blockHeader.getInt();
+        if (payloadLength < 0 || position + BLOCK_HEADER_BYTES + payloadLength + CHECKSUM_BYTES > channel.size()) {
+            throw new IOException("Block at byte " + position + " is damaged. Not stonks!\n");
+        }
+        ByteBuffer block = readFully(channel, position + BLOCK_HEADER_BYTES, payloadLength + CHECKSUM_BYTES);
+        if (block.getInt(payloadLength) != checksum(block, 0, payloadLength)) {
+            throw new IOException("Block at byte " + position + " is damaged. Not stonks!\n");
+        }
+        List<String> fileTasks = new ArrayList<>(blockTaskCount);
+        int recordStart = 0;
+        for (int i = 0; i < payloadLength; i++) {
+            if (block.get(i) == '\n') {
+                fileTasks.add(new String(block.array(), recordStart, i - recordStart, StandardCharsets.UTF_8));
+                recordStart = i + 1;
+            }
+        }
+        if (fileTasks.size() != blockTaskCount) {
+            throw new IOException("Block at byte " + position + " is damaged. Not stonks!\n");
+        }
+        return fileTasks;
+    }
+
+    /**
+     * Obtains the number of tasks in the file.
+     *
+     * @return Number of tasks, or 0 if the file does not exist.
+     * @throws IOException If the file cannot be read or is not a segmented task file.
+     */
+    public synchronized int getNumberOfTasks() throws IOException {
+        if (!file.exists()) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return readIndex(channel).taskCount;
+        }
+    }
+
+    /**
+     * Reads a range of tasks, touching only the blocks that hold them.
+     *
+     * @param firstNumber Number of first task to be read, starting from 1.
+     * @param lastNumber Number of last task to be read, inclusive.
+     * @return List of tasks in file string format. Numbers past the end of the file are left out.
+     * @throws IOException If the file cannot be read, is damaged or is not a segmented task file.
+     */
+    public synchronized List<String> readTasks(int firstNumber, int lastNumber) throws IOException {
+        List<String> fileTasks = new ArrayList<>();
+        if (!file.exists() || firstNumber > lastNumber) {
+            return fileTasks;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            BlockIndex index = readIndex(channel);
+            int firstIndex = Math.max(firstNumber, 1) - 1;
+            int lastIndex = Math.min(lastNumber, index.taskCount) - 1;
+            if (firstIndex > lastIndex) {
+                return fileTasks;
+            }
+            for (int block = index.findBlock(firstIndex); block < index.blockOffsets.size()
+                    && index.tasksBefore.get(block) <= lastIndex; block++) {
+                List<String> blockTasks = readBlock(channel, index.blockOffsets.get(block));
+                int tasksBefore = index.tasksBefore.get(block);
+                int from = Math.max(firstIndex - tasksBefore, 0);
+                int to = Math.min(lastIndex - tasksBefore + 1, blockTasks.size());
+                fileTasks.addAll(blockTasks.subList(from, to));
+            }
+        }
+        return fileTasks;
+    }
+
+    /**
+     * Reads every task in the file one block at a time, in order.
+     *
+     * @param action Action to be run on each task in file string format.
+     * @throws IOException If the file cannot be read, is damaged or is not a segmented task file.
+     */
+    public synchronized void forEachTask(Consumer<String> action) throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            BlockIndex index = readIndex(channel);
+            for (long blockOffset : index.blockOffsets) {
+                readBlock(channel, blockOffset).forEach(action);
+            }
+        }
+    }
+}
@@ -1,15 +1,29 @@
 package surrealchat.help;
 
+import surrealchat.command.ArchiveCommand;
+import surrealchat.command.ConflictsCommand;
 import surrealchat.command.DeadlineCommand;
 import surrealchat.command.DeleteCommand;
 import surrealchat.command.DoneCommand;
 import surrealchat.command.EditCommand;
+import surrealchat.command.EffortCommand;
 import surrealchat.command.EventCommand;
+import surrealchat.command.ExportCommand;
 import surrealchat.command.FindCommand;
+import surrealchat.command.ImportCommand;
+import surrealchat.command.LinkCommand;
 import surrealchat.command.ListCommand;
+import surrealchat.command.PlanCommand;
+import surrealchat.command.RecurringCommand;
+import surrealchat.command.ScheduleCommand;
 import surrealchat.command.ScronchCommand;
 import surrealchat.command.SortCommand;
+import surrealchat.command.StatsCommand;
+import surrealchat.command.SummaryCommand;
 import surrealchat.command.ToDoCommand;
+import surrealchat.command.UnlinkCommand;
+import surrealchat.command.UpcomingCommand;
+import surrealchat.command.UseCommand;
 import surrealchat.easteregg.HandEasterEgg;
 import surrealchat.easteregg.OrangEasterEgg;
 import surrealchat.easteregg.VegetalEasterEgg;
@@ -35,6 +49,8 @@ public class HelpMode {
             return DeadlineCommand.displayHelp();
         case "event":
             return EventCommand.displayHelp();
+        case "recurring":
+            return RecurringCommand.displayHelp();
         case "delete":
             return DeleteCommand.displayHelp();
         case "done":
@@ -49,6 +65,32 @@ public class HelpMode {
             return EditCommand.displayHelp();
         case "sort":
             return SortCommand.displayHelp();
+        case "upcoming":
+            return UpcomingCommand.displayHelp();
+        case "archive":
+            return ArchiveCommand.displayHelp();
+        case "import":
+            return ImportCommand.displayHelp();
+        case "export":
+            return ExportCommand.displayHelp();
+        case "stats":
+            return StatsCommand.displayHelp();
+        case "use":
+            return UseCommand.displayHelp();
+        case "link":
+            return LinkCommand.displayHelp();
+        case "unlink":
+            return UnlinkCommand.displayHelp();
+        case "plan":
+            return PlanCommand.displayHelp();
+        case "effort":
+            return EffortCommand.displayHelp();
+        case "schedule":
+            return ScheduleCommand.displayHelp();
+        case "conflicts":
+            return ConflictsCommand.displayHelp();
+        case "summary":
+            return SummaryCommand.displayHelp();
         case "orang":
             return OrangEasterEgg.displayHelp();
         case "vegetal":
@@ -0,0 +1,41 @@
+package surrealchat.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every command executed by SurrealChat.
+ */
+@Name("surrealchat.CommandExecution")
+@Label("Command Execution")
+@Category("SurrealChat")
+@Description("Execution of one SurrealChat command")
+public class CommandExecutionEvent extends Event {
+    @Label("Verb")
+    private String verb;
+
+    @Label("Task Count")
+    @Description("Number of tasks in the current workspace after the command")
+    private int taskCount;
+
+    /**
+     * Sets the command that was executed.
+     *
+     * @param verb The command, excluding arguments.
+     */
+    public void setVerb(String verb) {
+        this.verb = verb;
+    }
+
+    /**
+     * Sets the number of tasks after the command.
+     *
+     * @param taskCount Number of tasks.
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
@@ -0,0 +1,92 @@
+package surrealchat.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long each command takes, split into phases.
+ */
+public class CommandMetrics {
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    /**
+     * Enum of the phases that a command goes through. Arguments are parsed by the command as it executes.
+     */
+    public enum Phase {
+        EXECUTE, RENDER, PERSIST
+    }
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    private static Map<Phase, LatencyHistogram> createPhaseHistograms() {
+        Map<Phase, LatencyHistogram> phaseHistograms = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phaseHistograms.put(phase, new LatencyHistogram());
+        }
+        return phaseHistograms;
+    }
+
+    /**
+     * Records the latency of one phase of a command.
+     *
+     * @param verb The command, excluding arguments.
+     * @param phase The phase that was timed.
+     * @param nanos Latency in nanoseconds.
+     */
+    public void record(String verb, Phase phase, long nanos) {
+        histograms.computeIfAbsent(verb, v -> createPhaseHistograms()).get(phase).record(nanos);
+    }
+
+    /**
+     * Obtains the histogram of one phase of a command.
+     *
+     * @param verb The command, excluding arguments.
+     * @param phase The phase that was timed.
+     * @return Histogram of latencies, or null if the command was never recorded.
+     */
+    public LatencyHistogram getHistogram(String verb, Phase phase) {
+        Map<Phase, LatencyHistogram> phaseHistograms = histograms.get(verb);
+        return (phaseHistograms == null) ? null : phaseHistograms.get(phase);
+    }
+
+    /**
+     * Obtains the number of times each command was executed.
+     *
+     * @return Map of command to execution count, sorted by command.
+     */
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> commandCounts = new TreeMap<>();
+        histograms.forEach((verb, phaseHistograms) ->
+                commandCounts.put(verb, phaseHistograms.get(Phase.EXECUTE).getCount()));
+        return commandCounts;
+    }
+
+    private static String formatMicros(long nanos) {
+        return String.format("%.1f", nanos / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Converts the recorded latencies into string form for printing.
+     *
+     * @return Count, p50, p99 and max latency of each phase of each command, or an empty string if nothing was
+     *     recorded.
+     */
+    public String formatStats() {
+        StringBuilder output = new StringBuilder();
+        new TreeMap<>(histograms).forEach((verb, phaseHistograms) -> {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = phaseHistograms.get(phase);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                output.append(String.format("%s %s | count: %d | p50: %s | p99: %s | max: %s\n",
+                        verb, phase.name().toLowerCase(), histogram.getCount(),
+                        formatMicros(histogram.getPercentile(50)), formatMicros(histogram.getPercentile(99)),
+                        formatMicros(histogram.getMax())));
+            }
+        });
+        return output.toString();
+    }
+}
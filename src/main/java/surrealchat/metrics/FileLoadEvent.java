@@ -0,0 +1,54 @@
+package surrealchat.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when a task file is read.
+ */
+@Name("surrealchat.FileLoad")
+@Label("Task File Load")
+@Category("SurrealChat")
+@Description("Reading of a task file into lines")
+public class FileLoadEvent extends Event {
+    @Label("Path")
+    private String path;
+
+    @Label("Lines Read")
+    private int linesRead;
+
+    @Label("Bytes Read")
+    @DataAmount
+    private long bytesRead;
+
+    /**
+     * Sets the file that was read.
+     *
+     * @param path Path of task file.
+     */
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Sets the number of lines read.
+     *
+     * @param linesRead Number of lines.
+     */
+    public void setLinesRead(int linesRead) {
+        this.linesRead = linesRead;
+    }
+
+    /**
+     * Sets the size of the file that was read.
+     *
+     * @param bytesRead Number of bytes.
+     */
+    public void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+}
@@ -0,0 +1,54 @@
+package surrealchat.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when tasks are written to a task file.
+ */
+@Name("surrealchat.FileSave")
+@Label("Task File Save")
+@Category("SurrealChat")
+@Description("Writing of tasks into a task file")
+public class FileSaveEvent extends Event {
+    @Label("Path")
+    private String path;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    /**
+     * Sets the file that was written.
+     *
+     * @param path Path of task file.
+     */
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Sets the number of tasks written.
+     *
+     * @param taskCount Number of tasks.
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    /**
+     * Sets the size of the file that was written.
+     *
+     * @param bytesWritten Number of bytes.
+     */
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+}
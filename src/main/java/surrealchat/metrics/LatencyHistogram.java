@@ -0,0 +1,102 @@
+package surrealchat.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in nanoseconds with log-linear buckets, in the style of HdrHistogram.
+ * Each power of two is split into 32 buckets, so any recorded value is accurate to within about 3%.
+ * Recording is lock-free and may be done from many threads at once.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; //Buckets per power of two
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKET_COUNT; //Values below this get a bucket each
+    private static final int MAX_MAGNITUDE = 63 - SUB_BUCKET_BITS - 1;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + MAX_MAGNITUDE * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong(); //Exact, unlike the buckets, so that a mean can be taken
+    private final AtomicLong maxValue = new AtomicLong();
+
+    private static int getBucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS; //At least 1 here
+        int subBucket = (int) (value >>> magnitude) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (magnitude - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long getHighestValueInBucket(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int magnitude = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos Latency in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        bucketCounts.incrementAndGet(getBucketIndex(value));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(value);
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Obtains the number of latencies recorded.
+     *
+     * @return Number of recorded latencies.
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Obtains the total of the latencies recorded.
+     *
+     * @return Sum of recorded latencies in nanoseconds.
+     */
+    public long getSum() {
+        return totalNanos.get();
+    }
+
+    /**
+     * Obtains the highest latency recorded.
+     *
+     * @return Highest latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Obtains the latency below which the given percentage of recorded latencies fall.
+     *
+     * @param percentile Percentage in range [0, 100].
+     * @return Latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += bucketCounts.get(i);
+            if (cumulativeCount >= targetCount) {
+                return Math.min(getHighestValueInBucket(i), getMax());
+            }
+        }
+        return getMax();
+    }
+}
@@ -0,0 +1,116 @@
+package surrealchat.metrics;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Publishes SurrealChat metrics as a JMX MBean, and in Prometheus format if configured through system properties.
+ * Set surrealchat.metrics.port to serve /metrics over HTTP on the loopback interface, and set
+ * surrealchat.metrics.file to write the metrics into a file every few seconds.
+ */
+public class MetricsPublisher implements Closeable {
+    public static final String OBJECT_NAME = "surrealchat:type=SurrealChat";
+    private static final String PORT_PROPERTY = "surrealchat.metrics.port";
+    private static final String FILE_PROPERTY = "surrealchat.metrics.file";
+    private static final long FILE_WRITE_INTERVAL_SECONDS = 15;
+
+    private final PrometheusExporter exporter;
+    private ObjectName objectName;
+    private HttpServer httpServer;
+    private ScheduledExecutorService fileWriter;
+    private File metricsFile;
+
+    private MetricsPublisher(SurrealChatMetrics metrics) {
+        this.exporter = new PrometheusExporter(metrics);
+    }
+
+    /**
+     * Starts publishing metrics.
+     *
+     * @param metrics SurrealChatMetrics object to publish.
+     * @return MetricsPublisher object, to be closed when the app stops.
+     */
+    public static MetricsPublisher start(SurrealChatMetrics metrics) {
+        MetricsPublisher publisher = new MetricsPublisher(metrics);
+        publisher.registerMBean(metrics);
+        Integer port = Integer.getInteger(PORT_PROPERTY);
+        if (port != null) {
+            publisher.startHttpServer(port);
+        }
+        String filePath = System.getProperty(FILE_PROPERTY);
+        if (filePath != null) {
+            publisher.startFileWriter(new File(filePath));
+        }
+        return publisher;
+    }
+
+    private void registerMBean(SurrealChatMetrics metrics) {
+        try {
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!mbeanServer.isRegistered(name)) {
+                mbeanServer.registerMBean(metrics, name);
+                objectName = name;
+            }
+        } catch (JMException e) {
+            System.err.println("Could not register metrics MBean. Not stonks!");
+        }
+    }
+
+    private void startHttpServer(int port) {
+        try {
+            httpServer = exporter.serve(port);
+        } catch (IOException e) {
+            System.err.println("Could not serve metrics over HTTP. Not stonks!");
+        }
+    }
+
+    private void writeMetricsFile() {
+        try {
+            exporter.writeToFile(metricsFile);
+        } catch (IOException e) {
+            System.err.println("Could not write metrics file. Not stonks!");
+        }
+    }
+
+    private void startFileWriter(File file) {
+        metricsFile = file;
+        fileWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "surrealchat-metrics-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fileWriter.scheduleAtFixedRate(this::writeMetricsFile, 0, FILE_WRITE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops publishing metrics. The metrics file, if any, is written one last time.
+     */
+    @Override
+    public void close() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+        }
+        if (fileWriter != null) {
+            fileWriter.shutdownNow();
+            writeMetricsFile();
+        }
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                System.err.println("Could not unregister metrics MBean. Not stonks!");
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package surrealchat.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Exports SurrealChat metrics in the Prometheus text exposition format.
+ */
+public class PrometheusExporter {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double[] QUANTILES = {0.5, 0.99};
+
+    private final SurrealChatMetrics metrics;
+
+    /**
+     * Creates new PrometheusExporter object.
+     *
+     * @param metrics SurrealChatMetrics object to export.
+     */
+    public PrometheusExporter(SurrealChatMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    private static void appendGauge(StringBuilder output, String name, String help, double value) {
+        output.append(String.format("# HELP %s %s\n# TYPE %s gauge\n%s %s\n", name, help, name, name, value));
+    }
+
+    private void appendCommandCounts(StringBuilder output) {
+        output.append("# HELP surrealchat_commands_total Commands executed since start.\n");
+        output.append("# TYPE surrealchat_commands_total counter\n");
+        for (Map.Entry<String, Long> entry : metrics.getCommandMetrics().getCommandCounts().entrySet()) {
+            output.append(String.format("surrealchat_commands_total{verb=\"%s\"} %d\n",
+                    entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private void appendCommandLatencies(StringBuilder output) {
+        CommandMetrics commandMetrics = metrics.getCommandMetrics();
+        output.append("# HELP surrealchat_command_latency_seconds Latency of each phase of each command.\n");
+        output.append("# TYPE surrealchat_command_latency_seconds summary\n");
+        for (String verb : commandMetrics.getCommandCounts().keySet()) {
+            for (CommandMetrics.Phase phase : CommandMetrics.Phase.values()) {
+                LatencyHistogram histogram = commandMetrics.getHistogram(verb, phase);
+                if (histogram == null || histogram.getCount() == 0) {
+                    continue;
+                }
+                String labels = String.format("verb=\"%s\",phase=\"%s\"", verb, phase.name().toLowerCase());
+                for (double quantile : QUANTILES) {
+                    output.append(String.format("surrealchat_command_latency_seconds{%s,quantile=\"%s\"} %s\n",
+                            labels, quantile, histogram.getPercentile(quantile * 100) / NANOS_PER_SECOND));
+                }
+                output.append(String.format("surrealchat_command_latency_seconds_sum{%s} %s\n",
+                        labels, histogram.getSum() / NANOS_PER_SECOND));
+                output.append(String.format("surrealchat_command_latency_seconds_count{%s} %d\n",
+                        labels, histogram.getCount()));
+            }
+        }
+    }
+
+    /**
+     * Converts the current metrics into Prometheus text format.
+     *
+     * @return Metrics in Prometheus text format.
+     */
+    public String scrape() {
+        StringBuilder output = new StringBuilder();
+        appendGauge(output, "surrealchat_tasks", "Tasks in the current workspace.", metrics.getTaskCount());
+        appendGauge(output, "surrealchat_tasks_done", "Done tasks in the current workspace.",
+                metrics.getDoneTaskCount());
+        appendGauge(output, "surrealchat_tasks_undone", "Undone tasks in the current workspace.",
+                metrics.getUndoneTaskCount());
+        output.append("# HELP surrealchat_tasks_by_priority Tasks in the current workspace by priority.\n");
+        output.append("# TYPE surrealchat_tasks_by_priority gauge\n");
+        output.append(String.format("surrealchat_tasks_by_priority{priority=\"high\"} %d\n",
+                metrics.getHighPriorityTaskCount()));
+        output.append(String.format("surrealchat_tasks_by_priority{priority=\"medium\"} %d\n",
+                metrics.getMediumPriorityTaskCount()));
+        output.append(String.format("surrealchat_tasks_by_priority{priority=\"low\"} %d\n",
+                metrics.getLowPriorityTaskCount()));
+        appendGauge(output, "surrealchat_last_save_seconds", "Duration of the most recent save.",
+                metrics.getLastSaveDurationMillis() / 1000.0);
+        appendGauge(output, "surrealchat_task_file_bytes", "Size of the current task file on disk.",
+                metrics.getTaskFileBytes());
+        appendCommandCounts(output);
+        appendCommandLatencies(output);
+        return output.toString();
+    }
+
+    /**
+     * Writes the current metrics into a file, replacing it atomically so scrapers never see a partial file.
+     *
+     * @param file File to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeToFile(File file) throws IOException {
+        File tempFile = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp");
+        Files.writeString(tempFile.toPath(), scrape(), StandardCharsets.UTF_8);
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Serves the metrics at /metrics over HTTP on the loopback interface.
+     *
+     * @param port Port to listen on. Use 0 to pick any free port.
+     * @return The running HTTP server.
+     * @throws IOException If the port cannot be bound.
+     */
+    public HttpServer serve(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+}
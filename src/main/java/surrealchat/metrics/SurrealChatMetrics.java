@@ -0,0 +1,100 @@
+package surrealchat.metrics;
+
+import java.util.function.Supplier;
+
+import surrealchat.task.TaskCounters;
+import surrealchat.task.TaskPriority;
+import surrealchat.workspace.Workspace;
+
+/**
+ * Gathers the metrics of a running SurrealChat for JMX and Prometheus.
+ * Task counts are read from running counters, so no metric requires scanning the task list.
+ */
+public class SurrealChatMetrics implements SurrealChatMonitoring {
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final Supplier<Workspace> currentWorkspace;
+    private final CommandMetrics commandMetrics;
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Creates new SurrealChatMetrics object.
+     *
+     * @param currentWorkspace Supplies the workspace currently in use.
+     * @param commandMetrics CommandMetrics object holding the recorded command latencies.
+     */
+    public SurrealChatMetrics(Supplier<Workspace> currentWorkspace, CommandMetrics commandMetrics) {
+        this.currentWorkspace = currentWorkspace;
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Obtains the latencies recorded for each command.
+     *
+     * @return CommandMetrics object.
+     */
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    private TaskCounters getTaskCounters() {
+        return currentWorkspace.get().getTaskManagement().getTaskCounters();
+    }
+
+    @Override
+    public String getWorkspaceName() {
+        return currentWorkspace.get().getName();
+    }
+
+    @Override
+    public int getTaskCount() {
+        return getTaskCounters().getTotalCount();
+    }
+
+    @Override
+    public int getDoneTaskCount() {
+        return getTaskCounters().getDoneCount();
+    }
+
+    @Override
+    public int getUndoneTaskCount() {
+        return getTaskCounters().getUndoneCount();
+    }
+
+    @Override
+    public int getHighPriorityTaskCount() {
+        return getTaskCounters().getPriorityCount(TaskPriority.HIGH);
+    }
+
+    @Override
+    public int getMediumPriorityTaskCount() {
+        return getTaskCounters().getPriorityCount(TaskPriority.MEDIUM);
+    }
+
+    @Override
+    public int getLowPriorityTaskCount() {
+        return getTaskCounters().getPriorityCount(TaskPriority.LOW);
+    }
+
+    @Override
+    public double getLastSaveDurationMillis() {
+        return currentWorkspace.get().getLastSaveNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getTaskFileBytes() {
+        return currentWorkspace.get().getFileSize();
+    }
+
+    @Override
+    public long getCommandCount() {
+        return commandMetrics.getCommandCounts().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public double getCommandsPerSecond() {
+        double uptimeSeconds = (System.nanoTime() - startNanos) / NANOS_PER_SECOND;
+        return getCommandCount() / uptimeSeconds;
+    }
+}
@@ -0,0 +1,32 @@
+package surrealchat.metrics;
+
+import javax.management.MXBean;
+
+/**
+ * Management interface publishing SurrealChat metrics over JMX.
+ * Task counts refer to the workspace currently in use.
+ */
+@MXBean
+public interface SurrealChatMonitoring {
+    String getWorkspaceName();
+
+    int getTaskCount();
+
+    int getDoneTaskCount();
+
+    int getUndoneTaskCount();
+
+    int getHighPriorityTaskCount();
+
+    int getMediumPriorityTaskCount();
+
+    int getLowPriorityTaskCount();
+
+    double getLastSaveDurationMillis();
+
+    long getTaskFileBytes();
+
+    long getCommandCount();
+
+    double getCommandsPerSecond();
+}
@@ -0,0 +1,41 @@
+package surrealchat.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when lines loaded from file are parsed into tasks.
+ */
+@Name("surrealchat.TaskParse")
+@Label("Task Parse")
+@Category("SurrealChat")
+@Description("Parsing of task file lines into tasks")
+public class TaskParseEvent extends Event {
+    @Label("Lines Parsed")
+    private int linesParsed;
+
+    @Label("Task Count")
+    @Description("Number of tasks in the list after parsing")
+    private int taskCount;
+
+    /**
+     * Sets the number of lines parsed.
+     *
+     * @param linesParsed Number of lines.
+     */
+    public void setLinesParsed(int linesParsed) {
+        this.linesParsed = linesParsed;
+    }
+
+    /**
+     * Sets the number of tasks after parsing.
+     *
+     * @param taskCount Number of tasks.
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
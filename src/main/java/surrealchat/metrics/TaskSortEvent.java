@@ -0,0 +1,40 @@
+package surrealchat.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when the task list is sorted.
+ */
+@Name("surrealchat.TaskSort")
+@Label("Task Sort")
+@Category("SurrealChat")
+@Description("Sorting of a task list")
+public class TaskSortEvent extends Event {
+    @Label("Criteria")
+    private String criteria;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    /**
+     * Sets the criteria the tasks were sorted by.
+     *
+     * @param criteria Sorting criteria.
+     */
+    public void setCriteria(String criteria) {
+        this.criteria = criteria;
+    }
+
+    /**
+     * Sets the number of tasks sorted.
+     *
+     * @param taskCount Number of tasks.
+     */
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
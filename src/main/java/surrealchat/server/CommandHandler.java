@@ -0,0 +1,15 @@
+package surrealchat.server;
+
+/**
+ * Handles one line of input received by the server.
+ */
+@FunctionalInterface
+public interface CommandHandler {
+    /**
+     * Generates the response to a command. May be called from many threads at once.
+     *
+     * @param input The entire command, inclusive of arguments if any.
+     * @return Output to be sent back to the client.
+     */
+    String handle(String input);
+}
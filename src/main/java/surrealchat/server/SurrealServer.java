@@ -0,0 +1,109 @@
+package surrealchat.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves SurrealChat commands to many clients over a local socket.
+ * Clients send one command per line. Each response is followed by a line containing only a full stop.
+ */
+public class SurrealServer implements Closeable {
+    public static final String END_OF_RESPONSE = ".";
+    private static final int CONNECTION_BACKLOG = 128;
+
+    private final ServerSocket serverSocket;
+    private final CommandHandler commandHandler;
+    private final ExecutorService connectionExecutor;
+
+    /**
+     * Creates new SurrealServer object listening on the loopback interface.
+     *
+     * @param port Port to listen on. Use 0 to pick any free port.
+     * @param commandHandler Handler that generates responses. Must be safe to call from many threads.
+     * @throws IOException If the port cannot be bound.
+     */
+    public SurrealServer(int port, CommandHandler commandHandler) throws IOException {
+        assert commandHandler != null : "Null commandHandler! Not stonks!\n";
+        this.serverSocket = new ServerSocket(port, CONNECTION_BACKLOG, InetAddress.getLoopbackAddress());
+        this.commandHandler = commandHandler;
+        this.connectionExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "surrealchat-connection");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Obtains the port the server is listening on.
+     *
+     * @return Local port number.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts clients until the server is closed. Each client is served on its own thread.
+     *
+     * @throws IOException If accepting a client fails while the server is still open.
+     */
+    public void serve() throws IOException {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket clientSocket = serverSocket.accept();
+                connectionExecutor.execute(() -> serveClient(clientSocket));
+            } catch (SocketException e) { //Happens when server is closed while waiting for a client
+                if (!serverSocket.isClosed()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void writeResponse(Writer writer, String response) throws IOException {
+        writer.write(response);
+        if (!response.endsWith("\n")) {
+            writer.write("\n");
+        }
+        writer.write(END_OF_RESPONSE + "\n");
+        writer.flush();
+    }
+
+    private void serveClient(Socket clientSocket) {
+        try (clientSocket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(clientSocket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(clientSocket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writeResponse(writer, commandHandler.handle(line.trim()));
+            }
+        } catch (IOException e) {
+            System.err.println("Lost connection to a client. Not stonks!");
+        }
+    }
+
+    /**
+     * Stops accepting clients and disconnects the clients being served.
+     *
+     * @throws IOException If the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connectionExecutor.shutdownNow();
+    }
+}
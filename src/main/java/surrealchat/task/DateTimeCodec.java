@@ -0,0 +1,159 @@
+package surrealchat.task;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Parses and formats date times of the form YYYY-MM-DDTHH:MM[:SS], as used by commands and the task file.
+ * The usual shapes are handled directly on characters, while anything else is passed on to java.time, so the
+ * results always match LocalDateTime.parse and LocalDateTime.toString.
+ */
+public class DateTimeCodec {
+    private static final int LENGTH_WITHOUT_SECONDS = 16; //YYYY-MM-DDTHH:MM
+    private static final int LENGTH_WITH_SECONDS = 19; //YYYY-MM-DDTHH:MM:SS
+    private static final int MAX_FAST_YEAR = 9999;
+
+    private DateTimeCodec() {
+    }
+
+    private static int parseDigits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static LocalDateTime parseFixedShape(CharSequence text, int begin, int end) {
+        int length = end - begin;
+        if (length != LENGTH_WITHOUT_SECONDS && length != LENGTH_WITH_SECONDS) {
+            return null;
+        }
+        if (text.charAt(begin + 4) != '-' || text.charAt(begin + 7) != '-' || text.charAt(begin + 10) != 'T'
+                || text.charAt(begin + 13) != ':') {
+            return null;
+        }
+        int year = parseDigits(text, begin, 4);
+        int month = parseDigits(text, begin + 5, 2);
+        int day = parseDigits(text, begin + 8, 2);
+        int hour = parseDigits(text, begin + 11, 2);
+        int minute = parseDigits(text, begin + 14, 2);
+        int second = 0;
+        if (length == LENGTH_WITH_SECONDS) {
+            if (text.charAt(begin + 16) != ':') {
+                return null;
+            }
+            second = parseDigits(text, begin + 17, 2);
+        }
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second);
+        } catch (DateTimeException e) { //Out of range fields, left to java.time to report
+            return null;
+        }
+    }
+
+    /**
+     * Parses a date time from part of a character sequence.
+     *
+     * @param text Text containing the date time.
+     * @param begin Index of the first character of the date time.
+     * @param end Index after the last character of the date time.
+     * @return The parsed date time.
+     * @throws java.time.format.DateTimeParseException If the text is not a valid date time.
+     */
+    public static LocalDateTime parse(CharSequence text, int begin, int end) {
+        LocalDateTime dateTime = parseFixedShape(text, begin, end);
+        if (dateTime != null) {
+            return dateTime;
+        }
+        return LocalDateTime.parse(text.subSequence(begin, end));
+    }
+
+    /**
+     * Parses a date time.
+     *
+     * @param text Text of the date time.
+     * @return The parsed date time.
+     * @throws java.time.format.DateTimeParseException If the text is not a valid date time.
+     */
+    public static LocalDateTime parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * Appends a date in the form YYYY-MM-DD.
+     *
+     * @param builder StringBuilder to append to.
+     * @param date Date to be formatted.
+     * @return The same StringBuilder.
+     */
+    public static StringBuilder appendDate(StringBuilder builder, LocalDate date) {
+        int year = date.getYear();
+        if (year < 0 || year > MAX_FAST_YEAR) {
+            return builder.append(date);
+        }
+        appendTwoDigits(builder, year / 100);
+        appendTwoDigits(builder, year % 100);
+        builder.append('-');
+        appendTwoDigits(builder, date.getMonthValue());
+        builder.append('-');
+        appendTwoDigits(builder, date.getDayOfMonth());
+        return builder;
+    }
+
+    /**
+     * Appends a time in the form HH:MM, with :SS added only if seconds are not zero.
+     *
+     * @param builder StringBuilder to append to.
+     * @param time Time to be formatted.
+     * @return The same StringBuilder.
+     */
+    public static StringBuilder appendTime(StringBuilder builder, LocalTime time) {
+        if (time.getNano() != 0) {
+            return builder.append(time);
+        }
+        appendTwoDigits(builder, time.getHour());
+        builder.append(':');
+        appendTwoDigits(builder, time.getMinute());
+        if (time.getSecond() != 0) {
+            builder.append(':');
+            appendTwoDigits(builder, time.getSecond());
+        }
+        return builder;
+    }
+
+    /**
+     * Appends a date time in the same form as LocalDateTime.toString.
+     *
+     * @param builder StringBuilder to append to.
+     * @param dateTime Date time to be formatted.
+     * @return The same StringBuilder.
+     */
+    public static StringBuilder append(StringBuilder builder, LocalDateTime dateTime) {
+        appendDate(builder, dateTime.toLocalDate()).append('T');
+        return appendTime(builder, dateTime.toLocalTime());
+    }
+
+    /**
+     * Formats a date time in the same form as LocalDateTime.toString.
+     *
+     * @param dateTime Date time to be formatted.
+     * @return Date time in string form.
+     */
+    public static String format(LocalDateTime dateTime) {
+        return append(new StringBuilder(LENGTH_WITH_SECONDS), dateTime).toString();
+    }
+}
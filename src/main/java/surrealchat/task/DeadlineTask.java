@@ -1,15 +1,17 @@
 package surrealchat.task;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
  * Represents a task with a deadline.
  */
 public class DeadlineTask extends Task {
-    private LocalDateTime deadline;
+    private final LocalDateTime deadline;
 
-    private DeadlineTask(boolean isDone, String taskDescription, TaskPriority taskPriority, LocalDateTime deadline) {
-        super(TaskCode.DEADLINE_TYPE, isDone, taskDescription, taskPriority);
+    private DeadlineTask(boolean isDone, String taskDescription, TaskPriority taskPriority, LocalDateTime deadline,
+            Duration effort) {
+        super(TaskCode.DEADLINE_TYPE, isDone, taskDescription, taskPriority, effort);
         this.deadline = deadline;
     }
 
@@ -23,7 +25,7 @@ public class DeadlineTask extends Task {
      */
     public static DeadlineTask createNewDeadlineTask(
             String taskDescription, TaskPriority taskPriority, LocalDateTime deadline) {
-        return new DeadlineTask(false, taskDescription, taskPriority, deadline);
+        return new DeadlineTask(false, taskDescription, taskPriority, deadline, null);
     }
 
     /**
@@ -37,7 +39,16 @@ public class DeadlineTask extends Task {
      */
     public static DeadlineTask loadDeadlineTaskFromFile(
             boolean isDone, String taskDescription, TaskPriority taskPriority, LocalDateTime deadline) {
-        return new DeadlineTask(isDone, taskDescription, taskPriority, deadline);
+        return new DeadlineTask(isDone, taskDescription, taskPriority, deadline, null);
+    }
+
+    /**
+     * Obtains the deadline of the task.
+     *
+     * @return Date and time by which task should be completed.
+     */
+    public LocalDateTime getDeadline() {
+        return deadline;
     }
 
     /**
@@ -49,7 +60,7 @@ public class DeadlineTask extends Task {
      * @return New ToDoTask with edited description, deadline and priority.
      */
     public DeadlineTask editTask(String newDescription, TaskPriority newPriority, LocalDateTime newDeadline) {
-        return new DeadlineTask(isDone, newDescription, newPriority, newDeadline);
+        return new DeadlineTask(isDone, newDescription, newPriority, newDeadline, effort);
     }
 
     /**
@@ -82,34 +93,49 @@ public class DeadlineTask extends Task {
         return editTask(description, newPriority, deadline);
     }
 
+    /**
+     * Changes the effort estimate of the DeadlineTask.
+     *
+     * @param newEffort The new effort estimate, or null for none.
+     * @return New DeadlineTask with edited effort estimate.
+     */
+    @Override
+    public DeadlineTask withEffort(Duration newEffort) {
+        return new DeadlineTask(isDone, description, taskPriority, deadline, newEffort);
+    }
+
     /**
      * Toggles a DeadlineTask between done and undone.
      *
      * @return Deadline that is marked as done/undone.
      */
     public DeadlineTask markAsDone() {
-        return new DeadlineTask(!isDone, getDescription(), taskPriority, deadline);
+        return new DeadlineTask(!isDone, getDescription(), taskPriority, deadline, effort);
     }
 
 
     /**
-     * Converts the DeadlineTask into a string format for saving into file.
+     * Appends the DeadlineTask in string format for saving into file.
      *
-     * @return DeadlineTask in string format for file storage.
+     * @param builder StringBuilder to append to.
+     * @return The same StringBuilder.
      */
     @Override
-    public String saveTask() {
-        return String.format("%s /by %s", super.saveTask(), deadline);
+    protected StringBuilder appendSaveString(StringBuilder builder) {
+        super.appendSaveString(builder).append(" /by ");
+        return DateTimeCodec.append(builder, deadline);
     }
 
     /**
-     * Converts the DeadlineTask into a string format for display on user output.
+     * Appends the DeadlineTask in string format for display on user output.
      *
-     * @return DeadlineTask in string format for user output.
+     * @param builder StringBuilder to append to.
+     * @return The same StringBuilder.
      */
     @Override
-    public String toString() {
-        return String.format("%s (by: %s, %s)",
-                super.toString(), deadline.toLocalDate(), deadline.toLocalTime());
+    protected StringBuilder appendDisplayString(StringBuilder builder) {
+        super.appendDisplayString(builder).append(" (by: ");
+        DateTimeCodec.appendDate(builder, deadline.toLocalDate()).append(", ");
+        return DateTimeCodec.appendTime(builder, deadline.toLocalTime()).append(')');
     }
 }
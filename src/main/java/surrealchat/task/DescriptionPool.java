@@ -0,0 +1,118 @@
+package surrealchat.task;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Table of task descriptions that lets equal descriptions share one String, so that lists with many repeated
+ * descriptions take up less memory. Descriptions are only held weakly, so ones no task uses any more are dropped.
+ * Sharing can be switched off with the system property surrealchat.descriptions.dedup=false.
+ */
+public class DescriptionPool {
+    public static final String DEDUP_PROPERTY = "surrealchat.descriptions.dedup";
+    private static final int STRING_OBJECT_BYTES = 24; //Object header, array reference, hash and coder
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int OBJECT_ALIGNMENT = 8;
+
+    private final Map<String, WeakReference<String>> descriptions = new WeakHashMap<>(); //Guarded by itself
+    private final boolean isEnabled;
+
+    /**
+     * Creates new DescriptionPool object, enabled unless switched off by system property.
+     */
+    public DescriptionPool() {
+        this(!"false".equalsIgnoreCase(System.getProperty(DEDUP_PROPERTY)));
+    }
+
+    /**
+     * Creates new DescriptionPool object.
+     *
+     * @param isEnabled Whether equal descriptions should be shared.
+     */
+    public DescriptionPool(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * Estimates the heap taken by a String, assuming compact strings.
+     *
+     * @param string String to be measured.
+     * @return Estimated size in bytes.
+     */
+    static long estimateBytes(String string) {
+        boolean isLatin1 = string.chars().allMatch(c -> c < 256);
+        long arrayBytes = ARRAY_HEADER_BYTES + (isLatin1 ? string.length() : 2L * string.length());
+        long alignedArrayBytes = (arrayBytes + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT * OBJECT_ALIGNMENT;
+        return STRING_OBJECT_BYTES + alignedArrayBytes;
+    }
+
+    /**
+     * Obtains the shared copy of a description, storing it if it has not been seen before.
+     *
+     * @param description Description to be shared.
+     * @return String equal to description, which is the same object for all equal descriptions.
+     */
+    public String canonicalize(String description) {
+        if (!isEnabled) {
+            return description;
+        }
+        synchronized (descriptions) {
+            WeakReference<String> reference = descriptions.get(description);
+            String canonical = (reference == null) ? null : reference.get();
+            if (canonical == null) {
+                descriptions.put(description, new WeakReference<>(description));
+                return description;
+            }
+            return canonical;
+        }
+    }
+
+    /**
+     * Checks whether equal descriptions are shared.
+     *
+     * @return True if descriptions are shared, false otherwise.
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Obtains the number of distinct descriptions stored, which still counts ones dropped since the last lookup.
+     *
+     * @return Number of distinct descriptions.
+     */
+    public int getUniqueCount() {
+        synchronized (descriptions) {
+            return descriptions.size();
+        }
+    }
+
+    /**
+     * Converts the memory saved by sharing among the descriptions of a task list into string form for printing.
+     *
+     * @param taskList Tasks whose descriptions are measured.
+     * @return Number of descriptions and their estimated size before and after sharing.
+     */
+    public String formatReport(List<Task> taskList) {
+        if (!isEnabled) {
+            return "Description sharing is off.\n";
+        }
+        Set<String> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytesBefore = 0;
+        long bytesAfter = 0;
+        for (Task task : taskList) {
+            long bytes = estimateBytes(task.getDescription());
+            bytesBefore += bytes;
+            if (shared.add(task.getDescription())) {
+                bytesAfter += bytes;
+            }
+        }
+        return String.format("Descriptions: %d in list, %d unique | before sharing: %d KB | after sharing: %d KB\n",
+                taskList.size(), shared.size(), bytesBefore / 1024, bytesAfter / 1024);
+    }
+}
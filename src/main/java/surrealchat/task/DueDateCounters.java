@@ -0,0 +1,144 @@
+package surrealchat.task;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Running counts of undone deadlines by the day and week they are due, and how many are overdue.
+ * Overdue deadlines are counted up to the time last asked about, so asking again only looks at the deadlines
+ * passed since then, and asking again before the next deadline passes looks at none.
+ * Counts may be read from any thread.
+ */
+public class DueDateCounters {
+    private static final int PRIORITIES = TaskPriority.values().length;
+
+    private final Map<LocalDate, int[]> dayCounts = new HashMap<>(); //Counts by priority, for each day
+    private final Map<LocalDate, int[]> weekCounts = new HashMap<>(); //Counts by priority, for each Monday
+    private final TreeMap<LocalDateTime, Integer> deadlineCounts = new TreeMap<>();
+    private LocalDateTime overdueBefore = LocalDateTime.MIN; //Time the overdue count was last brought up to
+    private LocalDateTime nextDeadline = null; //Earliest deadline not before overdueBefore, if any
+    private int overdueCount = 0; //Deadlines before overdueBefore
+
+    /**
+     * Obtains the Monday starting the week a date is in.
+     *
+     * @param date Date in the week.
+     * @return Monday of that week.
+     */
+    public static LocalDate getWeekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static void addToBucket(Map<LocalDate, int[]> buckets, LocalDate key, TaskPriority priority,
+            int change) {
+        int[] counts = buckets.computeIfAbsent(key, newKey -> new int[PRIORITIES]);
+        counts[priority.ordinal()] += change;
+        for (int count : counts) {
+            if (count != 0) {
+                return;
+            }
+        }
+        buckets.remove(key);
+    }
+
+    private static int sumBucket(Map<LocalDate, int[]> buckets, LocalDate key, TaskPriority priority) {
+        int[] counts = buckets.get(key);
+        if (counts == null) {
+            return 0;
+        } else if (priority != null) {
+            return counts[priority.ordinal()];
+        }
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Counts or stops counting a task, if it is an undone deadline.
+     *
+     * @param task Task added or removed.
+     * @param change 1 if added, -1 if removed.
+     */
+    synchronized void update(Task task, int change) {
+        if (!(task instanceof DeadlineTask) || task.isDone()) {
+            return;
+        }
+        LocalDateTime deadline = ((DeadlineTask) task).getDeadline();
+        addToBucket(dayCounts, deadline.toLocalDate(), task.getPriority(), change);
+        addToBucket(weekCounts, getWeekStart(deadline.toLocalDate()), task.getPriority(), change);
+        if (deadlineCounts.merge(deadline, change, Integer::sum) == 0) {
+            deadlineCounts.remove(deadline);
+        }
+        if (deadline.isBefore(overdueBefore)) {
+            overdueCount += change;
+        } else if (change > 0 && (nextDeadline == null || deadline.isBefore(nextDeadline))) {
+            nextDeadline = deadline;
+        } else if (change < 0 && deadline.equals(nextDeadline) && !deadlineCounts.containsKey(deadline)) {
+            nextDeadline = deadlineCounts.ceilingKey(overdueBefore);
+        }
+    }
+
+    /**
+     * Stops counting every task.
+     */
+    synchronized void clear() {
+        dayCounts.clear();
+        weekCounts.clear();
+        deadlineCounts.clear();
+        nextDeadline = null;
+        overdueCount = 0;
+    }
+
+    /**
+     * Obtains the number of undone deadlines that have passed.
+     *
+     * @param now Current date and time.
+     * @return Number of undone deadlines before now.
+     */
+    public synchronized int getOverdueCount(LocalDateTime now) {
+        if (now.isBefore(overdueBefore)) { //Asked about an earlier time, so take back deadlines since then
+            NavigableMap<LocalDateTime, Integer> takenBack = deadlineCounts.subMap(now, true, overdueBefore, false);
+            for (int count : takenBack.values()) {
+                overdueCount -= count;
+            }
+            nextDeadline = takenBack.isEmpty() ? nextDeadline : takenBack.firstKey();
+        } else if (nextDeadline != null && nextDeadline.isBefore(now)) {
+            for (int count : deadlineCounts.subMap(nextDeadline, true, now, false).values()) {
+                overdueCount += count;
+            }
+            nextDeadline = deadlineCounts.ceilingKey(now);
+        }
+        overdueBefore = now;
+        return overdueCount;
+    }
+
+    /**
+     * Obtains the number of undone deadlines due on a day.
+     *
+     * @param date Day to count.
+     * @param priority Priority to count, or null for every priority.
+     * @return Number of undone deadlines due that day.
+     */
+    public synchronized int getDueOnDayCount(LocalDate date, TaskPriority priority) {
+        return sumBucket(dayCounts, date, priority);
+    }
+
+    /**
+     * Obtains the number of undone deadlines due in a week, from Monday to Sunday.
+     *
+     * @param date Any day in the week to count.
+     * @param priority Priority to count, or null for every priority.
+     * @return Number of undone deadlines due that week.
+     */
+    public synchronized int getDueInWeekCount(LocalDate date, TaskPriority priority) {
+        return sumBucket(weekCounts, getWeekStart(date), priority);
+    }
+}
@@ -0,0 +1,104 @@
+package surrealchat.task;
+
+import java.time.Duration;
+
+/**
+ * Parses and formats effort estimates of the form [hours]h[minutes]m, such as 2h, 45m or 1h30m.
+ * A number on its own is taken as minutes.
+ */
+public class DurationCodec {
+    public static final long MAX_MINUTES = Long.MAX_VALUE / 60; //Most minutes a Duration can hold as seconds
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final String FORMAT_MESSAGE = "Effort must be like 2h, 45m or 1h30m. Not stonks!\n";
+
+    private DurationCodec() {
+    }
+
+    private static long parseNumber(String text) {
+        if (text.isEmpty() || !Character.isDigit(text.charAt(0))) { //Signs would let parts cancel each other out
+            throw new IllegalArgumentException(FORMAT_MESSAGE);
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(FORMAT_MESSAGE);
+        }
+    }
+
+    /**
+     * Obtains an effort estimate from a number of minutes, such as one loaded from file.
+     *
+     * @param minutes Number of minutes, from 1 to MAX_MINUTES.
+     * @return Estimate as a duration.
+     * @throws IllegalArgumentException If the number of minutes is out of range.
+     */
+    public static Duration ofMinutes(long minutes) {
+        if (minutes <= 0) {
+            throw new IllegalArgumentException("Effort must be more than 0 minutes. Not stonks!\n");
+        } else if (minutes > MAX_MINUTES) {
+            throw new IllegalArgumentException(
+                    String.format("Effort must be at most %d minutes. Not stonks!\n", MAX_MINUTES));
+        }
+        return Duration.ofMinutes(minutes);
+    }
+
+    /**
+     * Parses an effort estimate.
+     *
+     * @param text Estimate of the form [hours]h[minutes]m, or a number of minutes.
+     * @return Estimate as a duration, which is always positive.
+     * @throws IllegalArgumentException If the text is not of that form, is not positive or is over MAX_MINUTES.
+     */
+    public static Duration parse(String text) {
+        String trimmedText = text.trim().toLowerCase();
+        long minutes;
+        int hourEnd = trimmedText.indexOf('h');
+        if (hourEnd < 0 && !trimmedText.endsWith("m")) {
+            minutes = parseNumber(trimmedText);
+        } else {
+            long hours = (hourEnd < 0) ? 0 : parseNumber(trimmedText.substring(0, hourEnd));
+            String minuteText = trimmedText.substring(hourEnd + 1);
+            long extraMinutes = 0;
+            if (!minuteText.isEmpty()) {
+                if (!minuteText.endsWith("m")) {
+                    throw new IllegalArgumentException(FORMAT_MESSAGE);
+                }
+                extraMinutes = parseNumber(minuteText.substring(0, minuteText.length() - 1));
+            }
+            try {
+                minutes = Math.addExact(Math.multiplyExact(hours, MINUTES_PER_HOUR), extraMinutes);
+            } catch (ArithmeticException e) {
+                minutes = Long.MAX_VALUE; //Rejected as too long below
+            }
+        }
+        return ofMinutes(minutes);
+    }
+
+    /**
+     * Appends an effort estimate in the form [hours]h[minutes]m, leaving out a part that is 0.
+     *
+     * @param builder StringBuilder to append to.
+     * @param effort Estimate to be formatted.
+     * @return The same StringBuilder.
+     */
+    public static StringBuilder append(StringBuilder builder, Duration effort) {
+        long minutes = effort.toMinutes();
+        if (minutes >= MINUTES_PER_HOUR) {
+            builder.append(minutes / MINUTES_PER_HOUR).append('h');
+        }
+        if (minutes % MINUTES_PER_HOUR != 0 || minutes == 0) {
+            builder.append(minutes % MINUTES_PER_HOUR).append('m');
+        }
+        return builder;
+    }
+
+    /**
+     * Formats an effort estimate in the form [hours]h[minutes]m.
+     *
+     * @param effort Estimate to be formatted.
+     * @return Estimate in string form.
+     */
+    public static String format(Duration effort) {
+        return append(new StringBuilder(), effort).toString();
+    }
+}
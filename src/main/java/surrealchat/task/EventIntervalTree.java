@@ -0,0 +1,226 @@
+package surrealchat.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Undone events ordered by start time, each subtree knowing the latest end within it, so that the events overlapping
+ * a time can be found without looking at the rest. Kept balanced as a treap: every event gets a random weight and
+ * heavier events are kept above lighter ones, which keeps the tree shallow whatever order events come in.
+ * Events without an end time last for an instant, so they overlap events under way at their start and each other.
+ * Not safe for use from many threads on its own. TaskManagement changes it under its write lock.
+ */
+class EventIntervalTree {
+    private static class Node {
+        private final EventTask event;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long sequence; //Orders events with the same start
+        private final int weight;
+        private Node left;
+        private Node right;
+        private LocalDateTime maxEnd; //Latest end in this subtree
+
+        private Node(EventTask event, long sequence, int weight) {
+            this.event = event;
+            this.start = event.getEventDate();
+            this.end = getEnd(event);
+            this.sequence = sequence;
+            this.weight = weight;
+            this.maxEnd = end;
+        }
+    }
+
+    private final Map<Task, Node> nodes = new IdentityHashMap<>();
+    private final Random random = new Random();
+    private Node root;
+    private long nextSequence = 0;
+
+    /**
+     * Obtains the end of an event as kept in the tree, which is just after its start if it has no end time.
+     */
+    private static LocalDateTime getEnd(EventTask event) {
+        return (event.getEndDate() == null) ? event.getEventDate().plusNanos(1) : event.getEndDate();
+    }
+
+    private static int compare(Node a, Node b) {
+        int startOrder = a.start.compareTo(b.start);
+        return (startOrder != 0) ? startOrder : Long.compare(a.sequence, b.sequence);
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Node update(Node node) {
+        LocalDateTime maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = later(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = later(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = update(node);
+        return update(left);
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = update(node);
+        return update(right);
+    }
+
+    private static Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode, node) < 0) {
+            node.left = insert(node.left, newNode);
+            return (node.left.weight > node.weight) ? rotateRight(node) : update(node);
+        }
+        node.right = insert(node.right, newNode);
+        return (node.right.weight > node.weight) ? rotateLeft(node) : update(node);
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.weight > right.weight) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node delete(Node node, Node oldNode) {
+        if (node == oldNode) {
+            return merge(node.left, node.right);
+        }
+        if (compare(oldNode, node) < 0) {
+            node.left = delete(node.left, oldNode);
+        } else {
+            node.right = delete(node.right, oldNode);
+        }
+        return update(node);
+    }
+
+    /**
+     * Adds a task if it is an undone event. Other tasks are ignored.
+     *
+     * @param task Task added.
+     */
+    void add(Task task) {
+        if (!(task instanceof EventTask) || task.isDone()) {
+            return;
+        }
+        Node newNode = new Node((EventTask) task, nextSequence++, random.nextInt());
+        nodes.put(task, newNode);
+        root = insert(root, newNode);
+    }
+
+    /**
+     * Removes a task if it was added.
+     *
+     * @param task Task removed.
+     */
+    void remove(Task task) {
+        Node oldNode = nodes.remove(task);
+        if (oldNode != null) {
+            root = delete(root, oldNode);
+        }
+    }
+
+    /**
+     * Removes every event.
+     */
+    void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Obtains the number of events.
+     *
+     * @return Number of undone events.
+     */
+    int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Finds the events overlapping an event, which need not be in the tree. Subtrees that end before the event
+     * starts or start after it ends are skipped.
+     *
+     * @param event Event to be checked.
+     * @return Other events overlapping it, by start time.
+     */
+    List<EventTask> getOverlapping(EventTask event) {
+        List<EventTask> overlapping = new ArrayList<>();
+        collectOverlapping(root, event.getEventDate(), getEnd(event), event, overlapping);
+        return overlapping;
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime start, LocalDateTime end, EventTask event,
+            List<EventTask> overlapping) {
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, event, overlapping);
+        if (!node.start.isBefore(end)) { //This event and every later one start after the event ends
+            return;
+        }
+        if (node.end.isAfter(start) && node.event != event) {
+            overlapping.add(node.event);
+        }
+        collectOverlapping(node.right, start, end, event, overlapping);
+    }
+
+    /**
+     * Finds every pair of overlapping events by sweeping through them in start order, keeping the events under way
+     * in a queue by end time. Every event still under way when another starts overlaps it, so the work done beyond
+     * the sweep is one step per pair found.
+     *
+     * @return Pairs of overlapping events, the earlier starting one first.
+     */
+    List<EventTask[]> getOverlappingPairs() {
+        List<Node> nodesByStart = new ArrayList<>(nodes.size());
+        collectInOrder(root, nodesByStart);
+        PriorityQueue<Node> underWay = new PriorityQueue<>(Comparator.comparing((Node node) -> node.end));
+        List<EventTask[]> pairs = new ArrayList<>();
+        for (Node node : nodesByStart) {
+            while (!underWay.isEmpty() && !underWay.peek().end.isAfter(node.start)) {
+                underWay.poll();
+            }
+            for (Node earlier : underWay) {
+                pairs.add(new EventTask[] {earlier.event, node.event});
+            }
+            underWay.add(node);
+        }
+        return pairs;
+    }
+
+    private static void collectInOrder(Node node, List<Node> collected) {
+        while (node != null) {
+            collectInOrder(node.left, collected);
+            collected.add(node);
+            node = node.right;
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package surrealchat.task;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
- * Represents a task that can occur only at a certain time.
+ * Represents a task that can occur only at a certain time, and optionally lasts until an end time.
  */
 public class EventTask extends Task {
-    private LocalDateTime event;
+    private final LocalDateTime event;
+    private final LocalDateTime end; //Null if the event has no end time
 
-    private EventTask(boolean isDone, String taskDescription, TaskPriority taskPriority, LocalDateTime event) {
-        super(TaskCode.EVENT_TYPE, isDone, taskDescription, taskPriority);
+    private EventTask(boolean isDone, String taskDescription, TaskPriority taskPriority, LocalDateTime event,
+            LocalDateTime end, Duration effort) {
+        super(TaskCode.EVENT_TYPE, isDone, taskDescription, taskPriority, effort);
+        assert end == null || end.isAfter(event) : "Event ends before it starts! Not stonks!\n";
         this.event = event;
+        this.end = end;
     }
 
     /**
@@ -23,7 +28,21 @@ public class EventTask extends Task {
      */
     public static EventTask createNewEventTask(
             String taskDescription, TaskPriority taskPriority, LocalDateTime event) {
-        return new EventTask(false, taskDescription, taskPriority, event);
+        return createNewEventTask(taskDescription, taskPriority, event, null);
+    }
+
+    /**
+     * Creates new instance of EventTask object that lasts until an end time.
+     *
+     * @param taskDescription The description of task.
+     * @param taskPriority Priority of task.
+     * @param event LocalDateTime object of the date and time at which task should happen.
+     * @param end Date and time at which task ends, after event, or null if it has no end time.
+     * @return New EventTask that is not done.
+     */
+    public static EventTask createNewEventTask(
+            String taskDescription, TaskPriority taskPriority, LocalDateTime event, LocalDateTime end) {
+        return new EventTask(false, taskDescription, taskPriority, event, end, null);
     }
 
     /**
@@ -37,11 +56,45 @@ public class EventTask extends Task {
      */
     public static EventTask loadEventTaskFromFile(
             boolean isDone, String taskDescription, TaskPriority taskPriority, LocalDateTime event) {
-        return new EventTask(isDone, taskDescription, taskPriority, event);
+        return loadEventTaskFromFile(isDone, taskDescription, taskPriority, event, null);
+    }
+
+    /**
+     * Creates instance of EventTask that lasts until an end time, based on what was loaded from file.
+     *
+     * @param isDone Whether task was previously marked as done.
+     * @param taskDescription The description of new task.
+     * @param taskPriority Priority of task.
+     * @param event The event date and time of the task.
+     * @param end The end date and time of the task, after event, or null if it has no end time.
+     * @return EventTask as loaded from file.
+     */
+    public static EventTask loadEventTaskFromFile(boolean isDone, String taskDescription,
+            TaskPriority taskPriority, LocalDateTime event, LocalDateTime end) {
+        return new EventTask(isDone, taskDescription, taskPriority, event, end, null);
+    }
+
+    /**
+     * Obtains the event date and time of the task.
+     *
+     * @return Date and time at which task happens.
+     */
+    public LocalDateTime getEventDate() {
+        return event;
     }
 
     /**
-     * Changes the description, event datetime and priority of the EventTask.
+     * Obtains the end date and time of the task.
+     *
+     * @return Date and time at which task ends, or null if it has no end time.
+     */
+    public LocalDateTime getEndDate() {
+        return end;
+    }
+
+    /**
+     * Changes the description, event datetime and priority of the EventTask. An end time moves with the event,
+     * so that the event lasts as long as before.
      *
      * @param newDescription New description of the task.
      * @param newPriority New task priority.
@@ -49,7 +102,8 @@ public class EventTask extends Task {
      * @return New ToDoTask with edited description, event datetime and priority.
      */
     public EventTask editTask(String newDescription, TaskPriority newPriority, LocalDateTime newEventDate) {
-        return new EventTask(isDone, newDescription, newPriority, newEventDate);
+        LocalDateTime newEnd = (end == null) ? null : newEventDate.plus(Duration.between(event, end));
+        return new EventTask(isDone, newDescription, newPriority, newEventDate, newEnd, effort);
     }
 
     /**
@@ -72,6 +126,17 @@ public class EventTask extends Task {
         return editTask(description, taskPriority, newEventDate);
     }
 
+    /**
+     * Changes the event datetime and end time of the EventTask.
+     *
+     * @param newEventDate The new event datetime for the Task.
+     * @param newEnd The new end datetime for the Task, after newEventDate, or null for none.
+     * @return New EventTask with edited event datetime and end time.
+     */
+    public EventTask editEventDate(LocalDateTime newEventDate, LocalDateTime newEnd) {
+        return new EventTask(isDone, description, taskPriority, newEventDate, newEnd, effort);
+    }
+
     /**
      * Changes the priority of the EventTask.
      *
@@ -82,32 +147,58 @@ public class EventTask extends Task {
         return editTask(description, newPriority, event);
     }
 
+    /**
+     * Changes the effort estimate of the EventTask.
+     *
+     * @param newEffort The new effort estimate, or null for none.
+     * @return New EventTask with edited effort estimate.
+     */
+    @Override
+    public EventTask withEffort(Duration newEffort) {
+        return new EventTask(isDone, description, taskPriority, event, end, newEffort);
+    }
+
     /**
      * Toggles an EventTask between done and undone.
      *
      * @return EventTask that is marked as done/undone.
      */
     public EventTask markAsDone() {
-        return new EventTask(!isDone, getDescription(), taskPriority, event);
+        return new EventTask(!isDone, getDescription(), taskPriority, event, end, effort);
     }
 
     /**
-     * Converts the EventTask into a string format for saving into file.
+     * Appends the EventTask in string format for saving into file.
      *
-     * @return EventTask in string format for file storage.
+     * @param builder StringBuilder to append to.
+     * @return The same StringBuilder.
      */
     @Override
-    public String saveTask() {
-        return String.format("%s /at %s", super.saveTask(), event);
+    protected StringBuilder appendSaveString(StringBuilder builder) {
+        super.appendSaveString(builder).append(" /at ");
+        DateTimeCodec.append(builder, event);
+        return (end == null) ? builder : DateTimeCodec.append(builder.append(" /to "), end);
     }
 
     /**
-     * Converts the EventTask into a string format for display on user output.
+     * Appends the EventTask in string format for display on user output.
+     * An end time on the same day is shown without its date.
      *
-     * @return EventTask in string format for user output.
+     * @param builder StringBuilder to append to.
+     * @return The same StringBuilder.
      */
     @Override
-    public String toString() {
-        return String.format("%s (at: %s, %s)", super.toString(), event.toLocalDate(), event.toLocalTime());
+    protected StringBuilder appendDisplayString(StringBuilder builder) {
+        super.appendDisplayString(builder).append(" (at: ");
+        DateTimeCodec.appendDate(builder, event.toLocalDate()).append(", ");
+        DateTimeCodec.appendTime(builder, event.toLocalTime());
+        if (end != null) {
+            builder.append(" to ");
+            if (!end.toLocalDate().equals(event.toLocalDate())) {
+                DateTimeCodec.appendDate(builder, end.toLocalDate()).append(", ");
+            }
+            DateTimeCodec.appendTime(builder, end.toLocalTime());
+        }
+        return builder.append(')');
     }
 }
@@ -0,0 +1,132 @@
+package surrealchat.task;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import surrealchat.exception.SurrealException;
+
+/**
+ * Represents how often a recurring task repeats, such as every 2 weeks.
+ */
+public class RecurrenceRule {
+    private final long interval;
+    private final ChronoUnit unit;
+
+    private RecurrenceRule(long interval, ChronoUnit unit) {
+        this.interval = interval;
+        this.unit = unit;
+    }
+
+    private static ChronoUnit parseUnit(String unitString) throws SurrealException {
+        switch(unitString) {
+        case "day":
+            //Fallthrough
+        case "days":
+            return ChronoUnit.DAYS;
+        case "week":
+            //Fallthrough
+        case "weeks":
+            return ChronoUnit.WEEKS;
+        case "month":
+            //Fallthrough
+        case "months":
+            return ChronoUnit.MONTHS;
+        case "year":
+            //Fallthrough
+        case "years":
+            return ChronoUnit.YEARS;
+        default:
+            throw new SurrealException("Recurrence must be in days, weeks, months or years. Not stonks!\n");
+        }
+    }
+
+    /**
+     * Obtains a RecurrenceRule from String.
+     *
+     * @param ruleString Either daily, weekly, monthly, yearly or every [number] [days/weeks/months/years].
+     * @return RecurrenceRule described by the String.
+     * @throws SurrealException If ruleString is not a valid rule.
+     */
+    public static RecurrenceRule parse(String ruleString) throws SurrealException {
+        String[] ruleWords = ruleString.trim().toLowerCase().split("\\s+");
+        if (ruleWords.length == 1) {
+            switch(ruleWords[0]) {
+            case "daily":
+                return new RecurrenceRule(1, ChronoUnit.DAYS);
+            case "weekly":
+                return new RecurrenceRule(1, ChronoUnit.WEEKS);
+            case "monthly":
+                return new RecurrenceRule(1, ChronoUnit.MONTHS);
+            case "yearly":
+                return new RecurrenceRule(1, ChronoUnit.YEARS);
+            default:
+                break;
+            }
+        }
+        if (ruleWords.length != 3 || !ruleWords[0].equals("every")) {
+            throw new SurrealException(
+                    "Recurrence must be daily, weekly, monthly, yearly or every [number] [unit]. Not stonks!\n");
+        }
+        try {
+            long interval = Long.parseLong(ruleWords[1]);
+            if (interval <= 0) {
+                throw new SurrealException("Recurrence interval must be positive. Not stonks!\n");
+            }
+            ChronoUnit unit = parseUnit(ruleWords[2]);
+            try {
+                LocalDateTime.MIN.plus(interval, unit); //One step must fit between the earliest and latest dates
+            } catch (DateTimeException | ArithmeticException e) {
+                throw new SurrealException("Recurrence interval is too long. Not stonks!\n");
+            }
+            return new RecurrenceRule(interval, unit);
+        } catch (NumberFormatException e) {
+            throw new SurrealException("Recurrence interval must be a number. Not stonks!\n");
+        }
+    }
+
+    /**
+     * Obtains the nth occurrence, counting the start as occurrence 0.
+     * Each occurrence is counted from the start, so a series starting on the 31st stays on the 31st where possible.
+     *
+     * @param start Date and time of the first occurrence.
+     * @param index Number of the occurrence.
+     * @return Date and time of the occurrence, or null if it is later than any date that can be held.
+     */
+    public LocalDateTime getOccurrence(LocalDateTime start, long index) {
+        try {
+            return start.plus(Math.multiplyExact(index, interval), unit);
+        } catch (DateTimeException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Obtains the number of the first occurrence that is not before a given date and time.
+     *
+     * @param start Date and time of the first occurrence.
+     * @param from Date and time from which to look.
+     * @return Number of the first occurrence at or after from, which may be too late to hold a date.
+     */
+    public long getFirstIndexFrom(LocalDateTime start, LocalDateTime from) {
+        if (!from.isAfter(start)) {
+            return 0;
+        }
+        long index = unit.between(start, from) / interval;
+        for (LocalDateTime occurrence = getOccurrence(start, index);
+                occurrence != null && occurrence.isBefore(from); occurrence = getOccurrence(start, index)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Converts the RecurrenceRule into a string format used for both display and file storage.
+     *
+     * @return RecurrenceRule in the form every [number] [unit].
+     */
+    @Override
+    public String toString() {
+        return "every " + interval + " " + unit.toString().toLowerCase();
+    }
+}
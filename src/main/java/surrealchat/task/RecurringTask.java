@@ -0,0 +1,169 @@
+package surrealchat.task;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Represents a task that repeats, such as a weekly meeting or monthly bill.
+ * Only the first occurrence and the rule are stored. Other occurrences are worked out when asked for.
+ */
+public class RecurringTask extends Task {
+    private final LocalDateTime start;
+    private final RecurrenceRule recurrenceRule;
+
+    private RecurringTask(boolean isDone, String taskDescription, TaskPriority taskPriority,
+            LocalDateTime start, RecurrenceRule recurrenceRule, Duration effort) {
+        super(TaskCode.RECURRING_TYPE, isDone, taskDescription, taskPriority, effort);
+        this.start = start;
+        this.recurrenceRule = recurrenceRule;
+    }
+
+    /**
+     * Creates new instance of RecurringTask object.
+     *
+     * @param taskDescription The description of task.
+     * @param taskPriority Priority of task.
+     * @param start Date and time of the first occurrence.
+     * @param recurrenceRule How often the task repeats.
+     * @return New RecurringTask that is not done.
+     */
+    public static RecurringTask createNewRecurringTask(String taskDescription, TaskPriority taskPriority,
+            LocalDateTime start, RecurrenceRule recurrenceRule) {
+        return new RecurringTask(false, taskDescription, taskPriority, start, recurrenceRule, null);
+    }
+
+    /**
+     * Creates instance of RecurringTask based on what was loaded from file.
+     *
+     * @param isDone Whether task was previously marked as done.
+     * @param taskDescription The description of new task.
+     * @param taskPriority Priority of task.
+     * @param start Date and time of the first occurrence.
+     * @param recurrenceRule How often the task repeats.
+     * @return RecurringTask as loaded from file.
+     */
+    public static RecurringTask loadRecurringTaskFromFile(boolean isDone, String taskDescription,
+            TaskPriority taskPriority, LocalDateTime start, RecurrenceRule recurrenceRule) {
+        return new RecurringTask(isDone, taskDescription, taskPriority, start, recurrenceRule, null);
+    }
+
+    /**
+     * Changes the description and priority of the RecurringTask.
+     *
+     * @param newDescription New description of the task.
+     * @param newPriority New task priority.
+     * @return New RecurringTask with edited description and priority.
+     */
+    public RecurringTask editTask(String newDescription, TaskPriority newPriority) {
+        return new RecurringTask(isDone, newDescription, newPriority, start, recurrenceRule, effort);
+    }
+
+    /**
+     * Changes the description of the RecurringTask.
+     *
+     * @param newDescription The new description for the Task.
+     * @return New RecurringTask with edited description.
+     */
+    public RecurringTask editDescription(String newDescription) {
+        return editTask(newDescription, taskPriority);
+    }
+
+    /**
+     * Changes the priority of the RecurringTask.
+     *
+     * @param newPriority The new priority for the Task.
+     * @return New RecurringTask with edited priority.
+     */
+    public RecurringTask editPriority(TaskPriority newPriority) {
+        return editTask(description, newPriority);
+    }
+
+    /**
+     * Changes the effort estimate of the RecurringTask.
+     *
+     * @param newEffort The new effort estimate, or null for none.
+     * @return New RecurringTask with edited effort estimate.
+     */
+    @Override
+    public RecurringTask withEffort(Duration newEffort) {
+        return new RecurringTask(isDone, description, taskPriority, start, recurrenceRule, newEffort);
+    }
+
+    /**
+     * Toggles a RecurringTask between done and undone. A done RecurringTask has no further occurrences.
+     *
+     * @return RecurringTask that is marked as done/undone.
+     */
+    public RecurringTask markAsDone() {
+        return new RecurringTask(!isDone, getDescription(), taskPriority, start, recurrenceRule, effort);
+    }
+
+    /**
+     * Obtains the date and time of the first occurrence.
+     *
+     * @return Date and time of the first occurrence.
+     */
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Obtains how often the task repeats.
+     *
+     * @return Recurrence rule of the task.
+     */
+    public RecurrenceRule getRecurrenceRule() {
+        return recurrenceRule;
+    }
+
+    /**
+     * Obtains the first occurrence at or after a given date and time.
+     *
+     * @param from Date and time from which to look.
+     * @return Date and time of the next occurrence, or null if it is later than any date that can be held.
+     */
+    public LocalDateTime getNextOccurrence(LocalDateTime from) {
+        return recurrenceRule.getOccurrence(start, recurrenceRule.getFirstIndexFrom(start, from));
+    }
+
+    /**
+     * Obtains the occurrences within a period, generated one at a time as the stream is read.
+     *
+     * @param from Start of the period, inclusive.
+     * @param to End of the period, inclusive.
+     * @return Stream of occurrences in order.
+     */
+    public Stream<LocalDateTime> getOccurrences(LocalDateTime from, LocalDateTime to) {
+        long firstIndex = recurrenceRule.getFirstIndexFrom(start, from);
+        return LongStream.iterate(firstIndex, index -> index + 1)
+                .mapToObj(index -> recurrenceRule.getOccurrence(start, index))
+                .takeWhile(occurrence -> occurrence != null && !occurrence.isAfter(to));
+    }
+
+    /**
+     * Appends the RecurringTask in string format for saving into file.
+     *
+     * @param builder StringBuilder to append to.
+     * @return The same StringBuilder.
+     */
+    @Override
+    protected StringBuilder appendSaveString(StringBuilder builder) {
+        super.appendSaveString(builder).append(" /from ");
+        return DateTimeCodec.append(builder, start).append(" /repeat ").append(recurrenceRule);
+    }
+
+    /**
+     * Appends the RecurringTask in string format for display on user output.
+     *
+     * @param builder StringBuilder to append to.
+     * @return The same StringBuilder.
+     */
+    @Override
+    protected StringBuilder appendDisplayString(StringBuilder builder) {
+        super.appendDisplayString(builder).append(" (").append(recurrenceRule).append(" from: ");
+        DateTimeCodec.appendDate(builder, start.toLocalDate()).append(", ");
+        return DateTimeCodec.appendTime(builder, start.toLocalTime()).append(')');
+    }
+}
@@ -0,0 +1,76 @@
+package surrealchat.task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a stretch of time in a schedule, spent on an event or on part of a task.
+ */
+public class ScheduledSlot {
+    protected final int taskNumber;
+    protected final Task task;
+    protected final LocalDateTime start;
+    protected final LocalDateTime end;
+    protected final boolean isLate;
+
+    /**
+     * Creates new ScheduledSlot object.
+     *
+     * @param taskNumber Number of the task in the task list, starting from 1.
+     * @param task Task worked on or attended.
+     * @param start Start of the slot.
+     * @param end End of the slot.
+     * @param isLate Whether the task is finished in this slot, but after its deadline.
+     */
+    public ScheduledSlot(int taskNumber, Task task, LocalDateTime start, LocalDateTime end, boolean isLate) {
+        this.taskNumber = taskNumber;
+        this.task = task;
+        this.start = start;
+        this.end = end;
+        this.isLate = isLate;
+    }
+
+    /**
+     * Obtains the number of the task in the task list.
+     *
+     * @return Task number, starting from 1.
+     */
+    public int getTaskNumber() {
+        return taskNumber;
+    }
+
+    /**
+     * Obtains the task of the slot.
+     *
+     * @return Task worked on or attended.
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * Obtains the start of the slot.
+     *
+     * @return Start date and time.
+     */
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Obtains the end of the slot.
+     *
+     * @return End date and time.
+     */
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Checks whether the task is finished in this slot, but after its deadline.
+     *
+     * @return True if the deadline cannot be met, false otherwise.
+     */
+    public boolean isLate() {
+        return isLate;
+    }
+}
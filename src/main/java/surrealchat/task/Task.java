@@ -1,15 +1,21 @@
 package surrealchat.task;
 
+import java.time.Duration;
+
 //Below solution adapted from partial solution in:
 // https://nus-cs2103-ay2021s2.github.io/website/schedule/week2/project.html
 /**
  * Represents an abstract task, which task subclasses inherit from.
+ * Tasks never change, so their display and save strings are built once on first use and then reused.
  */
 public abstract class Task {
     protected final String type;
     protected final boolean isDone;
     protected final String description;
     protected final TaskPriority taskPriority;
+    protected final Duration effort; //Null if not estimated
+    private String displayString; //Built on first use. A race only builds an equal String twice.
+    private String saveString;
 
     /**
      * Creates instance of Task object.
@@ -20,10 +26,24 @@ public abstract class Task {
      * @param taskPriority The priority of the task.
      */
     public Task(String type, boolean isDone, String description, TaskPriority taskPriority) {
+        this(type, isDone, description, taskPriority, null);
+    }
+
+    /**
+     * Creates instance of Task object with an estimate of the effort it takes.
+     *
+     * @param type Type in terms of todo (denoted "T"), deadline (denoted "D"), event (denoted "E").
+     * @param isDone Boolean flag of whether task is done or not.
+     * @param description Description of task.
+     * @param taskPriority The priority of the task.
+     * @param effort How long the task is expected to take, or null if not estimated.
+     */
+    public Task(String type, boolean isDone, String description, TaskPriority taskPriority, Duration effort) {
         this.type = type;
         this.isDone = isDone;
         this.description = description;
         this.taskPriority = taskPriority;
+        this.effort = effort;
     }
 
     /**
@@ -35,6 +55,33 @@ public abstract class Task {
         return type;
     }
 
+    /**
+     * Checks whether task was completed.
+     *
+     * @return True if task was completed, false otherwise.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    /**
+     * Obtains the priority of the task.
+     *
+     * @return Priority of task.
+     */
+    public TaskPriority getPriority() {
+        return taskPriority;
+    }
+
+    /**
+     * Obtains the estimate of how long the task takes.
+     *
+     * @return Effort estimate, or null if not estimated.
+     */
+    public Duration getEffort() {
+        return effort;
+    }
+
     /**
      * Converts status of isDone into integer.
      *
@@ -73,15 +120,55 @@ public abstract class Task {
      */
     public abstract Task markAsDone();
 
+    /**
+     * Changes the estimate of how long the Task takes.
+     *
+     * @param newEffort The new effort estimate, or null for none.
+     * @return Task with edited effort estimate.
+     */
+    public abstract Task withEffort(Duration newEffort);
+
+    /**
+     * Appends the Task in string format for saving into file.
+     * Subclasses append their own details after calling this.
+     *
+     * @param builder StringBuilder to append to.
+     * @return The same StringBuilder.
+     */
+    protected StringBuilder appendSaveString(StringBuilder builder) {
+        return builder.append(getType()).append("/split/").append(getStatusInt())
+                .append("/split/").append(taskPriority.getPriorityLevel())
+                .append("/split/").append(getDescription());
+    }
+
+    /**
+     * Appends the Task in string format for display on user output.
+     * Subclasses append their own details after calling this.
+     *
+     * @param builder StringBuilder to append to.
+     * @return The same StringBuilder.
+     */
+    protected StringBuilder appendDisplayString(StringBuilder builder) {
+        return builder.append('[').append(getType()).append("][").append(getStatusIcon()).append("] ")
+                .append(getDescription()).append(" | Priority: ").append(taskPriority.getPriorityLevel());
+    }
 
     /**
-     * Converts the Task into a string format for saving into file.
+     * Converts the Task into a string format for saving into file. An effort estimate is saved last, in minutes.
      *
      * @return Task in string format for file storage.
      */
-    public String saveTask() {
-        return String.format("%s/split/%s/split/%s/split/%s",
-                getType(), getStatusInt(), taskPriority.getPriorityLevel(), getDescription());
+    public final String saveTask() {
+        String savedString = saveString;
+        if (savedString == null) {
+            StringBuilder builder = appendSaveString(new StringBuilder());
+            if (effort != null) {
+                builder.append("/split/").append(effort.toMinutes());
+            }
+            savedString = builder.toString();
+            saveString = savedString;
+        }
+        return savedString;
     }
 
     /**
@@ -90,8 +177,16 @@ public abstract class Task {
      * @return Task in string format for user output.
      */
     @Override
-    public String toString() {
-        return String.format("[%s][%s] %s | Priority: %s",
-                getType(), getStatusIcon(), getDescription(), taskPriority.getPriorityLevel());
+    public final String toString() {
+        String printString = displayString;
+        if (printString == null) {
+            StringBuilder builder = appendDisplayString(new StringBuilder());
+            if (effort != null) {
+                DurationCodec.append(builder.append(" | Effort: "), effort);
+            }
+            printString = builder.toString();
+            displayString = printString;
+        }
+        return printString;
     }
 }
@@ -0,0 +1,127 @@
+package surrealchat.task;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands batches of task changes to listeners, either on the thread that made the changes or on an executor.
+ * Each listener receives batches in the order the changes were made, even when delivered on an executor.
+ */
+class TaskChangeDispatcher {
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ReentrantLock deliveryLock = new ReentrantLock(); //Keeps batches in order across threads
+
+    /**
+     * A listener and the executor it is delivered on, with the batches waiting for it.
+     */
+    private static class Subscription {
+        private final TaskChangeListener listener;
+        private final Executor executor; //Null to deliver on the calling thread
+        private final Queue<List<TaskChangeEvent>> waitingBatches = new ArrayDeque<>(); //Guarded by this
+        private boolean isDraining = false; //Guarded by this
+
+        private Subscription(TaskChangeListener listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+        private void deliver(List<TaskChangeEvent> changes) {
+            if (executor == null) {
+                notifyListener(changes);
+                return;
+            }
+            synchronized (this) {
+                waitingBatches.add(changes);
+                if (isDraining) {
+                    return; //The running drain will get to it
+                }
+                isDraining = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    waitingBatches.clear();
+                    isDraining = false;
+                }
+                System.err.println("Task changes could not be delivered. Not stonks!\n");
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                List<TaskChangeEvent> changes;
+                synchronized (this) {
+                    changes = waitingBatches.poll();
+                    if (changes == null) {
+                        isDraining = false;
+                        return;
+                    }
+                }
+                notifyListener(changes);
+            }
+        }
+
+        private void notifyListener(List<TaskChangeEvent> changes) {
+            try {
+                listener.onTasksChanged(changes);
+            } catch (RuntimeException e) { //One faulty listener should not stop the others or the command
+                System.err.println("Task change listener failed: " + e.getMessage() + " Not stonks!\n");
+            }
+        }
+    }
+
+    /**
+     * Adds a listener.
+     *
+     * @param listener Listener to be added.
+     * @param executor Executor to deliver on, or null to deliver on the thread that made the changes.
+     */
+    void addListener(TaskChangeListener listener, Executor executor) {
+        subscriptions.add(new Subscription(listener, executor));
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener Listener to be removed.
+     * @return True if the listener had been added, false otherwise.
+     */
+    boolean removeListener(TaskChangeListener listener) {
+        return subscriptions.removeIf(subscription -> subscription.listener == listener);
+    }
+
+    /**
+     * Checks whether anyone is listening, so that changes need not be recorded otherwise.
+     *
+     * @return True if there are listeners, false otherwise.
+     */
+    boolean hasListeners() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Reserves the next delivery. Called while the changes are still locked, so that deliveries follow change order.
+     */
+    void lockDelivery() {
+        deliveryLock.lock();
+    }
+
+    /**
+     * Delivers a batch of changes to every listener, then releases the delivery reserved by lockDelivery.
+     *
+     * @param changes Changes made, in order.
+     */
+    void deliverAndUnlock(List<TaskChangeEvent> changes) {
+        try {
+            subscriptions.forEach(subscription -> subscription.deliver(changes));
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+}
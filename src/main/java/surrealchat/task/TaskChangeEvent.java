@@ -0,0 +1,136 @@
+package surrealchat.task;
+
+import java.util.List;
+
+/**
+ * Describes one change to a task list, so that anything derived from the list can be updated by the change alone.
+ */
+public class TaskChangeEvent {
+    /**
+     * Kinds of change to a task list.
+     */
+    public enum Kind {
+        ADDED, //New task at taskNumber
+        REPLACED, //Task at taskNumber swapped for another, such as an edited or done one
+        DELETED, //Task at taskNumber removed, moving later tasks up by one
+        CLEARED, //Every task removed
+        SORTED //Tasks reordered into sortedTasks, so earlier task numbers no longer hold
+    }
+
+    protected final Kind kind;
+    protected final int taskNumber;
+    protected final Task oldTask;
+    protected final Task newTask;
+    protected final List<Task> sortedTasks;
+
+    private TaskChangeEvent(Kind kind, int taskNumber, Task oldTask, Task newTask, List<Task> sortedTasks) {
+        this.kind = kind;
+        this.taskNumber = taskNumber;
+        this.oldTask = oldTask;
+        this.newTask = newTask;
+        this.sortedTasks = sortedTasks;
+    }
+
+    /**
+     * Creates event for a task that was added.
+     *
+     * @param taskNumber Position of the new task, starting from 1.
+     * @param newTask Task added.
+     * @return TaskChangeEvent of the addition.
+     */
+    public static TaskChangeEvent added(int taskNumber, Task newTask) {
+        return new TaskChangeEvent(Kind.ADDED, taskNumber, null, newTask, null);
+    }
+
+    /**
+     * Creates event for a task that was replaced.
+     *
+     * @param taskNumber Position of the task, starting from 1.
+     * @param oldTask Task before the change.
+     * @param newTask Task after the change.
+     * @return TaskChangeEvent of the replacement.
+     */
+    public static TaskChangeEvent replaced(int taskNumber, Task oldTask, Task newTask) {
+        return new TaskChangeEvent(Kind.REPLACED, taskNumber, oldTask, newTask, null);
+    }
+
+    /**
+     * Creates event for a task that was deleted.
+     *
+     * @param taskNumber Position the task was at, starting from 1.
+     * @param oldTask Task deleted.
+     * @return TaskChangeEvent of the deletion.
+     */
+    public static TaskChangeEvent deleted(int taskNumber, Task oldTask) {
+        return new TaskChangeEvent(Kind.DELETED, taskNumber, oldTask, null, null);
+    }
+
+    /**
+     * Creates event for every task being deleted.
+     *
+     * @return TaskChangeEvent of the clearing.
+     */
+    public static TaskChangeEvent cleared() {
+        return new TaskChangeEvent(Kind.CLEARED, 0, null, null, null);
+    }
+
+    /**
+     * Creates event for the tasks being reordered.
+     *
+     * @param sortedTasks Tasks in their new order.
+     * @return TaskChangeEvent of the sort.
+     */
+    public static TaskChangeEvent sorted(List<Task> sortedTasks) {
+        return new TaskChangeEvent(Kind.SORTED, 0, null, null, sortedTasks);
+    }
+
+    /**
+     * Obtains the kind of change.
+     *
+     * @return Kind of change.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Obtains the position of the changed task.
+     *
+     * @return Task number starting from 1, or 0 if the change is to the whole list.
+     */
+    public int getTaskNumber() {
+        return taskNumber;
+    }
+
+    /**
+     * Obtains the task before the change.
+     *
+     * @return Task before the change, or null if the task was added.
+     */
+    public Task getOldTask() {
+        return oldTask;
+    }
+
+    /**
+     * Obtains the task after the change.
+     *
+     * @return Task after the change, or null if the task was deleted.
+     */
+    public Task getNewTask() {
+        return newTask;
+    }
+
+    /**
+     * Obtains the tasks in the order a sort left them, which later changes in the same batch have not touched.
+     *
+     * @return Unmodifiable list of tasks, or null if the change is not a sort.
+     */
+    public List<Task> getSortedTasks() {
+        return sortedTasks;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + taskNumber + ": " + oldTask + " -> " + newTask;
+    }
+}
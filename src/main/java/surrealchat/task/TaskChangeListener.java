@@ -0,0 +1,17 @@
+package surrealchat.task;
+
+import java.util.List;
+
+/**
+ * Reacts to changes in a task list without having to scan it.
+ */
+@FunctionalInterface
+public interface TaskChangeListener {
+    /**
+     * Receives a batch of changes, such as every change made by one command, in the order they were made.
+     * Task numbers in each change refer to the list as it was just before that change.
+     *
+     * @param changes Changes made, never empty.
+     */
+    void onTasksChanged(List<TaskChangeEvent> changes);
+}
@@ -7,4 +7,5 @@ public class TaskCode {
     public static final String TODO_TYPE = "T";
     public static final String DEADLINE_TYPE = "D";
     public static final String EVENT_TYPE = "E";
+    public static final String RECURRING_TYPE = "R";
 }
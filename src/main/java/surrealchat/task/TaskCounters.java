@@ -0,0 +1,148 @@
+package surrealchat.task;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Running counts of tasks, updated as tasks are added and removed so that reading them needs no scan.
+ * Tasks are counted by type, done or undone, and priority together, and undone deadlines by when they are due.
+ * Counts may be read from any thread.
+ */
+public class TaskCounters {
+    public static final List<String> TYPES = List.of(
+            TaskCode.TODO_TYPE, TaskCode.DEADLINE_TYPE, TaskCode.EVENT_TYPE, TaskCode.RECURRING_TYPE);
+    private static final int PRIORITIES = TaskPriority.values().length;
+
+    private final AtomicInteger totalCount = new AtomicInteger();
+    private final AtomicInteger doneCount = new AtomicInteger();
+    private final AtomicIntegerArray priorityCounts = new AtomicIntegerArray(PRIORITIES);
+    private final AtomicIntegerArray typeCounts = new AtomicIntegerArray(TYPES.size() * 2 * PRIORITIES);
+    private final DueDateCounters dueDateCounters = new DueDateCounters();
+
+    private static int getTypeIndex(String type, boolean isDone, TaskPriority taskPriority) {
+        int typeIndex = TYPES.indexOf(type);
+        assert typeIndex >= 0 : "Invalid task type. Not stonks!\n";
+        return (typeIndex * 2 + (isDone ? 1 : 0)) * PRIORITIES + taskPriority.ordinal();
+    }
+
+    private void update(Task task, int change) {
+        totalCount.addAndGet(change);
+        if (task.isDone()) {
+            doneCount.addAndGet(change);
+        }
+        priorityCounts.addAndGet(task.getPriority().ordinal(), change);
+        typeCounts.addAndGet(getTypeIndex(task.getType(), task.isDone(), task.getPriority()), change);
+        dueDateCounters.update(task, change);
+    }
+
+    /**
+     * Counts a task that was added.
+     *
+     * @param task Task added.
+     * @return The same task.
+     */
+    Task add(Task task) {
+        update(task, 1);
+        return task;
+    }
+
+    /**
+     * Stops counting a task that was removed.
+     *
+     * @param task Task removed.
+     * @return The same task.
+     */
+    Task remove(Task task) {
+        update(task, -1);
+        return task;
+    }
+
+    /**
+     * Resets all counts to 0.
+     */
+    void clear() {
+        totalCount.set(0);
+        doneCount.set(0);
+        for (int i = 0; i < priorityCounts.length(); i++) {
+            priorityCounts.set(i, 0);
+        }
+        for (int i = 0; i < typeCounts.length(); i++) {
+            typeCounts.set(i, 0);
+        }
+        dueDateCounters.clear();
+    }
+
+    /**
+     * Obtains the number of tasks.
+     *
+     * @return Number of tasks.
+     */
+    public int getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Obtains the number of tasks that are done.
+     *
+     * @return Number of done tasks.
+     */
+    public int getDoneCount() {
+        return doneCount.get();
+    }
+
+    /**
+     * Obtains the number of tasks that are not done.
+     *
+     * @return Number of undone tasks.
+     */
+    public int getUndoneCount() {
+        return getTotalCount() - getDoneCount();
+    }
+
+    /**
+     * Obtains the number of tasks with a certain priority.
+     *
+     * @param taskPriority Priority to count.
+     * @return Number of tasks with that priority.
+     */
+    public int getPriorityCount(TaskPriority taskPriority) {
+        return priorityCounts.get(taskPriority.ordinal());
+    }
+
+    /**
+     * Obtains the number of tasks of a certain type, done or undone, with a certain priority.
+     *
+     * @param type Type to count, one of TYPES.
+     * @param isDone Whether to count done tasks or undone tasks.
+     * @param taskPriority Priority to count.
+     * @return Number of such tasks.
+     */
+    public int getCount(String type, boolean isDone, TaskPriority taskPriority) {
+        return typeCounts.get(getTypeIndex(type, isDone, taskPriority));
+    }
+
+    /**
+     * Obtains the number of tasks of a certain type, done or undone, of any priority.
+     *
+     * @param type Type to count, one of TYPES.
+     * @param isDone Whether to count done tasks or undone tasks.
+     * @return Number of such tasks.
+     */
+    public int getCount(String type, boolean isDone) {
+        int count = 0;
+        for (TaskPriority taskPriority : TaskPriority.values()) {
+            count += getCount(type, isDone, taskPriority);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the running counts of undone deadlines by when they are due.
+     *
+     * @return DueDateCounters object of these tasks.
+     */
+    public DueDateCounters getDueDateCounters() {
+        return dueDateCounters;
+    }
+}
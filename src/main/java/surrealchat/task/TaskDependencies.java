@@ -0,0 +1,317 @@
+package surrealchat.task;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import surrealchat.exception.SurrealException;
+
+/**
+ * Links between tasks where one task blocks another until it is done. Only linked tasks are kept, by identity, and
+ * the task list tells them of edits and deletions as it makes them, so the links are carried along.
+ * Linked tasks are kept in an order where blockers come first, which is only repaired where a new link breaks it,
+ * so a link is checked for cycles without walking the whole graph. Each task also counts its undone blockers,
+ * so marking a task done only touches the tasks it blocks.
+ */
+public class TaskDependencies {
+    private static class Node {
+        private Task task;
+        private final Set<Node> blocks = new LinkedHashSet<>();
+        private final Set<Node> blockedBy = new LinkedHashSet<>();
+        private int undoneBlockerCount = 0;
+        private long order; //Blockers always have a smaller order than the tasks they block
+
+        private Node(Task task, long order) {
+            this.task = task;
+            this.order = order;
+        }
+
+        private boolean hasLinks() {
+            return !blocks.isEmpty() || !blockedBy.isEmpty();
+        }
+    }
+
+    private final Map<Task, Node> nodes = new IdentityHashMap<>();
+    private long nextOrder = 0;
+    private int numberOfLinks = 0;
+
+    private Node getOrCreateNode(Task task) {
+        return nodes.computeIfAbsent(task, newTask -> new Node(newTask, nextOrder++));
+    }
+
+    private void dropIfUnlinked(Node node) {
+        if (!node.hasLinks()) {
+            nodes.remove(node.task);
+        }
+    }
+
+    /**
+     * Links two tasks so that one blocks the other until it is done.
+     *
+     * @param blocker Task that blocks.
+     * @param blocked Task that is blocked.
+     * @throws SurrealException If the tasks are the same, already linked, or the link would make a cycle.
+     */
+    public synchronized void addLink(Task blocker, Task blocked) throws SurrealException {
+        if (blocker == blocked) {
+            throw new SurrealException("A task cannot block itself. Not stonks!\n");
+        }
+        Node from = getOrCreateNode(blocker);
+        Node to = getOrCreateNode(blocked);
+        if (from.blocks.contains(to)) {
+            throw new SurrealException("That task already blocks this one. Not stonks!\n");
+        }
+        if (from.order > to.order && !reorder(from, to)) {
+            dropIfUnlinked(from);
+            dropIfUnlinked(to);
+            throw new SurrealException("That link would make tasks block each other forever. Not stonks!\n");
+        }
+        from.blocks.add(to);
+        to.blockedBy.add(from);
+        if (!blocker.isDone()) {
+            to.undoneBlockerCount++;
+        }
+        numberOfLinks++;
+    }
+
+    /**
+     * Repairs the order for a new link that goes against it, touching only the tasks between the two.
+     *
+     * @return False if the blocked task already blocks the blocker, so the link would make a cycle.
+     */
+    private boolean reorder(Node from, Node to) {
+        List<Node> forward = new ArrayList<>(); //Tasks blocked by to that are ordered before from
+        Set<Node> visited = new HashSet<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(to);
+        visited.add(to);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            forward.add(node);
+            for (Node next : node.blocks) {
+                if (next == from) {
+                    return false;
+                }
+                if (next.order < from.order && visited.add(next)) {
+                    stack.push(next);
+                }
+            }
+        }
+        List<Node> backward = new ArrayList<>(); //Tasks blocking from that are ordered after to
+        stack.push(from);
+        visited.add(from);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            backward.add(node);
+            for (Node previous : node.blockedBy) {
+                if (previous.order > to.order && visited.add(previous)) {
+                    stack.push(previous);
+                }
+            }
+        }
+        //Hand the orders already held by these tasks back out, with from and its blockers first
+        Comparator<Node> byOrder = Comparator.comparingLong(node -> node.order);
+        backward.sort(byOrder);
+        forward.sort(byOrder);
+        List<Node> moved = new ArrayList<>(backward);
+        moved.addAll(forward);
+        long[] orders = moved.stream().mapToLong(node -> node.order).sorted().toArray();
+        for (int i = 0; i < orders.length; i++) {
+            moved.get(i).order = orders[i];
+        }
+        return true;
+    }
+
+    /**
+     * Removes the link between two tasks.
+     *
+     * @param blocker Task that blocks.
+     * @param blocked Task that is blocked.
+     * @return True if the tasks were linked, false otherwise.
+     */
+    public synchronized boolean removeLink(Task blocker, Task blocked) {
+        Node from = nodes.get(blocker);
+        Node to = nodes.get(blocked);
+        if (from == null || to == null || !from.blocks.remove(to)) {
+            return false;
+        }
+        to.blockedBy.remove(from);
+        if (!blocker.isDone()) {
+            to.undoneBlockerCount--;
+        }
+        numberOfLinks--;
+        dropIfUnlinked(from);
+        dropIfUnlinked(to);
+        return true;
+    }
+
+    /**
+     * Drops the links of a task that was removed from the list.
+     *
+     * @param task Task removed.
+     */
+    synchronized void remove(Task task) {
+        Node node = nodes.remove(task);
+        if (node == null) {
+            return;
+        }
+        for (Node next : node.blocks) {
+            next.blockedBy.remove(node);
+            if (!task.isDone()) {
+                next.undoneBlockerCount--;
+            }
+            dropIfUnlinked(next);
+        }
+        for (Node previous : node.blockedBy) {
+            previous.blocks.remove(node);
+            dropIfUnlinked(previous);
+        }
+        numberOfLinks -= node.blocks.size() + node.blockedBy.size();
+    }
+
+    /**
+     * Moves the links of a task onto the task that replaced it, such as the same task marked done.
+     *
+     * @param oldTask Task replaced.
+     * @param newTask Task put in its place.
+     */
+    synchronized void replace(Task oldTask, Task newTask) {
+        Node node = nodes.remove(oldTask);
+        if (node == null) {
+            return;
+        }
+        node.task = newTask;
+        nodes.put(newTask, node);
+        if (oldTask.isDone() != newTask.isDone()) {
+            int change = newTask.isDone() ? -1 : 1;
+            for (Node next : node.blocks) {
+                next.undoneBlockerCount += change;
+            }
+        }
+    }
+
+    /**
+     * Drops every link, as the list was cleared.
+     */
+    synchronized void clear() {
+        nodes.clear();
+        numberOfLinks = 0;
+    }
+
+    /**
+     * Checks whether a task is blocked by a task that is not done yet.
+     *
+     * @param task Task to be checked.
+     * @return True if blocked, false otherwise.
+     */
+    public synchronized boolean isBlocked(Task task) {
+        Node node = nodes.get(task);
+        return node != null && node.undoneBlockerCount > 0;
+    }
+
+    /**
+     * Checks whether a task is ready to be done: it is not done yet and nothing blocks it.
+     *
+     * @param task Task to be checked.
+     * @return True if ready, false otherwise.
+     */
+    public boolean isReady(Task task) {
+        return !task.isDone() && !isBlocked(task);
+    }
+
+    /**
+     * Obtains the number of links.
+     *
+     * @return Number of links.
+     */
+    public synchronized int getNumberOfLinks() {
+        return numberOfLinks;
+    }
+
+    /**
+     * Obtains the links between tasks of a list as pairs of task numbers, such as for saving.
+     *
+     * @param taskList Tasks in task list order.
+     * @return Pairs of blocker and blocked task numbers, starting from 1.
+     */
+    public synchronized List<int[]> getLinkNumbers(List<Task> taskList) {
+        Map<Task, Integer> taskNumbers = getTaskNumbers(taskList);
+        List<int[]> links = new ArrayList<>(numberOfLinks);
+        for (int i = 0; i < taskList.size(); i++) {
+            Node node = nodes.get(taskList.get(i));
+            if (node == null) {
+                continue;
+            }
+            for (Node next : node.blocks) {
+                Integer blockedNumber = taskNumbers.get(next.task);
+                if (blockedNumber != null) {
+                    links.add(new int[] {i + 1, blockedNumber});
+                }
+            }
+        }
+        return links;
+    }
+
+    /**
+     * Orders the undone tasks of a list so that every task comes after the tasks blocking it.
+     * Among tasks that could come next, the one with the smallest task number comes first.
+     *
+     * @param taskList Tasks in task list order.
+     * @return Task numbers of undone tasks in the order they can be done, starting from 1.
+     */
+    public synchronized List<Integer> getPlan(List<Task> taskList) {
+        Map<Task, Integer> taskNumbers = getTaskNumbers(taskList);
+        int[] blockerCounts = new int[taskList.size() + 1];
+        for (Task task : taskList) {
+            Node node = nodes.get(task);
+            if (node != null && !task.isDone()) {
+                for (Node next : node.blocks) {
+                    Integer blockedNumber = taskNumbers.get(next.task);
+                    if (blockedNumber != null) {
+                        blockerCounts[blockedNumber]++;
+                    }
+                }
+            }
+        }
+        PriorityQueue<Integer> readyNumbers = new PriorityQueue<>();
+        for (int i = 1; i <= taskList.size(); i++) {
+            if (!taskList.get(i - 1).isDone() && blockerCounts[i] == 0) {
+                readyNumbers.add(i);
+            }
+        }
+        List<Integer> plan = new ArrayList<>();
+        while (!readyNumbers.isEmpty()) {
+            int taskNumber = readyNumbers.poll();
+            plan.add(taskNumber);
+            Node node = nodes.get(taskList.get(taskNumber - 1));
+            if (node == null) {
+                continue;
+            }
+            for (Node next : node.blocks) {
+                Integer blockedNumber = taskNumbers.get(next.task);
+                if (blockedNumber != null && !next.task.isDone() && --blockerCounts[blockedNumber] == 0) {
+                    readyNumbers.add(blockedNumber);
+                }
+            }
+        }
+        return plan;
+    }
+
+    private Map<Task, Integer> getTaskNumbers(List<Task> taskList) {
+        Map<Task, Integer> taskNumbers = new IdentityHashMap<>();
+        for (int i = 0; i < taskList.size(); i++) {
+            if (nodes.containsKey(taskList.get(i))) {
+                taskNumbers.put(taskList.get(i), i + 1);
+            }
+        }
+        return taskNumbers;
+    }
+}
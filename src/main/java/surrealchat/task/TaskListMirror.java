@@ -0,0 +1,79 @@
+package surrealchat.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copy of a task list kept up to date from its change events alone, such as the rows of a table.
+ * Runs of tasks added or deleted together are applied as one edit, so a copy that announces its edits, such as an
+ * observable list, announces one per run instead of one per task.
+ */
+public class TaskListMirror {
+    protected final List<Task> mirror;
+
+    /**
+     * Creates new TaskListMirror object.
+     *
+     * @param mirror List to be kept in step, which should hold the tasks of the task list when changes start.
+     */
+    public TaskListMirror(List<Task> mirror) {
+        this.mirror = mirror;
+    }
+
+    /**
+     * Replaces every task in the copy, for sorts, which cannot be followed task by task.
+     *
+     * @param tasks Tasks of the task list, in their new order.
+     */
+    protected void reset(List<Task> tasks) {
+        mirror.clear();
+        mirror.addAll(tasks);
+    }
+
+    /**
+     * Applies a batch of changes to the copy.
+     *
+     * @param changes Changes made, in the order they were made.
+     */
+    public void applyChanges(List<TaskChangeEvent> changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            TaskChangeEvent change = changes.get(i);
+            int index = change.getTaskNumber() - 1;
+            switch(change.getKind()) {
+            case ADDED:
+                List<Task> addedTasks = new ArrayList<>();
+                addedTasks.add(change.getNewTask());
+                while (i + 1 < changes.size() && changes.get(i + 1).getKind() == TaskChangeEvent.Kind.ADDED
+                        && changes.get(i + 1).getTaskNumber() == change.getTaskNumber() + addedTasks.size()) {
+                    addedTasks.add(changes.get(++i).getNewTask());
+                }
+                mirror.addAll(index, addedTasks);
+                break;
+            case REPLACED:
+                mirror.set(index, change.getNewTask());
+                break;
+            case DELETED:
+                int fromIndex = index;
+                int toIndex = index + 1;
+                while (i + 1 < changes.size() && changes.get(i + 1).getKind() == TaskChangeEvent.Kind.DELETED) {
+                    int nextIndex = changes.get(i + 1).getTaskNumber() - 1;
+                    if (nextIndex == fromIndex) { //Task that moved up into the deleted place
+                        toIndex++;
+                    } else if (nextIndex == fromIndex - 1) { //Task just before, as when deleting from the end
+                        fromIndex--;
+                    } else {
+                        break;
+                    }
+                    i++;
+                }
+                mirror.subList(fromIndex, toIndex).clear();
+                break;
+            case CLEARED:
+                mirror.clear();
+                break;
+            default: //Sorted, so the old positions no longer hold
+                reset(change.getSortedTasks());
+            }
+        }
+    }
+}
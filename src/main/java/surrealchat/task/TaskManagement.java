@@ -6,15 +6,33 @@ import java.util.ArrayList;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import surrealchat.exception.SurrealException;
+import surrealchat.metrics.TaskParseEvent;
+import surrealchat.metrics.TaskSortEvent;
 
 /**
  * Handles storing of tasks and file loading/unloading operations.
+ * Safe for use from many threads: reads are optimistic and lock-free unless a write overlaps them,
+ * while writes are exclusive. Listeners can be told of each change instead of scanning the list for it.
  */
 public class TaskManagement {
-    protected final List<Task> taskList; //Protect taskList from being changed to null.
+    private final List<Task> taskList; //Protect taskList from being changed to null.
+    private final StampedLock lock = new StampedLock();
+    private long modificationCount = 0; //Only changed while holding the write lock
+    private final TaskCounters taskCounters = new TaskCounters();
+    private final EventIntervalTree eventIntervals = new EventIntervalTree(); //Only used while holding the lock
+    private final DescriptionPool descriptionPool = new DescriptionPool();
+    private final TaskChangeDispatcher changeDispatcher = new TaskChangeDispatcher();
+    private final TaskDependencies dependencies = new TaskDependencies();
+    private final List<TaskChangeEvent> pendingChanges = new ArrayList<>(); //Only used while holding the write lock
+    private int batchDepth = 0; //Only changed while holding the write lock
 
     /**
      * Creates instance of TaskManagement object.
@@ -24,15 +42,211 @@ public class TaskManagement {
     public TaskManagement(List<Task> taskList) {
         assert taskList != null : "Null taskList passed in! Not stonks!\n"; //Protection against null
         this.taskList = taskList;
+        taskList.forEach(taskCounters::add);
+        taskList.forEach(eventIntervals::add);
     }
 
     /**
-     * Returns List of tasks for further processing.
+     * Runs a read without taking the lock, falling back to a shared read lock if a write overlapped it.
      *
-     * @return List of tasks.
+     * @param reader Read on taskList. Must not change taskList.
+     * @return Result of the read.
+     */
+    private <T> T readOptimistically(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) { //Can happen if a write changed taskList halfway through the read
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a read under a shared read lock, for reads that could go wrong rather than just be stale if a write
+     * overlapped them, such as walking a tree that is being rebalanced.
+     *
+     * @param reader Read on taskList. Must not change taskList.
+     * @return Result of the read.
+     */
+    private <T> T readLocked(Supplier<T> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private <T> T writeExclusively(Supplier<T> writer) {
+        long stamp = lock.writeLock();
+        try {
+            T result = writer.get();
+            modificationCount++;
+            return result;
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Notes a change for listeners. Must hold the write lock.
+     *
+     * @param change Change made.
+     */
+    private void recordChange(TaskChangeEvent change) {
+        if (changeDispatcher.hasListeners()) {
+            pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * Releases the write lock, then delivers the changes made under it unless a batch is still open.
+     *
+     * @param stamp Stamp of the write lock.
+     */
+    private void unlockWrite(long stamp) {
+        List<TaskChangeEvent> changes = null;
+        try {
+            if (batchDepth == 0 && !pendingChanges.isEmpty()) {
+                changes = List.copyOf(pendingChanges);
+                pendingChanges.clear();
+                changeDispatcher.lockDelivery();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        if (changes != null) {
+            changeDispatcher.deliverAndUnlock(changes);
+        }
+    }
+
+    /**
+     * Adds a listener told of changes on the thread that made them, once the tasks are unlocked.
+     * Changes made within batchChanges are told together when the batch ends.
+     *
+     * @param listener Listener to be added. Should be quick, as the thread that made the changes waits for it.
+     */
+    public void addChangeListener(TaskChangeListener listener) {
+        changeDispatcher.addListener(listener, null);
+    }
+
+    /**
+     * Adds a listener told of changes on an executor. Batches still arrive one at a time and in order.
+     *
+     * @param listener Listener to be added.
+     * @param executor Executor to deliver changes on.
+     */
+    public void addChangeListener(TaskChangeListener listener, Executor executor) {
+        assert executor != null : "Null executor! Use addChangeListener(listener) instead. Not stonks!\n";
+        changeDispatcher.addListener(listener, executor);
+    }
+
+    /**
+     * Removes a listener. Batches already on their way to it may still arrive.
+     *
+     * @param listener Listener to be removed.
+     * @return True if the listener had been added, false otherwise.
+     */
+    public boolean removeChangeListener(TaskChangeListener listener) {
+        return changeDispatcher.removeListener(listener);
+    }
+
+    /**
+     * Runs changes as one batch, so that listeners are told of them together once they are all made.
+     * Batches may be nested, in which case listeners are told when the outermost one ends.
+     *
+     * @param changes Changes to be made.
+     * @return Result of the changes.
+     */
+    public <T> T batchChanges(Supplier<T> changes) {
+        long stamp = lock.writeLock();
+        batchDepth++;
+        lock.unlockWrite(stamp);
+        try {
+            return changes.get();
+        } finally {
+            stamp = lock.writeLock();
+            batchDepth--;
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the tasks for further processing.
+     * Later changes to the tasks are not reflected in the snapshot.
+     *
+     * @return Snapshot of tasks.
      */
     public List<Task> getTaskList() {
-        return taskList;
+        return readOptimistically(() -> List.copyOf(taskList));
+    }
+
+    /**
+     * Returns the number of changes made to the tasks so far, which can be compared to detect unsaved changes.
+     *
+     * @return Number of changes made.
+     */
+    public long getModificationCount() {
+        return readOptimistically(() -> modificationCount);
+    }
+
+    /**
+     * Returns the running counts of tasks, which are kept up to date as tasks change.
+     *
+     * @return TaskCounters object of this task list.
+     */
+    public TaskCounters getTaskCounters() {
+        return taskCounters;
+    }
+
+    /**
+     * Returns the table through which new task descriptions should be passed so that equal ones are shared.
+     *
+     * @return DescriptionPool object of this task list.
+     */
+    public DescriptionPool getDescriptionPool() {
+        return descriptionPool;
+    }
+
+    /**
+     * Returns the links between tasks, which follow the tasks as they change.
+     *
+     * @return TaskDependencies object of this task list.
+     */
+    public TaskDependencies getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Finds the undone events overlapping an event, by looking only at the events whose times could overlap it.
+     *
+     * @param event Event to be checked, which need not be in the list.
+     * @return Other undone events overlapping it, by start time.
+     */
+    public List<EventTask> getOverlappingEvents(EventTask event) {
+        return readLocked(() -> eventIntervals.getOverlapping(event));
+    }
+
+    /**
+     * Finds every pair of undone events that overlap.
+     *
+     * @return Pairs of overlapping events, the earlier starting one first.
+     */
+    public List<EventTask[]> getEventConflicts() {
+        return readLocked(eventIntervals::getOverlappingPairs);
     }
 
     /**
@@ -41,7 +255,7 @@ public class TaskManagement {
      * @return Number of tasks stored.
      */
     public int getNumberOfTasks() {
-        return getTaskList().size();
+        return readOptimistically(taskList::size);
     }
 
     /**
@@ -50,7 +264,50 @@ public class TaskManagement {
      * @param task Task to be added.
      */
     public void addTask(Task task) {
-        taskList.add(task);
+        writeExclusively(() -> {
+            taskList.add(task);
+            recordChange(TaskChangeEvent.added(taskList.size(), task));
+            eventIntervals.add(task);
+            return taskCounters.add(task);
+        });
+    }
+
+    /**
+     * Adds a batch of tasks to internal task list, taking the lock once for the whole batch.
+     *
+     * @param tasks Tasks to be added, in order.
+     */
+    public void addTasks(List<Task> tasks) {
+        writeExclusively(() -> {
+            for (Task task : tasks) {
+                taskList.add(task);
+                recordChange(TaskChangeEvent.added(taskList.size(), task));
+                taskCounters.add(task);
+                eventIntervals.add(task);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Deletes every task after the first few, such as tasks added by a batch that could not be finished.
+     *
+     * @param numberOfTasks Number of tasks to be kept.
+     * @return Number of tasks deleted.
+     */
+    public int truncateTasks(int numberOfTasks) {
+        return writeExclusively(() -> {
+            int deletedCount = 0;
+            while (taskList.size() > Math.max(numberOfTasks, 0)) {
+                Task deletedTask = taskList.remove(taskList.size() - 1);
+                recordChange(TaskChangeEvent.deleted(taskList.size() + 1, deletedTask));
+                taskCounters.remove(deletedTask);
+                eventIntervals.remove(deletedTask);
+                dependencies.remove(deletedTask);
+                deletedCount++;
+            }
+            return deletedCount;
+        });
     }
 
     /**
@@ -60,7 +317,7 @@ public class TaskManagement {
      * @return The associated task.
      */
     public Task getTask(int taskNumber) {
-        return taskList.get(taskNumber - 1);
+        return readOptimistically(() -> taskList.get(taskNumber - 1));
     }
 
     /**
@@ -70,7 +327,15 @@ public class TaskManagement {
      * @param task The replacement task.
      */
     public void replaceTask(int taskNumber, Task task) {
-        taskList.set(taskNumber - 1, task);
+        writeExclusively(() -> {
+            Task oldTask = taskList.set(taskNumber - 1, task);
+            recordChange(TaskChangeEvent.replaced(taskNumber, oldTask, task));
+            dependencies.replace(oldTask, task);
+            taskCounters.remove(oldTask);
+            eventIntervals.remove(oldTask);
+            eventIntervals.add(task);
+            return taskCounters.add(task);
+        });
     }
 
     /**
@@ -80,9 +345,16 @@ public class TaskManagement {
      * @return Task that has been marked as done/undone.
      */
     public Task markAsDone(int taskNumber) {
-        Task doneTask = taskList.get(taskNumber - 1).markAsDone();
-        taskList.set(taskNumber - 1, doneTask);
-        return doneTask;
+        return writeExclusively(() -> {
+            Task doneTask = taskList.get(taskNumber - 1).markAsDone();
+            Task oldTask = taskList.set(taskNumber - 1, doneTask);
+            recordChange(TaskChangeEvent.replaced(taskNumber, oldTask, doneTask));
+            dependencies.replace(oldTask, doneTask);
+            taskCounters.remove(oldTask);
+            eventIntervals.remove(oldTask);
+            eventIntervals.add(doneTask);
+            return taskCounters.add(doneTask);
+        });
     }
 
 
@@ -93,7 +365,101 @@ public class TaskManagement {
      * @return Deleted task.
      */
     public Task deleteTask(int taskNumber) {
-        return taskList.remove(taskNumber - 1);
+        return writeExclusively(() -> {
+            Task deletedTask = taskList.remove(taskNumber - 1);
+            recordChange(TaskChangeEvent.deleted(taskNumber, deletedTask));
+            eventIntervals.remove(deletedTask);
+            dependencies.remove(deletedTask);
+            return taskCounters.remove(deletedTask);
+        });
+    }
+
+    /**
+     * Links two tasks so that one blocks the other until it is done.
+     *
+     * @param blockerNumber Position number of task (starting from 1) that blocks.
+     * @param blockedNumber Position number of task (starting from 1) that is blocked.
+     * @throws SurrealException If either number is invalid, or the tasks cannot be linked.
+     */
+    public void linkTasks(int blockerNumber, int blockedNumber) throws SurrealException {
+        long stamp = lock.writeLock();
+        try {
+            checkTaskNumbers(blockerNumber, blockedNumber);
+            dependencies.addLink(taskList.get(blockerNumber - 1), taskList.get(blockedNumber - 1));
+            modificationCount++;
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the link between two tasks.
+     *
+     * @param blockerNumber Position number of task (starting from 1) that blocks.
+     * @param blockedNumber Position number of task (starting from 1) that is blocked.
+     * @throws SurrealException If either number is invalid, or the tasks are not linked.
+     */
+    public void unlinkTasks(int blockerNumber, int blockedNumber) throws SurrealException {
+        long stamp = lock.writeLock();
+        try {
+            checkTaskNumbers(blockerNumber, blockedNumber);
+            if (!dependencies.removeLink(taskList.get(blockerNumber - 1), taskList.get(blockedNumber - 1))) {
+                throw new SurrealException("That task does not block this one. Not stonks!\n");
+            }
+            modificationCount++;
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    private void checkTaskNumbers(int... taskNumbers) throws SurrealException {
+        for (int taskNumber : taskNumbers) {
+            if (taskNumber <= 0 || taskNumber > taskList.size()) {
+                throw new SurrealException("Invalid task number. Not stonks!\n");
+            }
+        }
+    }
+
+    /**
+     * Moves tasks out of the list. The tasks are handed to destination first and are only removed once it returns,
+     * so nothing is removed if destination throws.
+     *
+     * @param filter Condition for a task to be moved.
+     * @param destination Receives the tasks to be moved, in list order.
+     * @return Tasks moved.
+     */
+    public List<Task> moveTasks(Predicate<Task> filter, Consumer<List<Task>> destination) {
+        return writeExclusively(() -> {
+            List<Task> movedTasks = new ArrayList<>();
+            List<Task> keptTasks = new ArrayList<>(taskList.size());
+            for (Task task : taskList) {
+                if (filter.test(task)) {
+                    movedTasks.add(task);
+                } else {
+                    keptTasks.add(task);
+                }
+            }
+            if (movedTasks.isEmpty()) {
+                return movedTasks;
+            }
+            destination.accept(movedTasks);
+            if (changeDispatcher.hasListeners()) {
+                //Each deletion is numbered as if the earlier ones were already made
+                int movedCount = 0;
+                for (int i = 0; i < taskList.size(); i++) {
+                    if (movedCount < movedTasks.size() && taskList.get(i) == movedTasks.get(movedCount)) {
+                        recordChange(TaskChangeEvent.deleted(i - movedCount + 1, taskList.get(i)));
+                        movedCount++;
+                    }
+                }
+            }
+            taskList.clear();
+            taskList.addAll(keptTasks);
+            movedTasks.forEach(taskCounters::remove);
+            movedTasks.forEach(eventIntervals::remove);
+            movedTasks.forEach(dependencies::remove);
+            return movedTasks;
+        });
     }
 
     /**
@@ -102,10 +468,20 @@ public class TaskManagement {
      * @throws SurrealException If list was empty to begin with.
      */
     public void deleteAllTasks() throws SurrealException {
-        if (taskList.isEmpty()) {
-            throw new SurrealException("List is already empty. Not stonks!\n");
+        long stamp = lock.writeLock();
+        try {
+            if (taskList.isEmpty()) {
+                throw new SurrealException("List is already empty. Not stonks!\n");
+            }
+            taskList.clear();
+            taskCounters.clear();
+            eventIntervals.clear();
+            dependencies.clear();
+            recordChange(TaskChangeEvent.cleared());
+            modificationCount++;
+        } finally {
+            unlockWrite(stamp);
         }
-        taskList.clear();
     }
 
     private String spellTaskType(String taskType) {
@@ -117,42 +493,50 @@ public class TaskManagement {
             return "deadline";
         case TaskCode.EVENT_TYPE:
             return "event";
+        case TaskCode.RECURRING_TYPE:
+            return "recurring";
         default:
             throw new InputMismatchException("The task type in task is invalid. Not Stonks!\n");
         }
     }
 
     private String printFileLoadOutput(List<Task> taskList) {
-        String outputString = "";
-        int total = taskList.size();
-        outputString = taskList.stream().reduce("", (x, y) -> {
-            String printTaskType = spellTaskType(y.getType());
-            x += String.format("Meme Man has added %s task from file: %s\n", printTaskType, y);
-            return x;
-        }, (x, y) -> x + y);
-        outputString += String.format("Total number of tasks loaded from file: %s\n", total);
-        return outputString;
-    }
-
-    private void convertToTasks(String taskType, String description, boolean taskDone, TaskPriority taskPriority) {
+        StringBuilder outputString = new StringBuilder();
+        for (Task task : taskList) {
+            outputString.append("Meme Man has added ").append(spellTaskType(task.getType()))
+                    .append(" task from file: ").append(task).append('\n');
+        }
+        outputString.append("Total number of tasks loaded from file: ").append(taskList.size()).append('\n');
+        return outputString.toString();
+    }
+
+    private static Task convertToTask(String taskType, String description, boolean taskDone,
+            TaskPriority taskPriority, DescriptionPool descriptionPool) {
         assert taskType != null : "Somehow there was a null taskType. Not stonks!\n";
         assert description != null : "Somehow, description was empty. Not stonks!\n";
         switch(taskType) {
         case TaskCode.TODO_TYPE:
-            addToDoFromFile(description, taskDone, taskPriority);
-            return;
+            return parseToDoFromFile(description, taskDone, taskPriority, descriptionPool);
         case TaskCode.DEADLINE_TYPE:
-            addDeadlineFromFile(description, taskDone, taskPriority);
-            return;
+            return parseDeadlineFromFile(description, taskDone, taskPriority, descriptionPool);
         case TaskCode.EVENT_TYPE:
-            addEventFromFile(description, taskDone, taskPriority);
-            return;
+            return parseEventFromFile(description, taskDone, taskPriority, descriptionPool);
+        case TaskCode.RECURRING_TYPE:
+            return parseRecurringFromFile(description, taskDone, taskPriority, descriptionPool);
         default:
             throw new InputMismatchException("The task type scanned from file is invalid. Not Stonks!\n");
         }
     }
 
-    private void parseTaskFromFile(String fileLine) {
+    /**
+     * Parses one line of a task file into a task.
+     *
+     * @param fileLine Task in file string format.
+     * @param descriptionPool Table through which the description is shared.
+     * @return The task described by the line.
+     * @throws RuntimeException If the line is not a valid task.
+     */
+    public static Task parseTask(String fileLine, DescriptionPool descriptionPool) {
         String[] taskComponents = fileLine.split("/split/");
         String taskType = taskComponents[0];
         boolean taskDone = parseDoneFromInt(Integer.valueOf(taskComponents[1]));
@@ -160,7 +544,11 @@ public class TaskManagement {
         String description = taskComponents[3];
 
         //Convert to Task objects
-        convertToTasks(taskType, description, taskDone, taskPriority);
+        Task task = convertToTask(taskType, description, taskDone, taskPriority, descriptionPool);
+        if (taskComponents.length > 4) { //Effort estimate in minutes, only saved for tasks that have one
+            task = task.withEffort(DurationCodec.ofMinutes(Long.parseLong(taskComponents[4])));
+        }
+        return task;
     }
 
     /**
@@ -170,13 +558,18 @@ public class TaskManagement {
      * @return String of tasks successfully loaded from files.
      */
     public String parseFileLines(List<String> fileLines) {
-        fileLines.stream().forEach(t -> parseTaskFromFile(t));
+        TaskParseEvent parseEvent = new TaskParseEvent();
+        parseEvent.begin();
+        fileLines.stream().forEach(t -> addTask(parseTask(t, descriptionPool)));
         //Obtain list for printing
         List<Task> taskList = getTaskList();
+        parseEvent.setLinesParsed(fileLines.size());
+        parseEvent.setTaskCount(taskList.size());
+        parseEvent.commit();
         return printFileLoadOutput(taskList);
     }
 
-    private boolean parseDoneFromInt(int doneInt) {
+    private static boolean parseDoneFromInt(int doneInt) {
         switch(doneInt) {
         case 1:
             return true;
@@ -188,25 +581,27 @@ public class TaskManagement {
         }
     }
 
-    private ToDoTask addToDoFromFile(String taskDescription, boolean isDone, TaskPriority taskPriority) {
+    private static ToDoTask parseToDoFromFile(String taskDescription, boolean isDone,
+            TaskPriority taskPriority, DescriptionPool descriptionPool) {
         if (taskDescription.isEmpty()) {
             throw new NoSuchElementException("Empty todo task description. Not stonks!\n");
         }
 
-        ToDoTask newTask = ToDoTask.loadToDoTaskFromFile(isDone, taskDescription.trim(), taskPriority);
-        addTask(newTask);
+        ToDoTask newTask = ToDoTask.loadToDoTaskFromFile(isDone,
+                descriptionPool.canonicalize(taskDescription.trim()), taskPriority);
         return newTask;
     }
 
-    private LocalDateTime parseDate(String dateString) {
+    private static LocalDateTime parseDate(String dateString) {
         try {
-            return LocalDateTime.parse(dateString);
+            return DateTimeCodec.parse(dateString);
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException("Input date time format is incorrect. Not stonks!\n");
         }
     }
 
-    private DeadlineTask addDeadlineFromFile(String taskDescription, boolean isDone, TaskPriority taskPriority) {
+    private static DeadlineTask parseDeadlineFromFile(String taskDescription, boolean isDone,
+            TaskPriority taskPriority, DescriptionPool descriptionPool) {
         if (taskDescription.isEmpty()) {
             throw new NoSuchElementException("Empty deadline task description. Not stonks!\n");
         }
@@ -217,16 +612,17 @@ public class TaskManagement {
             LocalDateTime deadlineDateTime = parseDate(descriptionSplitArray[1].trim());
 
             //Create Deadline task
-            DeadlineTask newTask = DeadlineTask.loadDeadlineTaskFromFile(isDone, descriptionSplitArray[0].trim(),
+            DeadlineTask newTask = DeadlineTask.loadDeadlineTaskFromFile(isDone,
+                    descriptionPool.canonicalize(descriptionSplitArray[0].trim()),
                     taskPriority, deadlineDateTime);
-            addTask(newTask);
             return newTask;
         } catch (ArrayIndexOutOfBoundsException e) { //Happens if split does not occur
             throw new ArrayIndexOutOfBoundsException("Wrong formatting. Did you forget to put '/by'? Not stonks!\n");
         }
     }
 
-    private EventTask addEventFromFile(String taskDescription, boolean isDone, TaskPriority taskPriority) {
+    private static EventTask parseEventFromFile(String taskDescription, boolean isDone,
+            TaskPriority taskPriority, DescriptionPool descriptionPool) {
         if (taskDescription.isEmpty()) {
             throw new NoSuchElementException("Empty event task description. Not stonks!\n");
         }
@@ -234,18 +630,49 @@ public class TaskManagement {
         //Split the description into description and event
         String[] descriptionSplitArray = taskDescription.split("/at");
         try {
-            LocalDateTime eventDateTime = parseDate(descriptionSplitArray[1].trim());
+            String[] timeSplitArray = descriptionSplitArray[1].split("/to");
+            LocalDateTime eventDateTime = parseDate(timeSplitArray[0].trim());
+            LocalDateTime endDateTime = (timeSplitArray.length > 1) ? parseDate(timeSplitArray[1].trim()) : null;
+            if (endDateTime != null && !endDateTime.isAfter(eventDateTime)) {
+                throw new IllegalArgumentException("Event must end after it starts. Not stonks!\n");
+            }
 
             //Create Event task
-            EventTask newTask = EventTask.loadEventTaskFromFile(isDone, descriptionSplitArray[0].trim(),
-                    taskPriority, eventDateTime);
-            addTask(newTask);
+            EventTask newTask = EventTask.loadEventTaskFromFile(isDone,
+                    descriptionPool.canonicalize(descriptionSplitArray[0].trim()),
+                    taskPriority, eventDateTime, endDateTime);
             return newTask;
         } catch (ArrayIndexOutOfBoundsException e) { //Happens if split does not occur
             throw new ArrayIndexOutOfBoundsException("Wrong formatting. Did you forget to put '/at'? Not stonks!\n");
         }
     }
 
+    private static RecurringTask parseRecurringFromFile(String taskDescription, boolean isDone,
+            TaskPriority taskPriority, DescriptionPool descriptionPool) {
+        if (taskDescription.isEmpty()) {
+            throw new NoSuchElementException("Empty recurring task description. Not stonks!\n");
+        }
+
+        //Split the description into description, start and recurrence rule
+        String[] descriptionSplitArray = taskDescription.split("/from");
+        try {
+            String[] scheduleSplitArray = descriptionSplitArray[1].split("/repeat");
+            LocalDateTime start = parseDate(scheduleSplitArray[0].trim());
+            RecurrenceRule recurrenceRule = RecurrenceRule.parse(scheduleSplitArray[1]);
+
+            //Create Recurring task
+            RecurringTask newTask = RecurringTask.loadRecurringTaskFromFile(isDone,
+                    descriptionPool.canonicalize(descriptionSplitArray[0].trim()),
+                    taskPriority, start, recurrenceRule);
+            return newTask;
+        } catch (ArrayIndexOutOfBoundsException e) { //Happens if split does not occur
+            throw new ArrayIndexOutOfBoundsException(
+                    "Wrong formatting. Did you forget to put '/from' or '/repeat'? Not stonks!\n");
+        } catch (SurrealException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+    }
+
     /**
      * Generates list of tasks for saving into a file.
      *
@@ -264,15 +691,58 @@ public class TaskManagement {
      * @throws SurrealException If list is empty.
      */
     public String listOutTasks() throws SurrealException {
-        List<Task> rawTaskList = getTaskList();
-        if (rawTaskList.isEmpty()) {
-            throw new SurrealException("I have nothing to print. Not stonks!\n");
-        }
-        String outputTasks = "";
+        return listOutTasks(1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Converts a range of tasks into string form for printing. Only tasks in the range are copied and rendered.
+     *
+     * @param firstNumber Number of first task to be printed, starting from 1.
+     * @param lastNumber Number of last task to be printed, inclusive. May be past the end of the list.
+     * @return List of tasks in range in print string format.
+     * @throws SurrealException If there are no tasks in range.
+     */
+    public String listOutTasks(int firstNumber, int lastNumber) throws SurrealException {
+        return listOutTasks(firstNumber, lastNumber, task -> true);
+    }
+
+    /**
+     * Converts the tasks in a range that meet a condition into string form for printing, keeping their numbers.
+     *
+     * @param firstNumber Number of first task to be printed, starting from 1.
+     * @param lastNumber Number of last task to be printed, inclusive. May be past the end of the list.
+     * @param filter Condition for a task to be printed.
+     * @return List of tasks in range meeting the condition in print string format.
+     * @throws SurrealException If there are no such tasks.
+     */
+    public String listOutTasks(int firstNumber, int lastNumber, Predicate<Task> filter) throws SurrealException {
+        //Render from a snapshot so that no lock is held meanwhile
+        List<Task> rawTaskList = readOptimistically(() -> {
+            int fromIndex = Math.min(Math.max(firstNumber, 1) - 1, taskList.size());
+            int toIndex = Math.max(fromIndex, Math.min(lastNumber, taskList.size()));
+            return List.copyOf(taskList.subList(fromIndex, toIndex));
+        });
+        StringBuilder outputTasks = new StringBuilder();
+        LocalDateTime now = LocalDateTime.now();
+        int offset = Math.max(firstNumber, 1) - 1;
         for (int i = 1; i <= rawTaskList.size(); i++) {
-            outputTasks += String.format("%d. %s\n", i, rawTaskList.get(i - 1));
+            Task task = rawTaskList.get(i - 1);
+            if (!filter.test(task)) {
+                continue;
+            }
+            outputTasks.append(offset + i).append(". ").append(task);
+            LocalDateTime nextOccurrence = (task instanceof RecurringTask && !task.isDone())
+                    ? ((RecurringTask) task).getNextOccurrence(now) : null; //Only the next occurrence is worked out
+            if (nextOccurrence != null) {
+                DateTimeCodec.appendDate(outputTasks.append(" next: "), nextOccurrence.toLocalDate()).append(", ");
+                DateTimeCodec.appendTime(outputTasks, nextOccurrence.toLocalTime());
+            }
+            outputTasks.append('\n');
         }
-        return outputTasks;
+        if (outputTasks.length() == 0) {
+            throw new SurrealException("I have nothing to print. Not stonks!\n");
+        }
+        return outputTasks.toString();
     }
 
     /**
@@ -283,12 +753,13 @@ public class TaskManagement {
      */
     public List<String> getSearchResults(String keyword) {
         assert keyword != null : "Null keyword somehow bypassed FindCommand exception. Not stonks!\n";
+        List<Task> rawTaskList = getTaskList();
         List<String> searchResults = new ArrayList<String>();
-        for (int i = 1; i <= taskList.size(); i++) {
-            Task task = taskList.get(i - 1);
-            if (task.toString().toLowerCase().contains(keyword.toLowerCase())) {
-                String taskString = String.format("%d. %s\n", i, task);
-                searchResults.add(taskString);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        for (int i = 1; i <= rawTaskList.size(); i++) {
+            String taskString = rawTaskList.get(i - 1).toString();
+            if (taskString.toLowerCase().contains(lowerCaseKeyword)) {
+                searchResults.add(i + ". " + taskString + "\n");
             }
         }
         return searchResults;
@@ -303,9 +774,24 @@ public class TaskManagement {
     public void sort(String sortBy) throws SurrealException {
         if (sortBy.isEmpty()) {
             throw new SurrealException("No sorting criteria given! Not stonks!\n");
-        } else if (taskList.isEmpty()) {
-            throw new SurrealException("I have nothing to sort. Not stonks!\n");
         }
-        taskList.sort(TaskSort.getComparator(sortBy));
+        TaskSortEvent sortEvent = new TaskSortEvent();
+        sortEvent.begin();
+        long stamp = lock.writeLock();
+        try {
+            if (taskList.isEmpty()) {
+                throw new SurrealException("I have nothing to sort. Not stonks!\n");
+            }
+            taskList.sort(TaskSort.getComparator(sortBy));
+            if (changeDispatcher.hasListeners()) {
+                recordChange(TaskChangeEvent.sorted(List.copyOf(taskList)));
+            }
+            modificationCount++;
+            sortEvent.setCriteria(sortBy);
+            sortEvent.setTaskCount(taskList.size());
+            sortEvent.commit();
+        } finally {
+            unlockWrite(stamp);
+        }
     }
 }
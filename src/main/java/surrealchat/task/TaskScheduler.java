@@ -0,0 +1,120 @@
+package surrealchat.task;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Plans when to work on undone deadlines within working hours, around the events that fix parts of the day.
+ * Deadlines are worked on earliest deadline first, with higher priority first among equal deadlines, which meets
+ * every deadline whenever that is possible at all. Time is swept forward from one event or finished task to the
+ * next, so the plan takes time in the number of tasks and events rather than in the number of minutes planned.
+ */
+public class TaskScheduler {
+    public static final Duration DEFAULT_EFFORT = Duration.ofHours(1);
+    public static final Duration DEFAULT_EVENT_DURATION = Duration.ofHours(1);
+    protected final LocalTime dayStart;
+    protected final LocalTime dayEnd;
+
+    /**
+     * Creates new TaskScheduler object.
+     *
+     * @param dayStart Time at which work starts each day.
+     * @param dayEnd Time at which work ends each day.
+     */
+    public TaskScheduler(LocalTime dayStart, LocalTime dayEnd) {
+        assert dayStart.isBefore(dayEnd) : "Working day ends before it starts! Not stonks!\n";
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+    }
+
+    private static LocalDateTime getEventEnd(EventTask event) {
+        return (event.getEndDate() == null) ? event.getEventDate().plus(DEFAULT_EVENT_DURATION) : event.getEndDate();
+    }
+
+    private static Duration getEffort(Task task) {
+        return (task.getEffort() == null) ? DEFAULT_EFFORT : task.getEffort();
+    }
+
+    /**
+     * Moves a time forward into working hours, unless it is in them already.
+     */
+    private LocalDateTime getNextWorkingTime(LocalDateTime time) {
+        if (time.toLocalTime().isBefore(dayStart)) {
+            return time.toLocalDate().atTime(dayStart);
+        } else if (!time.toLocalTime().isBefore(dayEnd)) {
+            return time.toLocalDate().plusDays(1).atTime(dayStart);
+        }
+        return time;
+    }
+
+    /**
+     * Plans the undone deadlines of a task list from a starting time, around its undone events.
+     *
+     * @param taskList Tasks to be planned, in task list order.
+     * @param from Time from which to plan.
+     * @return Slots of work and events in time order, ending with the last deadline worked on.
+     */
+    public List<ScheduledSlot> schedule(List<Task> taskList, LocalDateTime from) {
+        Comparator<Integer> byDeadline = Comparator
+                .comparing((Integer number) -> ((DeadlineTask) taskList.get(number - 1)).getDeadline())
+                .thenComparing(number -> taskList.get(number - 1).getPriority().getPriorityLevel(),
+                        Comparator.reverseOrder())
+                .thenComparing(Comparator.naturalOrder());
+        Comparator<Integer> byStart = Comparator
+                .comparing((Integer number) -> ((EventTask) taskList.get(number - 1)).getEventDate())
+                .thenComparing(Comparator.naturalOrder());
+        PriorityQueue<Integer> deadlines = new PriorityQueue<>(byDeadline);
+        PriorityQueue<Integer> events = new PriorityQueue<>(byStart);
+        for (int i = 1; i <= taskList.size(); i++) {
+            Task task = taskList.get(i - 1);
+            if (task.isDone()) {
+                continue;
+            }
+            if (task instanceof DeadlineTask) {
+                deadlines.add(i);
+            } else if (task instanceof EventTask && getEventEnd((EventTask) task).isAfter(from)) {
+                events.add(i);
+            }
+        }
+
+        List<ScheduledSlot> slots = new ArrayList<>();
+        LocalDateTime time = from;
+        int currentNumber = 0; //Deadline being worked on, or 0 if none
+        Duration remaining = Duration.ZERO;
+        while (currentNumber != 0 || !deadlines.isEmpty()) {
+            LocalDateTime workStart = getNextWorkingTime(time);
+            EventTask nextEvent = events.isEmpty() ? null : (EventTask) taskList.get(events.peek() - 1);
+            if (nextEvent != null && !nextEvent.getEventDate().isAfter(workStart)) { //Event under way
+                slots.add(new ScheduledSlot(events.poll(), nextEvent, nextEvent.getEventDate(),
+                        getEventEnd(nextEvent), false));
+                time = getEventEnd(nextEvent).isAfter(workStart) ? getEventEnd(nextEvent) : workStart;
+                continue;
+            }
+            LocalDateTime freeEnd = workStart.toLocalDate().atTime(dayEnd);
+            if (nextEvent != null && nextEvent.getEventDate().isBefore(freeEnd)) {
+                freeEnd = nextEvent.getEventDate();
+            }
+            if (currentNumber == 0) {
+                currentNumber = deadlines.poll();
+                remaining = getEffort(taskList.get(currentNumber - 1));
+            }
+            Duration available = Duration.between(workStart, freeEnd);
+            Duration worked = (remaining.compareTo(available) < 0) ? remaining : available;
+            LocalDateTime workEnd = workStart.plus(worked);
+            remaining = remaining.minus(worked);
+            DeadlineTask current = (DeadlineTask) taskList.get(currentNumber - 1);
+            boolean isLate = remaining.isZero() && workEnd.isAfter(current.getDeadline());
+            slots.add(new ScheduledSlot(currentNumber, current, workStart, workEnd, isLate));
+            if (remaining.isZero()) {
+                currentNumber = 0;
+            }
+            time = workEnd;
+        }
+        return slots;
+    }
+}
@@ -1,11 +1,13 @@
 package surrealchat.task;
 
+import java.time.Duration;
+
 /**
  * Represents a task with no condition.
  */
 public class ToDoTask extends Task {
-    private ToDoTask(boolean isDone, String taskDescription, TaskPriority taskPriority) {
-        super(TaskCode.TODO_TYPE, isDone, taskDescription, taskPriority);
+    private ToDoTask(boolean isDone, String taskDescription, TaskPriority taskPriority, Duration effort) {
+        super(TaskCode.TODO_TYPE, isDone, taskDescription, taskPriority, effort);
     }
 
     /**
@@ -16,7 +18,7 @@ public class ToDoTask extends Task {
      * @return New ToDoTask that is not done.
      */
     public static ToDoTask createNewToDoTask(String taskDescription, TaskPriority taskPriority) {
-        return new ToDoTask(false, taskDescription, taskPriority);
+        return new ToDoTask(false, taskDescription, taskPriority, null);
     }
 
     /**
@@ -28,7 +30,7 @@ public class ToDoTask extends Task {
      * @return ToDoTask as loaded from file.
      */
     public static ToDoTask loadToDoTaskFromFile(boolean isDone, String taskDescription, TaskPriority taskPriority) {
-        return new ToDoTask(isDone, taskDescription, taskPriority);
+        return new ToDoTask(isDone, taskDescription, taskPriority, null);
     }
 
     /**
@@ -39,7 +41,7 @@ public class ToDoTask extends Task {
      * @return New ToDoTask with edited description and priority.
      */
     public ToDoTask editTask(String newDescription, TaskPriority newPriority) {
-        return new ToDoTask(isDone, newDescription, newPriority);
+        return new ToDoTask(isDone, newDescription, newPriority, effort);
     }
 
     /**
@@ -62,12 +64,23 @@ public class ToDoTask extends Task {
         return editTask(description, newPriority);
     }
 
+    /**
+     * Changes the effort estimate of the ToDoTask.
+     *
+     * @param newEffort The new effort estimate, or null for none.
+     * @return New ToDoTask with edited effort estimate.
+     */
+    @Override
+    public ToDoTask withEffort(Duration newEffort) {
+        return new ToDoTask(isDone, description, taskPriority, newEffort);
+    }
+
     /**
      * Toggles a ToDoTask between done and undone.
      *
      * @return ToDoTask that is marked as done/undone.
      */
     public ToDoTask markAsDone() {
-        return new ToDoTask(!isDone, getDescription(), taskPriority);
+        return new ToDoTask(!isDone, getDescription(), taskPriority, effort);
     }
 }
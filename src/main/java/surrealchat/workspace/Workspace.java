@@ -0,0 +1,150 @@
+package surrealchat.workspace;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.file.ArchiveFile;
+import surrealchat.file.FileManagement;
+import surrealchat.file.LinkFile;
+import surrealchat.task.Task;
+import surrealchat.task.TaskManagement;
+
+/**
+ * Represents a named task list together with the file it is saved to.
+ */
+public class Workspace {
+    private final String name;
+    private final TaskManagement taskManagement;
+    private final FileManagement fileManagement;
+    private final ArchiveFile archiveFile;
+    private final LinkFile linkFile;
+    private long savedModificationCount;
+    private volatile long lastSaveNanos = 0;
+
+    /**
+     * Creates new Workspace object. Tasks are not loaded until load() is called.
+     *
+     * @param name Name of workspace.
+     * @param file File with specified file path for save/load.
+     */
+    public Workspace(String name, File file) {
+        assert name != null : "Null workspace name! Not stonks!\n";
+        assert file != null : "Null workspace file! Not stonks!\n";
+        this.name = name;
+        this.taskManagement = new TaskManagement(new ArrayList<Task>());
+        this.fileManagement = new FileManagement(file);
+        this.archiveFile = new ArchiveFile(ArchiveFile.getArchiveFileFor(file));
+        this.linkFile = new LinkFile(LinkFile.getLinkFileFor(file));
+    }
+
+    /**
+     * Obtains the name of the workspace.
+     *
+     * @return Workspace name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Obtains the tasks of the workspace.
+     *
+     * @return TaskManagement object of workspace.
+     */
+    public TaskManagement getTaskManagement() {
+        return taskManagement;
+    }
+
+    /**
+     * Obtains the archive of the workspace, which is only read when asked for.
+     *
+     * @return ArchiveFile object of workspace.
+     */
+    public ArchiveFile getArchiveFile() {
+        return archiveFile;
+    }
+
+    /**
+     * Loads the tasks from file, followed by the links between them.
+     *
+     * @return String of tasks successfully loaded from file.
+     */
+    public String load() {
+        try {
+            List<String> fileLines = fileManagement.loadTaskFile();
+            String loadOutput = taskManagement.parseFileLines(fileLines);
+            int linkCount = loadLinks();
+            if (linkCount > 0) {
+                loadOutput += String.format("Total number of links loaded from file: %d\n", linkCount);
+            }
+            savedModificationCount = taskManagement.getModificationCount();
+            return loadOutput;
+        } catch (IOException e) {
+            return "File loading error. Not stonks!\n";
+        }
+    }
+
+    private int loadLinks() throws IOException {
+        int linkCount = 0;
+        for (int[] link : linkFile.read()) {
+            try {
+                taskManagement.linkTasks(link[0], link[1]);
+                linkCount++;
+            } catch (SurrealException e) { //Link no longer fits the task file, such as after editing it by hand
+                continue;
+            }
+        }
+        return linkCount;
+    }
+
+    /**
+     * Checks whether the tasks have changed since they were last loaded or saved.
+     *
+     * @return True if there are unsaved changes, false otherwise.
+     */
+    public synchronized boolean isDirty() {
+        return taskManagement.getModificationCount() != savedModificationCount;
+    }
+
+    /**
+     * Saves the tasks into file, and the links between them beside it. Links are only saved once the tasks are.
+     */
+    public synchronized void save() {
+        long saveStart = System.nanoTime();
+        long modificationCount = taskManagement.getModificationCount();
+        //Links are numbered by the same snapshot that is saved
+        List<Task> taskList = taskManagement.getTaskList();
+        if (!fileManagement.saveTasksToFile(taskList.stream().map(Task::saveTask).collect(Collectors.toList()))) {
+            return; //Old links still match the old tasks, and the list stays unsaved to be tried again
+        }
+        try {
+            linkFile.write(taskManagement.getDependencies().getLinkNumbers(taskList));
+        } catch (IOException e) {
+            System.err.println("Links could not be saved! Not stonks!\n");
+        }
+        savedModificationCount = modificationCount;
+        lastSaveNanos = System.nanoTime() - saveStart;
+    }
+
+    /**
+     * Obtains how long the most recent save took.
+     *
+     * @return Duration of last save in nanoseconds, or 0 if never saved.
+     */
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    /**
+     * Obtains the size of the task file on disk.
+     *
+     * @return Size of task file in bytes.
+     */
+    public long getFileSize() {
+        return fileManagement.getFileSize();
+    }
+}
@@ -0,0 +1,127 @@
+package surrealchat.workspace;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import surrealchat.exception.SurrealException;
+
+/**
+ * Handles switching between workspaces, each with its own task file.
+ * Workspaces are loaded on first use, and only the most recently used ones are kept in memory.
+ * A workspace with unsaved changes is saved before it is dropped from memory.
+ */
+public class WorkspaceManager {
+    public static final String DEFAULT_WORKSPACE = "default";
+    public static final int DEFAULT_MAX_RESIDENT = 4;
+    private static final String WORKSPACE_DIRECTORY = "workspaces";
+    private static final String WORKSPACE_FILE_EXTENSION = ".txt";
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final File defaultTaskFile;
+    private final Map<String, Workspace> residentWorkspaces;
+    private volatile Workspace currentWorkspace;
+    private String lastLoadOutput = "";
+
+    /**
+     * Creates new WorkspaceManager object and loads the default workspace.
+     *
+     * @param defaultTaskFile Task file of the default workspace. Other workspaces are kept in a directory beside it.
+     * @param maxResident Maximum number of workspaces kept in memory.
+     */
+    public WorkspaceManager(File defaultTaskFile, int maxResident) {
+        assert defaultTaskFile != null : "Null defaultTaskFile. File path needed for save/load. Not stonks!\n";
+        if (maxResident <= 0) {
+            throw new IllegalArgumentException("At least one workspace must be kept in memory. Not stonks!\n");
+        }
+        this.defaultTaskFile = defaultTaskFile;
+        this.residentWorkspaces = new LinkedHashMap<>(maxResident + 1, 1.0f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Workspace> eldest) {
+                if (size() <= maxResident) {
+                    return false;
+                }
+                if (eldest.getValue().isDirty()) {
+                    eldest.getValue().save();
+                }
+                return true;
+            }
+        };
+        this.currentWorkspace = getWorkspace(DEFAULT_WORKSPACE);
+    }
+
+    private File getWorkspaceFile(String name) {
+        if (name.equals(DEFAULT_WORKSPACE)) {
+            return defaultTaskFile;
+        }
+        File workspaceDirectory = new File(defaultTaskFile.getAbsoluteFile().getParentFile(), WORKSPACE_DIRECTORY);
+        workspaceDirectory.mkdirs();
+        return new File(workspaceDirectory, name + WORKSPACE_FILE_EXTENSION);
+    }
+
+    private synchronized Workspace getWorkspace(String name) {
+        Workspace workspace = residentWorkspaces.get(name);
+        if (workspace == null) {
+            workspace = new Workspace(name, getWorkspaceFile(name));
+            lastLoadOutput = workspace.load();
+            residentWorkspaces.put(name, workspace);
+        }
+        return workspace;
+    }
+
+    /**
+     * Obtains the workspace currently in use.
+     *
+     * @return Current workspace.
+     */
+    public Workspace getCurrentWorkspace() {
+        return currentWorkspace;
+    }
+
+    /**
+     * Obtains the output from the most recent loading of a workspace from file.
+     *
+     * @return String of tasks loaded from file.
+     */
+    public synchronized String getLastLoadOutput() {
+        return lastLoadOutput;
+    }
+
+    /**
+     * Switches to another workspace, loading it from file if it is not in memory.
+     *
+     * @param name Name of workspace.
+     * @return The workspace switched to.
+     * @throws SurrealException If name is empty or contains characters other than letters, digits, - and _.
+     */
+    public synchronized Workspace switchTo(String name) throws SurrealException {
+        if (name.isEmpty()) {
+            throw new SurrealException("No workspace name given! Not stonks!\n");
+        } else if (!VALID_NAME.matcher(name).matches()) {
+            throw new SurrealException("Workspace names can only have letters, digits, - and _. Not stonks!\n");
+        }
+        currentWorkspace = getWorkspace(name);
+        return currentWorkspace;
+    }
+
+    /**
+     * Obtains the number of workspaces kept in memory.
+     *
+     * @return Number of resident workspaces.
+     */
+    public synchronized int getNumberOfResidentWorkspaces() {
+        return residentWorkspaces.size();
+    }
+
+    /**
+     * Saves every workspace in memory that has unsaved changes.
+     */
+    public synchronized void saveAll() {
+        for (Workspace workspace : residentWorkspaces.values()) {
+            if (workspace.isDirty()) {
+                workspace.save();
+            }
+        }
+    }
+}
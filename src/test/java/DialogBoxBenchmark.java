@@ -0,0 +1,42 @@
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+/**
+ * Micro-benchmark for the per-message cost of building a pair of dialog boxes.
+ * Run manually with the JavaFX modules on the classpath; it is not part of the unit test suite.
+ */
+public class DialogBoxBenchmark {
+    private static final int WARMUP_MESSAGES = 2_000;
+    private static final int MEASURED_MESSAGES = 20_000;
+
+    /**
+     * Builds dialog boxes on the JavaFX application thread and prints the average cost per message.
+     *
+     * @param args Unused.
+     * @throws InterruptedException If interrupted while waiting for the benchmark to finish.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        Platform.startup(() -> {
+            Image avatar = new Image(DialogBoxBenchmark.class.getResourceAsStream("/images/Meme Man.png"));
+            buildMessages(WARMUP_MESSAGES, avatar);
+            long start = System.nanoTime();
+            buildMessages(MEASURED_MESSAGES, avatar);
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("%d messages, %.2f us per message (user + reply dialog)\n",
+                    MEASURED_MESSAGES, elapsed / 1000.0 / MEASURED_MESSAGES);
+            finished.countDown();
+        });
+        finished.await();
+        Platform.exit();
+    }
+
+    private static void buildMessages(int count, Image avatar) {
+        for (int i = 0; i < count; i++) {
+            DialogBox.getUserDialog("list", avatar);
+            DialogBox.getSurrealDialog("I print the tasks:\n", avatar);
+        }
+    }
+}
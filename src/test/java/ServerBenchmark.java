@@ -0,0 +1,95 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import surrealchat.server.SurrealServer;
+
+/**
+ * Benchmark of server throughput as clients are added, with each client finding, listing and adding tasks.
+ * Run manually, optionally with the number of commands per client as argument; it is not part of the unit test suite.
+ */
+public class ServerBenchmark {
+    private static final int DEFAULT_COMMANDS_PER_CLIENT = 3_000;
+    private static final int[] CLIENT_COUNTS = {1, 2, 4, 8};
+    private static final int WRITE_EVERY = 10; //One todo for every this many commands
+    private static final int SAVE_INTERVAL = 100;
+
+    private static Void runClient(int port, int clientNumber, int commandCount) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < commandCount; i++) {
+                String command;
+                if (i % WRITE_EVERY == 0) {
+                    command = String.format("todo Client %d task %d;%d", clientNumber, i, i % 3 + 1);
+                } else if (i % 2 == 0) {
+                    command = "list 1-20";
+                } else {
+                    command = "find task " + (i % 100);
+                }
+                SurrealServerModeTest.send(reader, writer, command);
+            }
+            return null;
+        }
+    }
+
+    private static void measure(int port, int clients, int commandsPerClient) throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(clients);
+        try {
+            long start = System.nanoTime();
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                int clientNumber = i;
+                results.add(clientExecutor.submit(() -> runClient(port, clientNumber, commandsPerClient)));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d client(s): %8.0f commands per second\n", clients,
+                    clients * commandsPerClient / elapsedSeconds);
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Serves a fresh task list and prints the throughput for each number of clients.
+     *
+     * @param args Optional number of commands per client.
+     * @throws Exception If the server or a client fails.
+     */
+    public static void main(String[] args) throws Exception {
+        int commandsPerClient = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_COMMANDS_PER_CLIENT;
+        File directory = Files.createTempDirectory("surrealchat-benchmark").toFile();
+        SurrealChat surrealChat = SurrealChat.initSurrealChat(new File(directory, "tasks.txt"));
+        SurrealServerMode serverMode = new SurrealServerMode(surrealChat, SAVE_INTERVAL);
+        try (SurrealServer server = new SurrealServer(0, serverMode::handle)) {
+            Thread serverThread = new Thread(() -> {
+                try {
+                    server.serve();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            serverThread.setDaemon(true);
+            serverThread.start();
+            for (int clients : CLIENT_COUNTS) {
+                measure(server.getPort(), clients, commandsPerClient);
+            }
+        }
+    }
+}
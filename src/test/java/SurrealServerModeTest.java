@@ -0,0 +1,116 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import surrealchat.server.SurrealServer;
+import surrealchat.task.Task;
+
+public class SurrealServerModeTest {
+    private static final int CLIENTS = 8;
+    private static final int TASKS_PER_CLIENT = 25;
+    private static final int SAVE_INTERVAL = 10;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Sends a command and reads its response, without the line that ends it.
+     */
+    static List<String> send(BufferedReader reader, Writer writer, String command) throws IOException {
+        writer.write(command + "\n");
+        writer.flush();
+        List<String> lines = new ArrayList<>();
+        String line;
+        while (!(line = reader.readLine()).equals(SurrealServer.END_OF_RESPONSE)) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    /**
+     * Adds tasks of one client, checking after each that find and list already show it.
+     */
+    private static Void runClient(int port, String name) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            for (int i = 1; i <= TASKS_PER_CLIENT; i++) {
+                String description = String.format("%s task %d", name, i);
+                List<String> added = send(reader, writer, String.format("todo %s;1", description));
+                assertTrue(added.get(0).startsWith("Meme Man has added todo task"));
+
+                List<String> found = send(reader, writer, "find " + name + " task");
+                assertEquals(found.size() - 2, i); //Less the lines before and after the results
+
+                List<String> listed = send(reader, writer, "list");
+                assertTrue(listed.stream().anyMatch(line -> line.contains(description + " | Priority")));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Tests that clients adding, finding and listing tasks at once each see their own changes and lose none,
+     * including once saved and loaded again.
+     */
+    @Test
+    public void testConcurrentClientsLoseNoWrites() throws Exception {
+        File taskFile = tempDir.resolve("tasks.txt").toFile();
+        SurrealChat surrealChat = SurrealChat.initSurrealChat(taskFile);
+        SurrealServerMode serverMode = new SurrealServerMode(surrealChat, SAVE_INTERVAL);
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(CLIENTS);
+        try (SurrealServer server = new SurrealServer(0, serverMode::handle)) {
+            Thread serverThread = new Thread(() -> {
+                try {
+                    server.serve();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            serverThread.setDaemon(true);
+            serverThread.start();
+
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                String name = "client" + (char) ('A' + i);
+                results.add(clientExecutor.submit(() -> runClient(server.getPort(), name)));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+
+        Set<String> descriptions = new HashSet<>();
+        for (Task task : surrealChat.getTaskManagement().getTaskList()) {
+            descriptions.add(task.getDescription());
+        }
+        assertEquals(descriptions.size(), CLIENTS * TASKS_PER_CLIENT);
+
+        surrealChat.saveFile();
+        SurrealChat reloadedChat = SurrealChat.initSurrealChat(taskFile);
+        assertEquals(reloadedChat.getTaskManagement().getNumberOfTasks(), CLIENTS * TASKS_PER_CLIENT);
+    }
+}
@@ -0,0 +1,81 @@
+package surrealchat.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ChatHistoryTest {
+    private static final int TEST_CAPACITY = 3;
+
+    @TempDir
+    Path tempDir;
+
+    private ChatMessage userMessage(int number) {
+        return new ChatMessage(ChatMessage.Speaker.USER, String.format("message %d", number));
+    }
+
+    /**
+     * Tests that messages are kept in order while history is below capacity.
+     */
+    @Test
+    public void testAppendBelowCapacity() {
+        ChatHistory history = new ChatHistory(TEST_CAPACITY, null);
+        assertNull(history.append(userMessage(1)));
+        assertNull(history.append(userMessage(2)));
+        assertEquals(history.size(), 2);
+        assertEquals(history.get(0).getText(), "message 1");
+        assertEquals(history.get(1).getText(), "message 2");
+    }
+
+    /**
+     * Tests that the oldest message is evicted once history is full and that size stays bounded.
+     */
+    @Test
+    public void testEvictionKeepsSizeBounded() {
+        ChatHistory history = new ChatHistory(TEST_CAPACITY, null);
+        for (int i = 1; i <= 10; i++) {
+            history.append(userMessage(i));
+        }
+        assertEquals(history.size(), TEST_CAPACITY);
+        assertEquals(history.get(0).getText(), "message 8");
+        assertEquals(history.get(2).getText(), "message 10");
+    }
+
+    /**
+     * Tests that evicted messages are spilled into the transcript file.
+     */
+    @Test
+    public void testEvictedMessagesSpillToTranscript() throws IOException {
+        File transcript = tempDir.resolve("transcript.txt").toFile();
+        ChatHistory history = new ChatHistory(1, transcript);
+        history.append(userMessage(1));
+        history.append(new ChatMessage(ChatMessage.Speaker.SURREAL, "reply\n"));
+        history.close();
+        assertEquals(Files.readString(transcript.toPath()), "[USER]\nmessage 1\n");
+    }
+
+    /**
+     * Tests that many evicted messages reach the transcript in order once history is closed.
+     */
+    @Test
+    public void testTranscriptKeepsOrder() throws IOException {
+        File transcript = tempDir.resolve("transcript.txt").toFile();
+        ChatHistory history = new ChatHistory(TEST_CAPACITY, transcript);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 1000; i++) {
+            history.append(userMessage(i));
+            if (i <= 1000 - TEST_CAPACITY) {
+                expected.append(userMessage(i).toTranscriptEntry());
+            }
+        }
+        history.close();
+        assertEquals(Files.readString(transcript.toPath()), expected.toString());
+    }
+}
@@ -0,0 +1,62 @@
+package surrealchat.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import surrealchat.task.TaskManagement;
+import surrealchat.task.TaskPriority;
+import surrealchat.task.ToDoTask;
+
+public class CompletionIndexTest {
+    private static List<String> getTexts(List<Completion> completions) {
+        return completions.stream().map(Completion::getText).collect(Collectors.toList());
+    }
+
+    /**
+     * Tests that command words, task numbers and description words are each completed in their place.
+     */
+    @Test
+    public void testComplete() {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        CompletionIndex completionIndex = new CompletionIndex(Set.of("delete", "deadline", "done"), taskManagement);
+        taskManagement.addChangeListener(completionIndex);
+        for (int i = 1; i <= 12; i++) {
+            taskManagement.addTask(ToDoTask.createNewToDoTask("Buy milk for party " + i, TaskPriority.LOW));
+        }
+
+        assertEquals(getTexts(completionIndex.complete("de", 5)), List.of("deadline ", "delete "));
+        assertEquals(getTexts(completionIndex.complete("done 1", 4)), List.of("done 1", "done 10", "done 11",
+                "done 12"));
+        assertEquals(completionIndex.complete("delete 3", 4).get(0).getLabel(), "3. [T][\u2718] Buy milk for party 3"
+                + " | Priority: 1");
+        assertEquals(getTexts(completionIndex.complete("find mi", 5)), List.of("find milk"));
+        assertEquals(getTexts(completionIndex.complete("find milk", 5)), List.of());
+        assertEquals(getTexts(completionIndex.complete("", 5)), List.of());
+    }
+
+    /**
+     * Tests that description words follow tasks as they are edited and deleted.
+     */
+    @Test
+    public void testFollowsChanges() {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        taskManagement.addTask(ToDoTask.createNewToDoTask("Submit report", TaskPriority.LOW));
+        CompletionIndex completionIndex = new CompletionIndex(Set.of(), taskManagement);
+        completionIndex.addTasks(taskManagement.getTaskList());
+        taskManagement.addChangeListener(completionIndex);
+
+        taskManagement.addTask(ToDoTask.createNewToDoTask("Read research paper", TaskPriority.LOW));
+        assertEquals(getTexts(completionIndex.complete("find re", 5)), List.of("find Read", "find report",
+                "find research"));
+        taskManagement.replaceTask(1, ToDoTask.createNewToDoTask("Submit essay", TaskPriority.LOW));
+        taskManagement.deleteTask(2);
+        assertEquals(getTexts(completionIndex.complete("find re", 5)), List.of());
+        assertEquals(completionIndex.getNumberOfWords(), 2);
+    }
+}
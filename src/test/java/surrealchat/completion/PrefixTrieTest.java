@@ -0,0 +1,53 @@
+package surrealchat.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+    /**
+     * Tests that words are completed in alphabetical order, ignoring case, up to the limit.
+     */
+    @Test
+    public void testComplete() {
+        PrefixTrie trie = new PrefixTrie();
+        for (String word : List.of("milk", "Meeting", "mile", "mILK", "report", "me")) {
+            trie.add(word);
+        }
+        assertEquals(trie.size(), 5);
+        assertEquals(trie.getCount("Milk"), 2);
+        assertEquals(trie.complete("M", 10), List.of("me", "Meeting", "mile", "milk"));
+        assertEquals(trie.complete("mi", 1), List.of("mile"));
+        assertEquals(trie.complete("x", 10), List.of());
+        assertEquals(trie.complete("", 2), List.of("me", "Meeting"));
+    }
+
+    /**
+     * Tests that words are only gone once every occurrence is removed, leaving words sharing a prefix alone.
+     */
+    @Test
+    public void testRemove() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("milk");
+        trie.add("milk");
+        trie.add("mi");
+        trie.add("milkshake");
+
+        assertTrue(trie.remove("milk"));
+        assertEquals(trie.complete("mi", 10), List.of("mi", "milk", "milkshake"));
+        assertTrue(trie.remove("MILK"));
+        assertEquals(trie.complete("mi", 10), List.of("mi", "milkshake"));
+        assertTrue(trie.remove("milkshake"));
+        assertFalse(trie.remove("milkshake"));
+        assertEquals(trie.complete("m", 10), List.of("mi"));
+        assertEquals(trie.size(), 1);
+
+        trie.clear();
+        assertEquals(trie.complete("", 10), List.of());
+        assertEquals(trie.size(), 0);
+    }
+}
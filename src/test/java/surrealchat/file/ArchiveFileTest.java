@@ -0,0 +1,64 @@
+package surrealchat.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import surrealchat.command.ListCommand;
+import surrealchat.task.TaskManagement;
+
+public class ArchiveFileTest {
+    @TempDir
+    Path tempDir;
+
+    private List<String> readAll(ArchiveFile archiveFile) throws IOException {
+        List<String> lines = new ArrayList<>();
+        archiveFile.forEachLine(lines::add);
+        return lines;
+    }
+
+    /**
+     * Tests that the archive sits beside its task file.
+     */
+    @Test
+    public void testArchiveFileName() {
+        File archive = ArchiveFile.getArchiveFileFor(tempDir.resolve("tasks.txt").toFile());
+        assertEquals(archive, tempDir.resolve("tasks.archive").toFile().getAbsoluteFile());
+    }
+
+    /**
+     * Tests that appended tasks are read back in order, including tasks that are not ASCII.
+     */
+    @Test
+    public void testAppendThenRead() throws IOException {
+        ArchiveFile archiveFile = new ArchiveFile(tempDir.resolve("tasks.archive").toFile());
+        assertEquals(readAll(archiveFile), List.of());
+
+        archiveFile.append(List.of("T/split/1/split/1/split/Buy milk", "T/split/1/split/2/split/Eat croissant \u2615"));
+        archiveFile.append(List.of("T/split/1/split/3/split/Pay rent"));
+        assertEquals(readAll(archiveFile), List.of("T/split/1/split/1/split/Buy milk",
+                "T/split/1/split/2/split/Eat croissant \u2615", "T/split/1/split/3/split/Pay rent"));
+    }
+
+    /**
+     * Tests that a range of archived tasks can be read on its own.
+     */
+    @Test
+    public void testReadRange() throws IOException {
+        ArchiveFile archiveFile = new ArchiveFile(tempDir.resolve("tasks.archive").toFile());
+        archiveFile.append(List.of("T/split/1/split/1/split/Buy milk", "T/split/1/split/3/split/Pay rent"));
+        archiveFile.append(List.of("T/split/1/split/2/split/Call mum"));
+        assertEquals(archiveFile.getNumberOfTasks(), 3);
+        assertEquals(archiveFile.readTasks(2, 5),
+                List.of("T/split/1/split/3/split/Pay rent", "T/split/1/split/2/split/Call mum"));
+        assertEquals(new ListCommand("5-6", archiveFile).execute(new TaskManagement(new ArrayList<>())),
+                "My archive only has 3 tasks. Not stonks!\n");
+    }
+}
@@ -0,0 +1,133 @@
+package surrealchat.file;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import surrealchat.command.ImportCommand;
+import surrealchat.task.TaskManagement;
+
+public class ExchangeFileTest {
+    private static final List<String[]> RECORDS = List.of(
+            new String[] {"todo", "false", "1", "Buy milk, eggs and \"fresh\" bread", "", "", "", ""},
+            new String[] {"deadline", "true", "3", "Submit report \u2615", "2021-02-28T09:00", "", "90", ""},
+            new String[] {"recurring", "false", "2", "Pay rent \\ bills", "2021-01-31T09:00", "every 1 months", "", ""},
+            new String[] {"event", "false", "2", "Team lunch", "2021-02-01T12:00", "", "", "2021-02-01T13:30"});
+
+    @TempDir
+    Path tempDir;
+
+    private List<String[]> readAll(ExchangeFile exchangeFile) throws IOException {
+        List<String[]> records = new ArrayList<>();
+        exchangeFile.forEachRecord(records::add);
+        return records;
+    }
+
+    private void assertRecordsEqual(List<String[]> actual, List<String[]> expected) {
+        assertEquals(actual.size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(actual.get(i), expected.get(i));
+        }
+    }
+
+    /**
+     * Tests that records with commas, quotes, non-ASCII and backslashes survive a round trip in both layouts.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (String format : List.of(ExchangeFile.CSV_FORMAT, ExchangeFile.JSON_FORMAT)) {
+            ExchangeFile exchangeFile = ExchangeFile.of(tempDir.resolve("tasks." + format).toFile(), format);
+            assertEquals(exchangeFile.write(RECORDS.iterator()), 4);
+            assertRecordsEqual(readAll(exchangeFile), RECORDS);
+        }
+    }
+
+    /**
+     * Tests that columns and keys may come in any order, with unknown ones skipped and missing ones left empty.
+     */
+    @Test
+    public void testFieldOrder() throws IOException {
+        File csvFile = tempDir.resolve("tasks.csv").toFile();
+        Files.writeString(csvFile.toPath(), "description,notes,type,priority\r\nCall mum,soon,todo,2\r\n\r\n");
+        assertRecordsEqual(readAll(new CsvExchangeFile(csvFile)),
+                List.<String[]>of(new String[] {"todo", "", "2", "Call mum", "", "", "", ""}));
+
+        File jsonFile = tempDir.resolve("tasks.json").toFile();
+        Files.writeString(jsonFile.toPath(), "[ {\"priority\": 2, \"notes\": null, \"description\": \"Call \\u006dum\","
+                + " \"type\": \"todo\"} ]", StandardCharsets.UTF_8);
+        assertRecordsEqual(readAll(new JsonExchangeFile(jsonFile)),
+                List.<String[]>of(new String[] {"todo", "", "2", "Call mum", "", "", "", ""}));
+    }
+
+    /**
+     * Tests that badly laid out files are reported with the line at fault.
+     */
+    @Test
+    public void testMalformedFile() throws IOException {
+        File csvFile = tempDir.resolve("tasks.csv").toFile();
+        Files.writeString(csvFile.toPath(), "type,description\ntodo,\"Call mum\n");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> readAll(new CsvExchangeFile(csvFile)));
+        assertEquals(e.getMessage(), "Quoted field is never closed by line 3. Not stonks!\n");
+
+        File jsonFile = tempDir.resolve("tasks.json").toFile();
+        Files.writeString(jsonFile.toPath(), "[\n{\"type\": \"todo\"}\n{\"type\": \"todo\"}]");
+        e = assertThrows(IllegalArgumentException.class, () -> readAll(new JsonExchangeFile(jsonFile)));
+        assertEquals(e.getMessage(), "Expected ']' on line 3. Not stonks!\n");
+    }
+
+    /**
+     * Tests that the layout is taken from the file name when not given.
+     */
+    @Test
+    public void testFormatFromName() {
+        assertEquals(ExchangeFile.getFormatFor(new File("backup.JSON")), ExchangeFile.JSON_FORMAT);
+        assertEquals(ExchangeFile.getFormatFor(new File("backup.txt")), ExchangeFile.CSV_FORMAT);
+        assertThrows(IllegalArgumentException.class, () -> ExchangeFile.of(new File("backup"), "xml"));
+    }
+
+    /**
+     * Tests that import rejects descriptions the task file cannot hold on one line, and adds none of the tasks.
+     */
+    @Test
+    public void testImportRejectsLineBreaks() throws IOException {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        for (String description : List.of("\"Submit\nreport\"", "\"Submit\rreport\"", "Submit/split/report")) {
+            File csvFile = tempDir.resolve("tasks.csv").toFile();
+            Files.writeString(csvFile.toPath(), "type,priority,description\ntodo,1,Call mum\ntodo,1," + description);
+            String output = new ImportCommand(csvFile.getPath()).execute(taskManagement);
+            assertTrue(output.startsWith("Task 2 in file is invalid"));
+            assertEquals(taskManagement.getNumberOfTasks(), 0);
+        }
+    }
+
+    /**
+     * Tests that an effort too long to hold, after a full batch has been added, leaves the list as it was.
+     */
+    @Test
+    public void testImportRejectsHugeEffortAfterBatch() throws IOException {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        StringBuilder csv = new StringBuilder("type,priority,description,effort\n");
+        for (int i = 0; i < 1500; i++) {
+            csv.append("todo,1,Task ").append(i).append(",30\n");
+        }
+        csv.append("todo,1,Forever,153722867280912931\n");
+        File csvFile = tempDir.resolve("tasks.csv").toFile();
+        Files.writeString(csvFile.toPath(), csv);
+
+        String output = new ImportCommand(csvFile.getPath()).execute(taskManagement);
+        assertTrue(output.startsWith("Task 1501 in file is invalid"));
+        assertEquals(taskManagement.getNumberOfTasks(), 0);
+    }
+}
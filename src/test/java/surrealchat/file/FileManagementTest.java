@@ -0,0 +1,74 @@
+package surrealchat.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileManagementTest {
+    private static final int TASK_COUNT = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    private static List<String> createTasks(int first, int last) {
+        List<String> fileTasks = new ArrayList<>();
+        for (int i = first; i <= last; i++) {
+            fileTasks.add(String.format("D/split/0/split/2/split/Submit report %d /by 2021-03-0%dT23:59",
+                    i, i % 9 + 1));
+        }
+        return fileTasks;
+    }
+
+    /**
+     * Tests that plain text task files are still loaded, and saved in the layout asked for.
+     */
+    @Test
+    public void testSegmentedFormat() throws IOException {
+        File file = tempDir.resolve("tasks.txt").toFile();
+        Files.writeString(file.toPath(), String.join("\n", createTasks(1, 5)) + "\n");
+        assertFalse(SegmentedTaskFile.isSegmented(file));
+        FileManagement fileManagement = new FileManagement(file, FileManagement.SEGMENTED_FORMAT);
+
+        fileManagement.saveTasksToFile(fileManagement.loadTaskFile());
+        assertTrue(SegmentedTaskFile.isSegmented(file));
+        assertEquals(new FileManagement(file, FileManagement.TEXT_FORMAT).loadTaskFile(), createTasks(1, 5));
+        assertEquals(new SegmentedTaskFile(file).readTasks(2, 3), createTasks(2, 3));
+    }
+
+    /**
+     * Tests that compressed snapshots are much smaller than plain text and load back unchanged.
+     */
+    @Test
+    public void testCompressedFormat() throws IOException {
+        File textFile = tempDir.resolve("tasks.txt").toFile();
+        new FileManagement(textFile, FileManagement.TEXT_FORMAT).saveTasksToFile(createTasks(1, TASK_COUNT));
+        File compressedFile = tempDir.resolve("compressed.txt").toFile();
+        FileManagement fileManagement = new FileManagement(compressedFile, FileManagement.COMPRESSED_FORMAT);
+        fileManagement.saveTasksToFile(createTasks(1, TASK_COUNT));
+
+        assertTrue(CompressedTaskFile.isCompressed(compressedFile));
+        assertTrue(compressedFile.length() * 4 < textFile.length());
+        assertEquals(new FileManagement(compressedFile, FileManagement.TEXT_FORMAT).loadTaskFile(),
+                createTasks(1, TASK_COUNT));
+    }
+
+    /**
+     * Tests that unknown layouts are rejected.
+     */
+    @Test
+    public void testUnknownFormat() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new FileManagement(tempDir.resolve("tasks.txt").toFile(), "zip"));
+    }
+}
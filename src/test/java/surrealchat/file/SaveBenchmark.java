@@ -0,0 +1,70 @@
+package surrealchat.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark of saveTasksToFile in each file layout, showing the time taken against the bytes written.
+ * Run manually, optionally with the number of tasks as argument; it is not part of the unit test suite.
+ */
+public class SaveBenchmark {
+    private static final int DEFAULT_TASK_COUNT = 200_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final String[] DESCRIPTIONS = {
+        "Standup", "Pay rent", "Submit weekly report", "Review pull requests", "Water the vegetal"
+    };
+
+    private static List<String> createTasks(int taskCount) {
+        List<String> fileTasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            String description = DESCRIPTIONS[i % DESCRIPTIONS.length] + " " + (i % 97);
+            fileTasks.add(String.format("D/split/%d/split/%d/split/%s /by 2021-%02d-%02dT%02d:%02d",
+                    i % 2, i % 3 + 1, description, i % 12 + 1, i % 28 + 1, i % 24, i % 60));
+        }
+        return fileTasks;
+    }
+
+    private static void measure(String label, FileManagement fileManagement, File file, List<String> fileTasks) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            fileManagement.saveTasksToFile(fileTasks);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            fileManagement.saveTasksToFile(fileTasks);
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+        System.out.printf("%-14s %8.1f ms per save %12d bytes\n", label, millis, file.length());
+    }
+
+    /**
+     * Saves the same tasks in every layout and prints the average time per save and the file size.
+     *
+     * @param args Optional number of tasks.
+     * @throws IOException If the temporary directory cannot be created.
+     */
+    public static void main(String[] args) throws IOException {
+        int taskCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_TASK_COUNT;
+        List<String> fileTasks = createTasks(taskCount);
+        File directory = Files.createTempDirectory("surrealchat-benchmark").toFile();
+        System.out.printf("%d tasks\n", taskCount);
+        File textFile = new File(directory, "text.txt");
+        measure("text", new FileManagement(textFile, FileManagement.TEXT_FORMAT), textFile, fileTasks);
+        File segmentedFile = new File(directory, "segmented.txt");
+        measure("segmented", new FileManagement(segmentedFile, FileManagement.SEGMENTED_FORMAT), segmentedFile,
+                fileTasks);
+        for (int level : new int[] {1, 6, 9}) {
+            System.setProperty(FileManagement.COMPRESSION_LEVEL_PROPERTY, String.valueOf(level));
+            File compressedFile = new File(directory, "compressed" + level + ".txt");
+            measure("compressed " + level, new FileManagement(compressedFile, FileManagement.COMPRESSED_FORMAT),
+                    compressedFile, fileTasks);
+        }
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+}
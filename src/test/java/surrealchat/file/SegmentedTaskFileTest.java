@@ -0,0 +1,90 @@
+package surrealchat.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SegmentedTaskFileTest {
+    private static final int TASK_COUNT = 1000;
+    private static final int SMALL_BLOCK_SIZE = 256;
+
+    @TempDir
+    Path tempDir;
+
+    private static List<String> createTasks(int first, int last) {
+        List<String> fileTasks = new ArrayList<>();
+        for (int i = first; i <= last; i++) {
+            fileTasks.add(String.format("T/split/0/split/1/split/Task %d", i));
+        }
+        return fileTasks;
+    }
+
+    private List<String> readAll(SegmentedTaskFile segmentedFile) throws IOException {
+        List<String> fileTasks = new ArrayList<>();
+        segmentedFile.forEachTask(fileTasks::add);
+        return fileTasks;
+    }
+
+    /**
+     * Tests that tasks written over many blocks are read back whole and by range.
+     */
+    @Test
+    public void testWriteThenReadRanges() throws IOException {
+        File file = tempDir.resolve("tasks.txt").toFile();
+        SegmentedTaskFile segmentedFile = new SegmentedTaskFile(file, SMALL_BLOCK_SIZE);
+        segmentedFile.write(createTasks(1, TASK_COUNT));
+
+        assertTrue(SegmentedTaskFile.isSegmented(file));
+        assertEquals(segmentedFile.getNumberOfTasks(), TASK_COUNT);
+        assertEquals(readAll(segmentedFile), createTasks(1, TASK_COUNT));
+        assertEquals(segmentedFile.readTasks(900, 910), createTasks(900, 910));
+        assertEquals(segmentedFile.readTasks(1, 1), createTasks(1, 1));
+        assertEquals(segmentedFile.readTasks(995, 2000), createTasks(995, TASK_COUNT));
+        assertEquals(segmentedFile.readTasks(2000, 3000), List.of());
+    }
+
+    /**
+     * Tests that appending keeps earlier tasks and indexes the new ones.
+     */
+    @Test
+    public void testAppend() throws IOException {
+        SegmentedTaskFile segmentedFile = new SegmentedTaskFile(tempDir.resolve("tasks.archive").toFile(),
+                SMALL_BLOCK_SIZE);
+        segmentedFile.append(createTasks(1, 10));
+        segmentedFile.append(createTasks(11, 500));
+        assertEquals(segmentedFile.getNumberOfTasks(), 500);
+        assertEquals(segmentedFile.readTasks(8, 12), createTasks(8, 12));
+    }
+
+    /**
+     * Tests that a lost footer is rebuilt from the blocks, and a damaged block is reported.
+     */
+    @Test
+    public void testDamagedFile() throws IOException {
+        File file = tempDir.resolve("tasks.archive").toFile();
+        SegmentedTaskFile segmentedFile = new SegmentedTaskFile(file, SMALL_BLOCK_SIZE);
+        segmentedFile.write(createTasks(1, TASK_COUNT));
+        try (RandomAccessFile damagedFile = new RandomAccessFile(file, "rw")) {
+            damagedFile.setLength(file.length() - 1); //As if a crash cut off the end of the footer
+        }
+        assertEquals(readAll(segmentedFile), createTasks(1, TASK_COUNT));
+        segmentedFile.append(createTasks(TASK_COUNT + 1, TASK_COUNT + 1));
+        assertEquals(segmentedFile.getNumberOfTasks(), TASK_COUNT + 1);
+
+        try (RandomAccessFile damagedFile = new RandomAccessFile(file, "rw")) {
+            damagedFile.seek(20);
+            damagedFile.write('X');
+        }
+        assertThrows(IOException.class, () -> segmentedFile.readTasks(1, 1));
+    }
+}
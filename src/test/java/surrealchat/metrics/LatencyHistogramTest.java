@@ -0,0 +1,58 @@
+package surrealchat.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+    private static final double RELATIVE_ERROR = 0.04;
+
+    private static void assertClose(long actual, long expected) {
+        assertTrue(Math.abs(actual - expected) <= expected * RELATIVE_ERROR,
+                String.format("Expected about %d but was %d", expected, actual));
+    }
+
+    /**
+     * Tests that an empty histogram reports zeroes.
+     */
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.getCount(), 0);
+        assertEquals(histogram.getPercentile(99), 0);
+        assertEquals(histogram.getMax(), 0);
+        assertEquals(histogram.getSum(), 0);
+    }
+
+    /**
+     * Tests that percentiles are accurate to within the bucket precision across several magnitudes.
+     */
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals(histogram.getCount(), 100_000);
+        assertEquals(histogram.getMax(), 100_000_000);
+        assertClose(histogram.getPercentile(50), 50_000_000);
+        assertClose(histogram.getPercentile(99), 99_000_000);
+        assertEquals(histogram.getPercentile(100), 100_000_000);
+        assertEquals(histogram.getSum(), 100_000L * 100_001 / 2 * 1000); //Exact, whatever the bucket precision
+    }
+
+    /**
+     * Tests that small values are recorded exactly.
+     */
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(5);
+        histogram.record(-7);
+        assertEquals(histogram.getPercentile(0), 0);
+        assertEquals(histogram.getPercentile(50), 3);
+        assertEquals(histogram.getPercentile(100), 5);
+    }
+}
@@ -0,0 +1,80 @@
+package surrealchat.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class SurrealServerTest {
+    private static final int CLIENTS = 8;
+    private static final int COMMANDS_PER_CLIENT = 50;
+
+    private static String echo(String input) {
+        return String.format("echo %s\nsecond line", input);
+    }
+
+    private static int runClient(int port, int clientNumber) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            int correctResponses = 0;
+            for (int i = 0; i < COMMANDS_PER_CLIENT; i++) {
+                String command = String.format("find %d-%d", clientNumber, i);
+                writer.write(command + "\n");
+                writer.flush();
+                String firstLine = reader.readLine();
+                String secondLine = reader.readLine();
+                String endLine = reader.readLine();
+                if (firstLine.equals("echo " + command) && secondLine.equals("second line")
+                        && endLine.equals(SurrealServer.END_OF_RESPONSE)) {
+                    correctResponses++;
+                }
+            }
+            return correctResponses;
+        }
+    }
+
+    /**
+     * Tests that clients served at once each get their own responses, every one ended by the end line.
+     */
+    @Test
+    public void testResponsesGoToTheirClients() throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(CLIENTS);
+        try (SurrealServer server = new SurrealServer(0, SurrealServerTest::echo)) {
+            Thread serverThread = new Thread(() -> {
+                try {
+                    server.serve();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            serverThread.setDaemon(true);
+            serverThread.start();
+
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                int clientNumber = i;
+                results.add(clientExecutor.submit(() -> runClient(server.getPort(), clientNumber)));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(result.get(), COMMANDS_PER_CLIENT);
+            }
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package surrealchat.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeCodecTest {
+    private static final String[] DATE_TIMES = {
+        "2020-10-21T10:10:10", "2020-10-21T10:10", "2021-01-01T00:00", "2021-12-31T23:59:59",
+        "0001-02-03T04:05:06", "2020-10-21T10:10:10.5", "+10000-01-01T00:00", "2020-10-21t10:10"
+    };
+
+    /**
+     * Tests that parsing gives the same result as LocalDateTime.parse.
+     */
+    @Test
+    public void testParseMatchesLocalDateTime() {
+        for (String dateTime : DATE_TIMES) {
+            assertEquals(DateTimeCodec.parse(dateTime), LocalDateTime.parse(dateTime));
+        }
+        assertEquals(DateTimeCodec.parse("by 2020-10-21T10:10 now", 3, 19), LocalDateTime.parse("2020-10-21T10:10"));
+    }
+
+    /**
+     * Tests that formatting gives the same result as LocalDateTime.toString.
+     */
+    @Test
+    public void testFormatMatchesLocalDateTime() {
+        for (String dateTime : DATE_TIMES) {
+            LocalDateTime parsed = LocalDateTime.parse(dateTime);
+            assertEquals(DateTimeCodec.format(parsed), parsed.toString());
+        }
+    }
+
+    /**
+     * Tests that invalid date times are rejected just like LocalDateTime.parse.
+     */
+    @Test
+    public void testInvalidDateTimes() {
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parse("2021-02-30T10:00"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parse("2021-02-03T24:00"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parse("2021-02-03 10:00"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parse("2021-0a-03T10:00"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parse("tomorrow"));
+    }
+}
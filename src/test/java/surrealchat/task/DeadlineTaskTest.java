@@ -1,7 +1,9 @@
 package surrealchat.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
@@ -104,4 +106,37 @@ public class DeadlineTaskTest {
         assertEquals(DeadlineTaskTest.STARTING_TASK.markAsDone().markAsDone().toString(),
                 "[D][\u2718] Do CS2103T quiz | Priority: 3 (by: 2020-10-21, 10:10:10)");
     }
+
+    /**
+     * Tests that an effort estimate is shown, saved, kept through edits and loaded again.
+     */
+    @Test
+    public void testEffort() {
+        DeadlineTask estimatedTask = DeadlineTaskTest.STARTING_TASK.withEffort(Duration.ofMinutes(90));
+        assertEquals(estimatedTask.markAsDone().editDescription("Eat biscuits").toString(),
+                "[D][\u2713] Eat biscuits | Priority: 3 (by: 2020-10-21, 10:10:10) | Effort: 1h30m");
+        assertEquals(estimatedTask.saveTask(),
+                "D/split/0/split/3/split/Do CS2103T quiz /by 2020-10-21T10:10:10/split/90");
+        assertEquals(TaskManagement.parseTask(estimatedTask.saveTask(), new DescriptionPool()).getEffort(),
+                Duration.ofMinutes(90));
+        assertEquals(DurationCodec.parse("2h"), Duration.ofHours(2));
+        assertEquals(DurationCodec.parse("45"), Duration.ofMinutes(45));
+        assertThrows(IllegalArgumentException.class, () -> DurationCodec.parse("1h30"));
+    }
+
+    /**
+     * Tests that efforts too long to hold, or with signed parts, are rejected rather than wrapped around.
+     */
+    @Test
+    public void testEffortOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> DurationCodec.parse("307445734561825861h"));
+        assertThrows(IllegalArgumentException.class, () -> DurationCodec.parse("2562047788015216h"));
+        assertThrows(IllegalArgumentException.class, () -> DurationCodec.parse("-1h90m"));
+        assertThrows(IllegalArgumentException.class, () -> DurationCodec.parse("1h-30m"));
+        assertThrows(IllegalArgumentException.class, () -> DurationCodec.parse("+45"));
+        assertEquals(DurationCodec.parse(DurationCodec.MAX_MINUTES + "m"),
+                Duration.ofMinutes(DurationCodec.MAX_MINUTES));
+        assertThrows(IllegalArgumentException.class, () -> TaskManagement.parseTask(
+                "T/split/0/split/1/split/Sleep/split/" + (DurationCodec.MAX_MINUTES + 1), new DescriptionPool()));
+    }
 }
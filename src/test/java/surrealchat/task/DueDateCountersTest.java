@@ -0,0 +1,75 @@
+package surrealchat.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DueDateCountersTest {
+    private static final LocalDateTime MONDAY = LocalDateTime.parse("2021-03-01T09:00");
+    private static final int CHANGES_MADE = 2_000;
+
+    private static DeadlineTask createDeadline(String description, TaskPriority priority, LocalDateTime deadline) {
+        return DeadlineTask.createNewDeadlineTask(description, priority, deadline);
+    }
+
+    /**
+     * Tests that deadlines are bucketed by day and by week from Monday, and only undone deadlines are counted.
+     */
+    @Test
+    public void testBuckets() {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        taskManagement.addTasks(List.of(
+                createDeadline("Quiz", TaskPriority.HIGH, MONDAY),
+                createDeadline("Report", TaskPriority.LOW, MONDAY.plusDays(6)),
+                createDeadline("Slides", TaskPriority.HIGH, MONDAY.plusDays(7)),
+                createDeadline("Essay", TaskPriority.HIGH, MONDAY.plusDays(2)).markAsDone(),
+                EventTask.createNewEventTask("Standup", TaskPriority.HIGH, MONDAY)));
+        DueDateCounters dueDateCounters = taskManagement.getTaskCounters().getDueDateCounters();
+
+        assertEquals(dueDateCounters.getDueOnDayCount(MONDAY.toLocalDate(), null), 1);
+        assertEquals(dueDateCounters.getDueInWeekCount(LocalDate.parse("2021-03-07"), null), 2);
+        assertEquals(dueDateCounters.getDueInWeekCount(LocalDate.parse("2021-03-03"), TaskPriority.HIGH), 1);
+        assertEquals(dueDateCounters.getDueInWeekCount(LocalDate.parse("2021-03-08"), TaskPriority.HIGH), 1);
+
+        taskManagement.markAsDone(1);
+        taskManagement.markAsDone(4);
+        assertEquals(dueDateCounters.getDueOnDayCount(MONDAY.toLocalDate(), null), 0);
+        assertEquals(dueDateCounters.getDueInWeekCount(MONDAY.toLocalDate(), TaskPriority.HIGH), 1);
+    }
+
+    /**
+     * Tests that the overdue count matches counting every deadline, as deadlines change and time moves both ways.
+     */
+    @Test
+    public void testOverdueMatchesScan() {
+        Random random = new Random(50);
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        DueDateCounters dueDateCounters = taskManagement.getTaskCounters().getDueDateCounters();
+        for (int i = 0; i < CHANGES_MADE; i++) {
+            int change = random.nextInt(6);
+            if (change < 3 || taskManagement.getNumberOfTasks() == 0) {
+                LocalDateTime deadline = MONDAY.plusHours(random.nextInt(500));
+                taskManagement.addTask(createDeadline("Task " + i, TaskPriority.LOW, deadline));
+            } else if (change == 3) {
+                taskManagement.markAsDone(1 + random.nextInt(taskManagement.getNumberOfTasks()));
+            } else if (change == 4) {
+                taskManagement.deleteTask(1 + random.nextInt(taskManagement.getNumberOfTasks()));
+            }
+
+            LocalDateTime now = MONDAY.plusHours(random.nextInt(500));
+            int expectedCount = 0;
+            for (Task task : taskManagement.getTaskList()) {
+                if (!task.isDone() && ((DeadlineTask) task).getDeadline().isBefore(now)) {
+                    expectedCount++;
+                }
+            }
+            assertEquals(dueDateCounters.getOverdueCount(now), expectedCount);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package surrealchat.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class EventIntervalTreeTest {
+    private static final LocalDateTime MONDAY = LocalDateTime.parse("2021-03-01T09:00");
+    private static final int EVENTS_ADDED = 300;
+
+    private static EventTask createEvent(String description, int startMinutes, int endMinutes) {
+        LocalDateTime end = (endMinutes < 0) ? null : MONDAY.plusMinutes(endMinutes);
+        return EventTask.createNewEventTask(description, TaskPriority.LOW, MONDAY.plusMinutes(startMinutes), end);
+    }
+
+    private static boolean overlaps(EventTask a, EventTask b) {
+        LocalDateTime aEnd = (a.getEndDate() == null) ? a.getEventDate().plusNanos(1) : a.getEndDate();
+        LocalDateTime bEnd = (b.getEndDate() == null) ? b.getEventDate().plusNanos(1) : b.getEndDate();
+        return a.getEventDate().isBefore(bEnd) && b.getEventDate().isBefore(aEnd);
+    }
+
+    private static String toPairName(Task a, Task b) {
+        String aName = a.getDescription();
+        String bName = b.getDescription();
+        return (aName.compareTo(bName) < 0) ? aName + "+" + bName : bName + "+" + aName;
+    }
+
+    private static Set<String> toPairNames(List<EventTask[]> pairs) {
+        Set<String> pairNames = new HashSet<>();
+        for (EventTask[] pair : pairs) {
+            assertTrue(!pair[1].getEventDate().isBefore(pair[0].getEventDate()));
+            assertTrue(pairNames.add(toPairName(pair[0], pair[1])));
+        }
+        return pairNames;
+    }
+
+    /**
+     * Tests that events touching end to start do not overlap, while events without an end overlap events under way.
+     */
+    @Test
+    public void testOverlapBoundaries() {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        EventTask lecture = createEvent("Lecture", 0, 120);
+        EventTask lunch = createEvent("Lunch", 120, 180);
+        EventTask call = createEvent("Call", 60, -1);
+        taskManagement.addTasks(List.of(lecture, lunch, call, createEvent("Call again", 60, -1)));
+
+        assertEquals(taskManagement.getOverlappingEvents(lecture).size(), 2);
+        assertTrue(taskManagement.getOverlappingEvents(lunch).isEmpty());
+        assertEquals(taskManagement.getOverlappingEvents(call).size(), 2);
+        assertEquals(toPairNames(taskManagement.getEventConflicts()),
+                Set.of("Call+Lecture", "Call again+Lecture", "Call+Call again"));
+
+        taskManagement.markAsDone(1);
+        assertEquals(toPairNames(taskManagement.getEventConflicts()), Set.of("Call+Call again"));
+    }
+
+    /**
+     * Tests that overlaps found through the tree match checking every pair, as events are added, edited and deleted.
+     */
+    @Test
+    public void testMatchesEveryPair() {
+        Random random = new Random(49);
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        for (int i = 0; i < EVENTS_ADDED; i++) {
+            int start = random.nextInt(10_000);
+            int end = random.nextBoolean() ? -1 : start + 1 + random.nextInt(200);
+            taskManagement.addTask(createEvent("Event " + i, start, end));
+            if (random.nextInt(5) == 0) {
+                int taskNumber = 1 + random.nextInt(taskManagement.getNumberOfTasks());
+                EventTask event = (EventTask) taskManagement.getTask(taskNumber);
+                taskManagement.replaceTask(taskNumber, event.editEventDate(MONDAY.plusMinutes(random.nextInt(10_000))));
+            }
+            if (random.nextInt(7) == 0) {
+                taskManagement.deleteTask(1 + random.nextInt(taskManagement.getNumberOfTasks()));
+            }
+        }
+
+        List<Task> taskList = taskManagement.getTaskList();
+        Set<String> expectedPairs = new HashSet<>();
+        for (Task task : taskList) {
+            EventTask event = (EventTask) task;
+            Set<EventTask> expectedOverlaps = new HashSet<>();
+            for (Task other : taskList) {
+                if (other != event && overlaps(event, (EventTask) other)) {
+                    expectedOverlaps.add((EventTask) other);
+                    expectedPairs.add(toPairName(event, other));
+                }
+            }
+            assertEquals(new HashSet<>(taskManagement.getOverlappingEvents(event)), expectedOverlaps);
+        }
+        assertEquals(toPairNames(taskManagement.getEventConflicts()), expectedPairs);
+    }
+}
@@ -104,4 +104,17 @@ public class EventTaskTest {
         assertEquals(EventTaskTest.STARTING_TASK.markAsDone().markAsDone().toString(),
                 "[E][\u2718] Do CS2103T quiz | Priority: 2 (at: 2020-10-21, 10:10:10)");
     }
+
+    /**
+     * Tests that an end time is shown, saved, and moved along with the event so that it lasts as long.
+     */
+    @Test
+    public void testEndTime() {
+        EventTask task = STARTING_TASK.editEventDate(TEST_EVENT, TEST_EVENT.plusMinutes(90));
+        assertEquals(task.toString(),
+                "[E][\u2718] Do CS2103T quiz | Priority: 2 (at: 2020-10-21, 10:10:10 to 11:40:10)");
+        assertEquals(task.saveTask(),
+                "E/split/0/split/2/split/Do CS2103T quiz /at 2020-10-21T10:10:10 /to 2020-10-21T11:40:10");
+        assertEquals(task.editEventDate(TEST_EDIT_EVENT).getEndDate(), TEST_EDIT_EVENT.plusMinutes(90));
+    }
 }
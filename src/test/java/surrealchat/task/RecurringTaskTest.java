@@ -0,0 +1,116 @@
+package surrealchat.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import surrealchat.exception.SurrealException;
+
+public class RecurringTaskTest {
+    private static final String TEST_DESCRIPTION = "Pay rent";
+    private static final LocalDateTime TEST_START = LocalDateTime.parse("2021-01-31T09:00");
+    private static final TaskPriority TASK_PRIORITY = TaskPriority.HIGH;
+
+    private static RecurringTask createMonthlyTask() throws SurrealException {
+        return RecurringTask.createNewRecurringTask(
+                TEST_DESCRIPTION, TASK_PRIORITY, TEST_START, RecurrenceRule.parse("monthly"));
+    }
+
+    /**
+     * Tests the functionality of toString() method in RecurringTask class.
+     */
+    @Test
+    public void testPrintStringConversion() throws SurrealException {
+        assertEquals(createMonthlyTask().toString(),
+                "[R][\u2718] Pay rent | Priority: 3 (every 1 months from: 2021-01-31, 09:00)");
+    }
+
+    /**
+     * Tests the functionality of saveTask() method in RecurringTask class.
+     */
+    @Test
+    public void testFileStringConversion() throws SurrealException {
+        assertEquals(createMonthlyTask().saveTask(),
+                "R/split/0/split/3/split/Pay rent /from 2021-01-31T09:00 /repeat every 1 months");
+    }
+
+    /**
+     * Tests that a saved RecurringTask loads back unchanged.
+     */
+    @Test
+    public void testLoadFromFile() throws SurrealException {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        taskManagement.parseFileLines(List.of(createMonthlyTask().saveTask()));
+        assertEquals(taskManagement.getTask(1).saveTask(), createMonthlyTask().saveTask());
+    }
+
+    /**
+     * Tests that occurrences are counted from the start, so months that are too short do not shift later ones.
+     */
+    @Test
+    public void testOccurrences() throws SurrealException {
+        List<LocalDateTime> occurrences = createMonthlyTask()
+                .getOccurrences(LocalDateTime.parse("2021-02-01T00:00"), LocalDateTime.parse("2021-05-01T00:00"))
+                .collect(Collectors.toList());
+        assertEquals(occurrences, List.of(LocalDateTime.parse("2021-02-28T09:00"),
+                LocalDateTime.parse("2021-03-31T09:00"), LocalDateTime.parse("2021-04-30T09:00")));
+    }
+
+    /**
+     * Tests that the next occurrence is found without going through every earlier one.
+     */
+    @Test
+    public void testNextOccurrence() throws SurrealException {
+        RecurringTask dailyTask = RecurringTask.createNewRecurringTask(
+                TEST_DESCRIPTION, TASK_PRIORITY, TEST_START, RecurrenceRule.parse("every 3 days"));
+        assertEquals(dailyTask.getNextOccurrence(LocalDateTime.parse("3021-01-01T00:00")),
+                LocalDateTime.parse("3021-01-03T09:00"));
+        assertEquals(dailyTask.getNextOccurrence(LocalDateTime.parse("2020-01-01T00:00")), TEST_START);
+    }
+
+    /**
+     * Tests that list shows the next occurrence in the same form as other dates.
+     */
+    @Test
+    public void testListShowsNextOccurrence() throws SurrealException {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        taskManagement.addTask(RecurringTask.createNewRecurringTask(TEST_DESCRIPTION, TASK_PRIORITY,
+                LocalDateTime.parse("3021-01-31T09:00"), RecurrenceRule.parse("monthly")));
+        assertEquals(taskManagement.listOutTasks(), "1. [R][\u2718] Pay rent | Priority: 3 "
+                + "(every 1 months from: 3021-01-31, 09:00) next: 3021-01-31, 09:00\n");
+    }
+
+    /**
+     * Tests that intervals too long for one step are rejected, and that occurrences past the latest date are left out.
+     */
+    @Test
+    public void testHugeInterval() throws SurrealException {
+        assertThrows(SurrealException.class, () -> RecurrenceRule.parse("every 1000000000000 years"));
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        RecurringTask hugeTask = RecurringTask.createNewRecurringTask(TEST_DESCRIPTION, TASK_PRIORITY, TEST_START,
+                RecurrenceRule.parse("every 999999999 years"));
+        taskManagement.addTask(hugeTask);
+
+        assertEquals(hugeTask.getNextOccurrence(LocalDateTime.parse("2022-01-01T00:00")), null);
+        assertEquals(hugeTask.getOccurrences(LocalDateTime.parse("2022-01-01T00:00"), LocalDateTime.MAX).count(), 0);
+        assertEquals(taskManagement.listOutTasks(), "1. [R][\u2718] Pay rent | Priority: 3 "
+                + "(every 999999999 years from: 2021-01-31, 09:00)\n");
+    }
+
+    /**
+     * Tests that invalid recurrence rules are rejected.
+     */
+    @Test
+    public void testInvalidRules() {
+        assertThrows(SurrealException.class, () -> RecurrenceRule.parse("fortnightly"));
+        assertThrows(SurrealException.class, () -> RecurrenceRule.parse("every 0 days"));
+        assertThrows(SurrealException.class, () -> RecurrenceRule.parse("every two weeks"));
+        assertThrows(SurrealException.class, () -> RecurrenceRule.parse("every 2 hours"));
+    }
+}
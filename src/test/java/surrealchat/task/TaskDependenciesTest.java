@@ -0,0 +1,143 @@
+package surrealchat.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import surrealchat.exception.SurrealException;
+
+public class TaskDependenciesTest {
+    private static TaskManagement createTasks(int numberOfTasks) {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        for (int i = 1; i <= numberOfTasks; i++) {
+            taskManagement.addTask(ToDoTask.createNewToDoTask(String.format("Task %d", i), TaskPriority.LOW));
+        }
+        return taskManagement;
+    }
+
+    private static boolean isReady(TaskManagement taskManagement, int taskNumber) {
+        return taskManagement.getDependencies().isReady(taskManagement.getTask(taskNumber));
+    }
+
+    /**
+     * Tests that links making tasks block each other in a circle are refused, however long the circle.
+     */
+    @Test
+    public void testCycleRefused() throws SurrealException {
+        TaskManagement taskManagement = createTasks(4);
+        taskManagement.linkTasks(3, 2);
+        taskManagement.linkTasks(2, 1);
+        taskManagement.linkTasks(1, 4);
+        assertThrows(SurrealException.class, () -> taskManagement.linkTasks(4, 3));
+        assertThrows(SurrealException.class, () -> taskManagement.linkTasks(1, 1));
+        assertThrows(SurrealException.class, () -> taskManagement.linkTasks(3, 2));
+        assertEquals(taskManagement.getDependencies().getNumberOfLinks(), 3);
+        assertEquals(taskManagement.getDependencies().getPlan(taskManagement.getTaskList()), List.of(3, 2, 1, 4));
+    }
+
+    /**
+     * Tests that a task is only ready once every task blocking it is done.
+     */
+    @Test
+    public void testReadyFollowsDone() throws SurrealException {
+        TaskManagement taskManagement = createTasks(3);
+        taskManagement.linkTasks(1, 3);
+        taskManagement.linkTasks(2, 3);
+        assertFalse(isReady(taskManagement, 3));
+        taskManagement.markAsDone(1);
+        assertFalse(isReady(taskManagement, 3));
+        taskManagement.markAsDone(2);
+        assertTrue(isReady(taskManagement, 3));
+        taskManagement.markAsDone(2);
+        assertFalse(isReady(taskManagement, 3));
+        assertEquals(taskManagement.listOutTasks(1, 3, taskManagement.getDependencies()::isReady),
+                "2. [T][\u2718] Task 2 | Priority: 1\n");
+    }
+
+    /**
+     * Tests that links follow their tasks through edits, sorts and deletions.
+     */
+    @Test
+    public void testLinksFollowTasks() throws SurrealException {
+        TaskManagement taskManagement = createTasks(3);
+        taskManagement.linkTasks(3, 1);
+        taskManagement.replaceTask(3, ToDoTask.createNewToDoTask("Task 0", TaskPriority.LOW));
+        taskManagement.sort("description");
+        assertEquals(taskManagement.getDependencies().getLinkNumbers(taskManagement.getTaskList()).get(0)[0], 1);
+        assertFalse(isReady(taskManagement, 2));
+
+        taskManagement.deleteTask(1);
+        assertTrue(isReady(taskManagement, 1));
+        assertEquals(taskManagement.getDependencies().getNumberOfLinks(), 0);
+    }
+
+    /**
+     * Tests that links follow their tasks when tasks are moved out or the list is cleared.
+     */
+    @Test
+    public void testLinksFollowMovesAndClears() throws SurrealException {
+        TaskManagement taskManagement = createTasks(4);
+        taskManagement.linkTasks(1, 2);
+        taskManagement.linkTasks(3, 4);
+        List<Task> movedTasks = taskManagement.moveTasks(task -> task.getDescription().equals("Task 1"),
+                tasks -> { });
+        assertEquals(movedTasks.size(), 1);
+        assertTrue(isReady(taskManagement, 1));
+        assertEquals(taskManagement.getDependencies().getNumberOfLinks(), 1);
+
+        taskManagement.deleteAllTasks();
+        assertEquals(taskManagement.getDependencies().getNumberOfLinks(), 0);
+    }
+
+    /**
+     * Tests that random links are refused exactly when the blocked task already blocks the blocker.
+     */
+    @Test
+    public void testRandomLinks() throws SurrealException {
+        int numberOfTasks = 60;
+        TaskManagement taskManagement = createTasks(numberOfTasks);
+        boolean[][] blocks = new boolean[numberOfTasks + 1][numberOfTasks + 1];
+        Random random = new Random(2103);
+        for (int i = 0; i < 600; i++) {
+            int blocker = random.nextInt(numberOfTasks) + 1;
+            int blocked = random.nextInt(numberOfTasks) + 1;
+            boolean isCycle = blocker == blocked || reaches(blocks, blocked, blocker, new boolean[numberOfTasks + 1]);
+            if (isCycle || blocks[blocker][blocked]) {
+                assertThrows(SurrealException.class, () -> taskManagement.linkTasks(blocker, blocked));
+            } else {
+                taskManagement.linkTasks(blocker, blocked);
+                blocks[blocker][blocked] = true;
+            }
+        }
+
+        List<Integer> plan = taskManagement.getDependencies().getPlan(taskManagement.getTaskList());
+        assertEquals(plan.size(), numberOfTasks);
+        int[] positions = new int[numberOfTasks + 1];
+        for (int i = 0; i < plan.size(); i++) {
+            positions[plan.get(i)] = i;
+        }
+        for (int[] link : taskManagement.getDependencies().getLinkNumbers(taskManagement.getTaskList())) {
+            assertTrue(positions[link[0]] < positions[link[1]]);
+        }
+    }
+
+    private static boolean reaches(boolean[][] blocks, int from, int to, boolean[] visited) {
+        if (from == to) {
+            return true;
+        }
+        visited[from] = true;
+        for (int next = 1; next < blocks.length; next++) {
+            if (blocks[from][next] && !visited[next] && reaches(blocks, next, to, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
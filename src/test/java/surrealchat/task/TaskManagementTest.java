@@ -0,0 +1,313 @@
+package surrealchat.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import surrealchat.command.EditCommand;
+import surrealchat.exception.SurrealException;
+
+public class TaskManagementTest {
+    private static final int TASKS_ADDED = 10_000;
+    private static final int CHANGES_MADE = 1_000;
+
+    private static ToDoTask createToDo(int number) {
+        return ToDoTask.createNewToDoTask(String.format("Task %d", number), TaskPriority.LOW);
+    }
+
+    /**
+     * Tests that the task list handed out is an unmodifiable snapshot.
+     */
+    @Test
+    public void testTaskListIsSnapshot() {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        taskManagement.addTask(createToDo(1));
+        List<Task> snapshot = taskManagement.getTaskList();
+        taskManagement.addTask(createToDo(2));
+
+        assertEquals(snapshot.size(), 1);
+        assertEquals(taskManagement.getNumberOfTasks(), 2);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(createToDo(3)));
+    }
+
+    /**
+     * Tests that readers running alongside a writer never fail and the writer's changes are all kept.
+     */
+    @Test
+    public void testConcurrentReadsAndWrites() throws Exception {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        taskManagement.addTask(createToDo(0));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 1; i <= TASKS_ADDED; i++) {
+                    taskManagement.addTask(createToDo(i));
+                }
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit(() -> {
+                    while (!writer.isDone()) {
+                        taskManagement.getTask(1);
+                        taskManagement.getSearchResults("task 0");
+                        taskManagement.getNumberOfTasks();
+                    }
+                    return null;
+                }));
+            }
+            writer.get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(taskManagement.getNumberOfTasks(), TASKS_ADDED + 1);
+    }
+
+    /**
+     * Tests that running counts follow every kind of change to the task list.
+     */
+    @Test
+    public void testTaskCountersFollowChanges() throws Exception {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        taskManagement.addTask(createToDo(1));
+        taskManagement.addTask(ToDoTask.createNewToDoTask("Pay rent", TaskPriority.HIGH));
+        taskManagement.addTask(createToDo(3));
+        taskManagement.markAsDone(2);
+        taskManagement.replaceTask(3, ToDoTask.createNewToDoTask("Standup", TaskPriority.MEDIUM));
+        taskManagement.deleteTask(1);
+
+        TaskCounters taskCounters = taskManagement.getTaskCounters();
+        assertEquals(taskCounters.getTotalCount(), 2);
+        assertEquals(taskCounters.getDoneCount(), 1);
+        assertEquals(taskCounters.getUndoneCount(), 1);
+        assertEquals(taskCounters.getPriorityCount(TaskPriority.HIGH), 1);
+        assertEquals(taskCounters.getPriorityCount(TaskPriority.MEDIUM), 1);
+        assertEquals(taskCounters.getPriorityCount(TaskPriority.LOW), 0);
+        assertEquals(taskCounters.getCount(TaskCode.TODO_TYPE, true, TaskPriority.HIGH), 1);
+        assertEquals(taskCounters.getCount(TaskCode.TODO_TYPE, false, TaskPriority.MEDIUM), 1);
+        assertEquals(taskCounters.getCount(TaskCode.TODO_TYPE, false), 1);
+        assertEquals(taskCounters.getCount(TaskCode.DEADLINE_TYPE, false), 0);
+
+        taskManagement.deleteAllTasks();
+        assertEquals(taskCounters.getTotalCount(), 0);
+        assertEquals(taskCounters.getPriorityCount(TaskPriority.HIGH), 0);
+        assertEquals(taskCounters.getCount(TaskCode.TODO_TYPE, true), 0);
+    }
+
+    /**
+     * Tests that repeated descriptions loaded from file share one String, and the report measures the list.
+     */
+    @Test
+    public void testLoadedDescriptionsAreShared() {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        List<String> fileLines = new ArrayList<>();
+        for (int i = 0; i < TASKS_ADDED; i++) {
+            fileLines.add(String.format("T/split/%d/split/1/split/standup", i % 2));
+        }
+        taskManagement.parseFileLines(fileLines);
+
+        assertSame(taskManagement.getTask(1).getDescription(), taskManagement.getTask(TASKS_ADDED).getDescription());
+        DescriptionPool descriptionPool = taskManagement.getDescriptionPool();
+        assertEquals(descriptionPool.getUniqueCount(), 1);
+        assertEquals(descriptionPool.formatReport(taskManagement.getTaskList()),
+                "Descriptions: 10000 in list, 1 unique | before sharing: 468 KB | after sharing: 0 KB\n");
+    }
+
+    /**
+     * Tests that an edited description is shared with equal descriptions already in the list.
+     */
+    @Test
+    public void testEditedDescriptionsAreShared() {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        taskManagement.parseFileLines(List.of("T/split/0/split/1/split/standup", "T/split/0/split/1/split/retro"));
+        new EditCommand("2 /edit standup ; -keep-").execute(taskManagement);
+        assertSame(taskManagement.getTask(2).getDescription(), taskManagement.getTask(1).getDescription());
+    }
+
+    /**
+     * Tests that tasks are only moved out once their destination has taken them.
+     */
+    @Test
+    public void testMoveTasks() {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        for (int i = 1; i <= 4; i++) {
+            taskManagement.addTask(createToDo(i));
+        }
+        taskManagement.markAsDone(2);
+        taskManagement.markAsDone(4);
+
+        assertThrows(IllegalStateException.class, () -> taskManagement.moveTasks(Task::isDone, tasks -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(taskManagement.getNumberOfTasks(), 4);
+
+        List<Task> destination = new ArrayList<>();
+        List<Task> movedTasks = taskManagement.moveTasks(Task::isDone, destination::addAll);
+        assertEquals(movedTasks, destination);
+        assertEquals(destination.size(), 2);
+        assertEquals(taskManagement.getNumberOfTasks(), 2);
+        assertEquals(taskManagement.getTaskCounters().getDoneCount(), 0);
+    }
+
+    /**
+     * Tests that a batch added together can be taken back off the end of the list.
+     */
+    @Test
+    public void testAddTasksThenTruncate() {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        taskManagement.addTask(createToDo(1));
+        long modificationCount = taskManagement.getModificationCount();
+        taskManagement.addTasks(List.of(createToDo(2), createToDo(3).markAsDone()));
+        assertEquals(taskManagement.getModificationCount(), modificationCount + 1);
+        assertEquals(taskManagement.getTask(3).getDescription(), "Task 3");
+        assertEquals(taskManagement.getTaskCounters().getDoneCount(), 1);
+
+        assertEquals(taskManagement.truncateTasks(1), 2);
+        assertEquals(taskManagement.getNumberOfTasks(), 1);
+        assertEquals(taskManagement.getTaskCounters().getTotalCount(), 1);
+        assertEquals(taskManagement.getTaskCounters().getDoneCount(), 0);
+    }
+
+    private static void applyChanges(List<Task> mirror, List<TaskChangeEvent> changes) {
+        for (TaskChangeEvent change : changes) {
+            switch(change.getKind()) {
+            case ADDED:
+                mirror.add(change.getTaskNumber() - 1, change.getNewTask());
+                break;
+            case REPLACED:
+                assertSame(mirror.set(change.getTaskNumber() - 1, change.getNewTask()), change.getOldTask());
+                break;
+            case DELETED:
+                assertSame(mirror.remove(change.getTaskNumber() - 1), change.getOldTask());
+                break;
+            case CLEARED:
+                mirror.clear();
+                break;
+            default: //Sorted, so take the new order
+                mirror.clear();
+                mirror.addAll(change.getSortedTasks());
+            }
+        }
+    }
+
+    /**
+     * Tests that a list kept up to date from change events alone matches the task list.
+     */
+    @Test
+    public void testChangeEventsMirrorList() throws SurrealException {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        List<Task> mirror = new ArrayList<>();
+        taskManagement.addChangeListener(changes -> applyChanges(mirror, changes));
+
+        for (int i = 1; i <= 6; i++) {
+            taskManagement.addTask(createToDo(i));
+        }
+        taskManagement.markAsDone(2);
+        taskManagement.markAsDone(3);
+        taskManagement.replaceTask(1, createToDo(7));
+        taskManagement.deleteTask(4);
+        assertEquals(mirror, taskManagement.getTaskList());
+        taskManagement.moveTasks(Task::isDone, tasks -> { });
+        taskManagement.addTasks(List.of(createToDo(8), createToDo(9)));
+        taskManagement.truncateTasks(4);
+        assertEquals(mirror, taskManagement.getTaskList());
+        taskManagement.sort("priority");
+        assertEquals(mirror, taskManagement.getTaskList());
+        taskManagement.deleteAllTasks();
+        assertEquals(mirror, List.of());
+    }
+
+    private static void makeRandomChange(TaskManagement taskManagement, Random random, int number)
+            throws SurrealException {
+        int numberOfTasks = taskManagement.getNumberOfTasks();
+        int change = random.nextInt(8);
+        if (numberOfTasks == 0 || change == 0) {
+            taskManagement.addTask(createToDo(number));
+        } else if (change == 1) {
+            taskManagement.addTasks(List.of(createToDo(number), createToDo(number + 1), createToDo(number + 2)));
+        } else if (change == 2) {
+            taskManagement.replaceTask(1 + random.nextInt(numberOfTasks), createToDo(number));
+        } else if (change == 3) {
+            taskManagement.markAsDone(1 + random.nextInt(numberOfTasks));
+        } else if (change == 4) {
+            taskManagement.deleteTask(1 + random.nextInt(numberOfTasks));
+        } else if (change == 5) {
+            taskManagement.truncateTasks(random.nextInt(numberOfTasks));
+        } else if (change == 6) {
+            int modulus = 2 + random.nextInt(3);
+            taskManagement.moveTasks(task -> task.getDescription().hashCode() % modulus == 0, tasks -> { });
+        } else {
+            taskManagement.sort(random.nextBoolean() ? "priority" : "description");
+        }
+    }
+
+    /**
+     * Tests that a mirror joining runs of added and deleted tasks matches the task list through random batches.
+     */
+    @Test
+    public void testRandomChangesMirrorList() throws SurrealException {
+        Random random = new Random(45);
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        List<Task> mirror = new ArrayList<>();
+        TaskListMirror taskListMirror = new TaskListMirror(mirror);
+        taskManagement.addChangeListener(changes -> taskListMirror.applyChanges(changes));
+
+        for (int i = 0; i < CHANGES_MADE; i++) {
+            int batchSize = 1 + random.nextInt(5);
+            int firstNumber = i * 10;
+            taskManagement.batchChanges(() -> {
+                for (int j = 0; j < batchSize; j++) {
+                    try {
+                        makeRandomChange(taskManagement, random, firstNumber + j * 3);
+                    } catch (SurrealException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                return null;
+            });
+            assertEquals(mirror, taskManagement.getTaskList());
+            if (random.nextInt(100) == 0) {
+                taskManagement.deleteAllTasks();
+                assertEquals(mirror, List.of());
+            }
+        }
+    }
+
+    /**
+     * Tests that changes made in a batch are delivered together, in order, on an executor.
+     */
+    @Test
+    public void testBatchedChangesOnExecutor() throws Exception {
+        TaskManagement taskManagement = new TaskManagement(new ArrayList<>());
+        List<List<TaskChangeEvent>> batches = new ArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        taskManagement.addChangeListener(batches::add, executor);
+
+        taskManagement.batchChanges(() -> {
+            taskManagement.addTask(createToDo(1));
+            taskManagement.batchChanges(() -> taskManagement.markAsDone(1));
+            return taskManagement.deleteTask(1);
+        });
+        taskManagement.addTask(createToDo(2));
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertEquals(batches.size(), 2);
+        assertEquals(batches.get(0).stream().map(TaskChangeEvent::getKind).collect(Collectors.toList()),
+                List.of(TaskChangeEvent.Kind.ADDED, TaskChangeEvent.Kind.REPLACED, TaskChangeEvent.Kind.DELETED));
+        assertEquals(batches.get(1).get(0).getNewTask().getDescription(), "Task 2");
+    }
+}
@@ -0,0 +1,95 @@
+package surrealchat.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskSchedulerTest {
+    private static final LocalDateTime MONDAY = LocalDateTime.parse("2021-03-01T09:00");
+    private static final TaskScheduler SCHEDULER = new TaskScheduler(LocalTime.of(9, 0), LocalTime.of(18, 0));
+
+    private static DeadlineTask createDeadline(String description, TaskPriority priority, String deadline,
+            int effortMinutes) {
+        return DeadlineTask.createNewDeadlineTask(description, priority, LocalDateTime.parse(deadline))
+                .withEffort(Duration.ofMinutes(effortMinutes));
+    }
+
+    /**
+     * Tests that deadlines are worked on earliest first with higher priority breaking ties, around events.
+     */
+    @Test
+    public void testEarliestDeadlineFirst() {
+        List<Task> taskList = List.of(
+                createDeadline("Report", TaskPriority.LOW, "2021-03-02T12:00", 120),
+                EventTask.createNewEventTask("Standup", TaskPriority.MEDIUM, LocalDateTime.parse("2021-03-01T10:00")),
+                createDeadline("Slides", TaskPriority.HIGH, "2021-03-02T12:00", 60),
+                createDeadline("Quiz", TaskPriority.LOW, "2021-03-01T12:00", 30));
+        List<ScheduledSlot> slots = SCHEDULER.schedule(taskList, MONDAY);
+
+        List<Integer> taskNumbers = new ArrayList<>();
+        slots.forEach(slot -> taskNumbers.add(slot.getTaskNumber()));
+        assertEquals(taskNumbers, List.of(4, 3, 2, 3, 1));
+        assertEquals(slots.get(1).getEnd(), LocalDateTime.parse("2021-03-01T10:00"));
+        assertEquals(slots.get(3).getStart(), LocalDateTime.parse("2021-03-01T11:00"));
+        assertEquals(slots.get(4).getEnd(), LocalDateTime.parse("2021-03-01T13:30"));
+        assertTrue(slots.stream().noneMatch(ScheduledSlot::isLate));
+    }
+
+    /**
+     * Tests that work carries over to the next day and deadlines that cannot be met are marked late.
+     */
+    @Test
+    public void testLateDeadline() {
+        List<Task> taskList = List.of(
+                createDeadline("Thesis", TaskPriority.HIGH, "2021-03-02T10:00", 660),
+                createDeadline("Taxes", TaskPriority.HIGH, "2021-03-05T10:00", 60));
+        List<ScheduledSlot> slots = SCHEDULER.schedule(taskList, MONDAY);
+
+        assertEquals(slots.size(), 3);
+        assertEquals(slots.get(1).getStart(), LocalDateTime.parse("2021-03-02T09:00"));
+        assertTrue(slots.get(1).isLate());
+        assertFalse(slots.get(2).isLate());
+    }
+
+    /**
+     * Tests that the plan of many tasks gives every task its whole effort without overlapping itself.
+     */
+    @Test
+    public void testManyTasks() {
+        Random random = new Random(2103);
+        List<Task> taskList = new ArrayList<>();
+        long totalMinutes = 0;
+        for (int i = 0; i < 5_000; i++) {
+            int effortMinutes = 15 + random.nextInt(120);
+            totalMinutes += effortMinutes;
+            taskList.add(createDeadline("Task " + i, TaskPriority.getPriorityType(1 + random.nextInt(3)),
+                    MONDAY.plusHours(random.nextInt(24 * 365)).toString(), effortMinutes));
+            taskList.add(EventTask.createNewEventTask("Meeting " + i, TaskPriority.LOW,
+                    MONDAY.plusMinutes(random.nextInt(60 * 24 * 365))));
+        }
+        List<ScheduledSlot> slots = SCHEDULER.schedule(taskList, MONDAY);
+
+        long workedMinutes = 0;
+        for (int i = 0; i < slots.size(); i++) {
+            ScheduledSlot slot = slots.get(i);
+            if (slot.getTask() instanceof DeadlineTask) {
+                workedMinutes += Duration.between(slot.getStart(), slot.getEnd()).toMinutes();
+                assertFalse(slot.getStart().toLocalTime().isBefore(LocalTime.of(9, 0)));
+                assertFalse(slot.getEnd().toLocalTime().isAfter(LocalTime.of(18, 0)));
+            }
+            if (i > 0) {
+                assertFalse(slot.getStart().isBefore(slots.get(i - 1).getStart()));
+            }
+        }
+        assertEquals(workedMinutes, totalMinutes);
+    }
+}
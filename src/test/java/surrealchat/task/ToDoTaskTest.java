@@ -1,6 +1,7 @@
 package surrealchat.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +28,17 @@ public class ToDoTaskTest {
                 "T/split/0/split/1/split/Do CS2103T quiz");
     }
 
+    /**
+     * Tests that the display and save strings are built once and then reused.
+     */
+    @Test
+    public void testStringsAreReused() {
+        ToDoTask task = ToDoTask.createNewToDoTask(TEST_DESCRIPTION, TASK_PRIORITY);
+        assertSame(task.toString(), task.toString());
+        assertSame(task.saveTask(), task.saveTask());
+        assertEquals(task.markAsDone().toString(), "[T][\u2713] Do CS2103T quiz | Priority: 1");
+    }
+
     /**
      * Tests whether getType() returns "D" for ToDoTask.
      */
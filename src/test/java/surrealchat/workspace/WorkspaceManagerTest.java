@@ -0,0 +1,116 @@
+package surrealchat.workspace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import surrealchat.exception.SurrealException;
+import surrealchat.task.TaskManagement;
+import surrealchat.task.TaskPriority;
+import surrealchat.task.ToDoTask;
+
+public class WorkspaceManagerTest {
+    @TempDir
+    Path tempDir;
+
+    private File defaultFile() {
+        return tempDir.resolve("tasks.txt").toFile();
+    }
+
+    /**
+     * Tests that workspaces are loaded lazily from their own files.
+     */
+    @Test
+    public void testSwitchLoadsWorkspaceFile() throws IOException, SurrealException {
+        Path workspaceDirectory = Files.createDirectories(tempDir.resolve("workspaces"));
+        Files.writeString(workspaceDirectory.resolve("work.txt"), "T/split/0/split/2/split/Write report\n");
+        WorkspaceManager workspaceManager = new WorkspaceManager(defaultFile(), 2);
+        assertEquals(workspaceManager.getNumberOfResidentWorkspaces(), 1);
+
+        Workspace workspace = workspaceManager.switchTo("work");
+        assertEquals(workspace.getTaskManagement().getNumberOfTasks(), 1);
+        assertEquals(workspaceManager.getCurrentWorkspace().getName(), "work");
+        assertEquals(workspaceManager.getNumberOfResidentWorkspaces(), 2);
+    }
+
+    /**
+     * Tests that the least recently used workspace is saved before being dropped from memory.
+     */
+    @Test
+    public void testEvictionSavesDirtyWorkspace() throws IOException, SurrealException {
+        WorkspaceManager workspaceManager = new WorkspaceManager(defaultFile(), 2);
+        workspaceManager.getCurrentWorkspace().getTaskManagement().addTask(
+                ToDoTask.createNewToDoTask("Pay rent", TaskPriority.HIGH));
+        assertTrue(workspaceManager.getCurrentWorkspace().isDirty());
+
+        workspaceManager.switchTo("a");
+        workspaceManager.switchTo("b");
+        assertEquals(workspaceManager.getNumberOfResidentWorkspaces(), 2);
+        assertEquals(Files.readString(defaultFile().toPath()), "T/split/0/split/3/split/Pay rent\n");
+
+        Workspace reloaded = workspaceManager.switchTo(WorkspaceManager.DEFAULT_WORKSPACE);
+        assertEquals(reloaded.getTaskManagement().getNumberOfTasks(), 1);
+        assertFalse(reloaded.isDirty());
+    }
+
+    /**
+     * Tests that links between tasks are saved beside the task file and loaded with it.
+     */
+    @Test
+    public void testLinksSurviveReload() throws SurrealException {
+        WorkspaceManager workspaceManager = new WorkspaceManager(defaultFile(), 1);
+        TaskManagement taskManagement = workspaceManager.getCurrentWorkspace().getTaskManagement();
+        taskManagement.addTask(ToDoTask.createNewToDoTask("Buy paint", TaskPriority.LOW));
+        taskManagement.addTask(ToDoTask.createNewToDoTask("Paint fence", TaskPriority.LOW));
+        taskManagement.linkTasks(1, 2);
+        workspaceManager.switchTo("a");
+        assertTrue(tempDir.resolve("tasks.links").toFile().isFile());
+
+        TaskManagement reloaded = workspaceManager.switchTo(WorkspaceManager.DEFAULT_WORKSPACE).getTaskManagement();
+        assertEquals(reloaded.getDependencies().getNumberOfLinks(), 1);
+        assertFalse(reloaded.getDependencies().isReady(reloaded.getTask(2)));
+        assertFalse(workspaceManager.getCurrentWorkspace().isDirty());
+    }
+
+    /**
+     * Tests that links are left as they were when the tasks they number cannot be saved.
+     */
+    @Test
+    public void testLinksNotSavedWithoutTasks() throws IOException, SurrealException {
+        Workspace workspace = new Workspace(WorkspaceManager.DEFAULT_WORKSPACE, defaultFile());
+        workspace.load();
+        TaskManagement taskManagement = workspace.getTaskManagement();
+        taskManagement.addTask(ToDoTask.createNewToDoTask("Buy paint", TaskPriority.LOW));
+        taskManagement.addTask(ToDoTask.createNewToDoTask("Paint fence", TaskPriority.LOW));
+        taskManagement.linkTasks(1, 2);
+        workspace.save();
+        String savedLinks = Files.readString(tempDir.resolve("tasks.links"));
+
+        taskManagement.addTask(ToDoTask.createNewToDoTask("Wash brush", TaskPriority.LOW));
+        taskManagement.linkTasks(2, 3);
+        Files.createDirectory(tempDir.resolve("tasks.txt.tmp")); //Blocks writing the new task file
+        workspace.save();
+        assertEquals(Files.readString(tempDir.resolve("tasks.links")), savedLinks);
+        assertEquals(Files.readAllLines(defaultFile().toPath()).size(), 2);
+        assertTrue(workspace.isDirty());
+    }
+
+    /**
+     * Tests that workspace names which could escape the workspace directory are rejected.
+     */
+    @Test
+    public void testInvalidWorkspaceName() {
+        WorkspaceManager workspaceManager = new WorkspaceManager(defaultFile(), 2);
+        assertThrows(SurrealException.class, () -> workspaceManager.switchTo("../secrets"));
+        assertThrows(SurrealException.class, () -> workspaceManager.switchTo(""));
+    }
+}